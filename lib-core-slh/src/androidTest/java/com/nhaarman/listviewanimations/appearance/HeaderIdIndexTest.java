@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+
+import junit.framework.TestCase;
+
+import se.emilsjolander.stickylistheaders.StickyListHeadersAdapter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class HeaderIdIndexTest extends TestCase {
+
+    private static final int COUNT = 50000;
+
+    private static final int HEADER_SIZE = 10;
+
+    private CountingStickyListHeadersAdapter mAdapter;
+
+    private HeaderIdIndex mHeaderIdIndex;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mAdapter = new CountingStickyListHeadersAdapter();
+        mHeaderIdIndex = new HeaderIdIndex(mAdapter, mAdapter);
+        mHeaderIdIndex.register();
+    }
+
+    public void testHeaderIds() {
+        for (int position = 0; position < 100; position++) {
+            assertThat(mHeaderIdIndex.getHeaderId(position), is((long) (position / HEADER_SIZE)));
+            assertThat(mHeaderIdIndex.getHeaderStartPosition(position), is(position / HEADER_SIZE * HEADER_SIZE));
+        }
+    }
+
+    public void testLookupsDoNotQueryAdapterAgain() {
+        mHeaderIdIndex.getHeaderId(0);
+        int headerIdCalls = mAdapter.getHeaderIdCalls();
+
+        for (int position = 0; position < 100; position++) {
+            mHeaderIdIndex.getHeaderId(position);
+            mHeaderIdIndex.getHeaderStartPosition(position);
+        }
+
+        assertThat(mAdapter.getHeaderIdCalls(), is(headerIdCalls));
+    }
+
+    public void testFarPositionIsNotIndexedFromStart() {
+        mHeaderIdIndex.getHeaderId(0);
+
+        assertThat(mHeaderIdIndex.getHeaderId(40005), is(4000L));
+        assertThat(mHeaderIdIndex.getHeaderStartPosition(40005), is(40000));
+        assertThat(mAdapter.getHeaderIdCalls(), is(lessThan(2000)));
+    }
+
+    public void testScrollingBackAfterFarPosition() {
+        mHeaderIdIndex.getHeaderId(40005);
+
+        for (int position = 40005; position >= 39000; position--) {
+            assertThat(mHeaderIdIndex.getHeaderId(position), is((long) (position / HEADER_SIZE)));
+            assertThat(mHeaderIdIndex.getHeaderStartPosition(position), is(position / HEADER_SIZE * HEADER_SIZE));
+        }
+        assertThat(mAdapter.getHeaderIdCalls(), is(lessThan(5000)));
+    }
+
+    public void testLongHeaderStartIsFoundAfterFarPosition() {
+        mAdapter.setHeaderSize(30000);
+
+        assertThat(mHeaderIdIndex.getHeaderStartPosition(40005), is(30000));
+        assertThat(mHeaderIdIndex.getHeaderStartPosition(29999), is(0));
+    }
+
+    public void testIndexIsDiscardedOnDataChange() {
+        mHeaderIdIndex.getHeaderId(0);
+
+        mAdapter.setHeaderSize(5);
+        mAdapter.notifyDataSetChanged();
+
+        assertThat(mHeaderIdIndex.getHeaderId(7), is(1L));
+        assertThat(mHeaderIdIndex.getHeaderStartPosition(7), is(5));
+    }
+
+    public void testUnregisteredIndexIsDiscarded() {
+        mHeaderIdIndex.getHeaderId(0);
+
+        mHeaderIdIndex.unregister();
+        mAdapter.setHeaderSize(5);
+        mHeaderIdIndex.register();
+
+        assertThat(mHeaderIdIndex.isRegistered(), is(true));
+        assertThat(mHeaderIdIndex.getHeaderId(7), is(1L));
+    }
+
+    public void testUnregisteredIndexThrows() {
+        mHeaderIdIndex.unregister();
+
+        try {
+            mHeaderIdIndex.getHeaderId(0);
+            fail("Expected an IllegalStateException");
+        } catch (IllegalStateException ignored) {
+            /* Expected */
+        }
+    }
+
+    /**
+     * An adapter of {@value #COUNT} items, which counts the calls to {@link #getHeaderId(int)}.
+     */
+    private static class CountingStickyListHeadersAdapter extends BaseAdapter implements StickyListHeadersAdapter {
+
+        private int mHeaderSize = HEADER_SIZE;
+
+        private int mHeaderIdCalls;
+
+        void setHeaderSize(final int headerSize) {
+            mHeaderSize = headerSize;
+        }
+
+        int getHeaderIdCalls() {
+            return mHeaderIdCalls;
+        }
+
+        @Override
+        public int getCount() {
+            return COUNT;
+        }
+
+        @Override
+        public Object getItem(final int position) {
+            return position;
+        }
+
+        @Override
+        public long getItemId(final int position) {
+            return position;
+        }
+
+        @Override
+        public View getView(final int position, final View convertView, final ViewGroup parent) {
+            return null;
+        }
+
+        @Override
+        public View getHeaderView(final int position, final View convertView, final ViewGroup parent) {
+            return null;
+        }
+
+        @Override
+        public long getHeaderId(final int position) {
+            mHeaderIdCalls++;
+            return position / mHeaderSize;
+        }
+    }
+}
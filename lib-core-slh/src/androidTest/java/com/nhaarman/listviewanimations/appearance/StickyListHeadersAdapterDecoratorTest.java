@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.database.DataSetObserver;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+
+import com.nhaarman.listviewanimations.util.ListViewWrapper;
+
+import org.mockito.Mock;
+
+import se.emilsjolander.stickylistheaders.StickyListHeadersAdapter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+@SuppressWarnings("AnonymousInnerClass")
+public class StickyListHeadersAdapterDecoratorTest extends InstrumentationTestCase {
+
+    private StickyListHeadersAdapterDecorator mDecorator;
+
+    private StickyListHeadersBaseAdapter mStickyListHeadersAdapter;
+
+    @Mock
+    private ListViewWrapper mListViewWrapper;
+
+    @Mock
+    private ViewGroup mListView;
+
+    @Mock
+    private ViewGroup mParent;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        initMocks(this);
+        when(mListViewWrapper.getListView()).thenReturn(mListView);
+
+        mStickyListHeadersAdapter = spy(new StickyListHeadersBaseAdapter());
+        mDecorator = new StickyListHeadersAdapterDecorator(mStickyListHeadersAdapter);
+        mDecorator.setListViewWrapper(mListViewWrapper);
+    }
+
+    public void testHeaderIsAnimatedOnce() {
+        getHeaderView(0);
+
+        assertThat(mDecorator.isHeaderIdAnimated(0), is(true));
+        assertThat(mDecorator.isHeaderIdAnimated(1), is(false));
+    }
+
+    public void testAnimatedHeaderIdsAreClearedOnReset() {
+        getHeaderView(0);
+
+        assertThat(mDecorator.getViewAnimator(), is(notNullValue()));
+        mDecorator.getViewAnimator().reset();
+
+        assertThat(mDecorator.isHeaderIdAnimated(0), is(false));
+    }
+
+    public void testAnimatedHeaderIdsAreClearedOnDataChange() {
+        mDecorator.registerDataSetObserver(mock(DataSetObserver.class));
+        getHeaderView(0);
+
+        mStickyListHeadersAdapter.notifyDataSetChanged();
+
+        assertThat(mDecorator.isHeaderIdAnimated(0), is(false));
+    }
+
+    public void testDataChangeObserverFollowsObserverLifecycle() {
+        DataSetObserver observer = mock(DataSetObserver.class);
+
+        mDecorator.registerDataSetObserver(observer);
+        verify(mStickyListHeadersAdapter, times(2)).registerDataSetObserver(any(DataSetObserver.class));
+
+        mDecorator.unregisterDataSetObserver(observer);
+        verify(mStickyListHeadersAdapter, times(2)).unregisterDataSetObserver(any(DataSetObserver.class));
+    }
+
+    public void testHeaderIdIndexFollowsObserverLifecycle() {
+        mDecorator.setHeaderIdIndexEnabled(true);
+        verify(mStickyListHeadersAdapter, never()).registerDataSetObserver(any(DataSetObserver.class));
+
+        DataSetObserver observer = mock(DataSetObserver.class);
+        mDecorator.registerDataSetObserver(observer);
+        verify(mStickyListHeadersAdapter, times(3)).registerDataSetObserver(any(DataSetObserver.class));
+
+        mDecorator.unregisterDataSetObserver(observer);
+        verify(mStickyListHeadersAdapter, times(3)).unregisterDataSetObserver(any(DataSetObserver.class));
+    }
+
+    public void testHeaderIdIndexIsUsedWhileObserved() {
+        mDecorator.setHeaderIdIndexEnabled(true);
+        mDecorator.registerDataSetObserver(mock(DataSetObserver.class));
+
+        assertThat(mDecorator.getHeaderId(7), is(1L));
+        assertThat(mDecorator.getHeaderStartPosition(7), is(5));
+        reset(mStickyListHeadersAdapter);
+
+        assertThat(mDecorator.getHeaderId(8), is(1L));
+        assertThat(mDecorator.getHeaderStartPosition(8), is(5));
+        verify(mStickyListHeadersAdapter, never()).getHeaderId(anyInt());
+    }
+
+    /**
+     * Calls {@link StickyListHeadersAdapterDecorator#getHeaderView(int, android.view.View, android.view.ViewGroup)} on the main thread.
+     */
+    private void getHeaderView(final int position) {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDecorator.getHeaderView(position, null, mParent);
+                    }
+                }
+        );
+    }
+
+    /**
+     * An adapter of 10 items, in which every 5 consecutive items share a header.
+     */
+    private static class StickyListHeadersBaseAdapter extends BaseAdapter implements StickyListHeadersAdapter {
+
+        @Override
+        public int getCount() {
+            return 10;
+        }
+
+        @Override
+        public Object getItem(final int position) {
+            return position;
+        }
+
+        @Override
+        public long getItemId(final int position) {
+            return position;
+        }
+
+        @Override
+        public View getView(final int position, final View convertView, final ViewGroup parent) {
+            return mock(View.class);
+        }
+
+        @Override
+        public View getHeaderView(final int position, final View convertView, final ViewGroup parent) {
+            return mock(View.class);
+        }
+
+        @Override
+        public long getHeaderId(final int position) {
+            return position / 5;
+        }
+    }
+}
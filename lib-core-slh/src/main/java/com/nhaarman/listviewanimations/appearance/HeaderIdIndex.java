@@ -0,0 +1,256 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.database.DataSetObserver;
+import android.support.annotation.NonNull;
+import android.widget.BaseAdapter;
+
+import se.emilsjolander.stickylistheaders.StickyListHeadersAdapter;
+
+/**
+ * A run-length encoded index of the header ids of a {@link se.emilsjolander.stickylistheaders.StickyListHeadersAdapter}.
+ * Consecutive positions sharing a header id are stored as a single run, so lookups are a binary search over the runs.
+ * <p/>
+ * The index is built incrementally: it covers a single range of positions around the ones queried, extended in chunks. A query far away from that range,
+ * for instance after a fast scroll, does not index all positions in between: the index is rebuilt from the header boundary near the queried position.
+ * It is discarded when the adapter notifies a data change, and rebuilt on the following queries.
+ * <p/>
+ * The index only holds values while it is registered for data changes of the adapter, see {@link #register()}.
+ * This class should only be used on the main thread.
+ */
+class HeaderIdIndex extends DataSetObserver {
+
+    /**
+     * The minimum number of positions the index is extended with at once.
+     */
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    /**
+     * The maximum distance from the end of the indexed range for which a query extends the index. Queries further away rebuild the index around them.
+     */
+    private static final int MAX_EXTEND_DISTANCE = 4 * MIN_CHUNK_SIZE;
+
+    private static final int INITIAL_RUN_CAPACITY = 16;
+
+    @NonNull
+    private final StickyListHeadersAdapter mStickyListHeadersAdapter;
+
+    /**
+     * The adapter providing the item count and data change notifications.
+     */
+    @NonNull
+    private final BaseAdapter mBaseAdapter;
+
+    /**
+     * The first position of each run.
+     */
+    @NonNull
+    private int[] mRunStarts = new int[INITIAL_RUN_CAPACITY];
+
+    /**
+     * The header id of each run.
+     */
+    @NonNull
+    private long[] mRunHeaderIds = new long[INITIAL_RUN_CAPACITY];
+
+    /**
+     * The number of runs in {@link #mRunStarts} and {@link #mRunHeaderIds}.
+     */
+    private int mRunCount;
+
+    /**
+     * The first indexed position. This is always the first position of a header.
+     */
+    private int mIndexedStart;
+
+    /**
+     * The position after the last indexed position.
+     */
+    private int mIndexedEnd;
+
+    /**
+     * The item count of the adapter, or -1 if it has not been retrieved since the last data change.
+     */
+    private int mCount = -1;
+
+    /**
+     * Whether this index is registered for data changes of the adapter.
+     */
+    private boolean mIsRegistered;
+
+    /**
+     * Creates a new {@code HeaderIdIndex}. Call {@link #register()} to start indexing.
+     *
+     * @param stickyListHeadersAdapter the adapter providing the header ids.
+     * @param baseAdapter              the adapter providing the item count and data change notifications.
+     */
+    HeaderIdIndex(@NonNull final StickyListHeadersAdapter stickyListHeadersAdapter, @NonNull final BaseAdapter baseAdapter) {
+        mStickyListHeadersAdapter = stickyListHeadersAdapter;
+        mBaseAdapter = baseAdapter;
+    }
+
+    /**
+     * Registers this index for data changes of the adapter, so it can be queried. Does nothing if it is already registered.
+     */
+    void register() {
+        if (!mIsRegistered) {
+            mBaseAdapter.registerDataSetObserver(this);
+            mIsRegistered = true;
+            clear();
+        }
+    }
+
+    /**
+     * Unregisters this index from the adapter, and discards it. Does nothing if it is not registered.
+     */
+    void unregister() {
+        if (mIsRegistered) {
+            mBaseAdapter.unregisterDataSetObserver(this);
+            mIsRegistered = false;
+            clear();
+        }
+    }
+
+    /**
+     * Returns whether this index is registered for data changes of the adapter. Only then it may be queried.
+     */
+    boolean isRegistered() {
+        return mIsRegistered;
+    }
+
+    @Override
+    public void onChanged() {
+        clear();
+    }
+
+    @Override
+    public void onInvalidated() {
+        clear();
+    }
+
+    private void clear() {
+        mRunCount = 0;
+        mIndexedStart = 0;
+        mIndexedEnd = 0;
+        mCount = -1;
+    }
+
+    /**
+     * Returns the item count of the adapter.
+     */
+    int getCount() {
+        if (mCount == -1) {
+            mCount = mBaseAdapter.getCount();
+        }
+        return mCount;
+    }
+
+    /**
+     * Returns the header id for given position.
+     */
+    long getHeaderId(final int position) {
+        return mRunHeaderIds[findRun(position)];
+    }
+
+    /**
+     * Returns the first position that has the same header as given position.
+     */
+    int getHeaderStartPosition(final int position) {
+        return mRunStarts[findRun(position)];
+    }
+
+    /**
+     * Returns the index of the run containing given position, extending or rebuilding the index if necessary.
+     */
+    private int findRun(final int position) {
+        if (!mIsRegistered) {
+            throw new IllegalStateException("HeaderIdIndex is not registered");
+        }
+        if (position < 0 || position >= getCount()) {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of bounds, count is " + mCount);
+        }
+
+        if (position < mIndexedStart || position >= mIndexedEnd + MAX_EXTEND_DISTANCE) {
+            rebuildAround(position);
+        } else if (position >= mIndexedEnd) {
+            int indexedCount = mIndexedEnd - mIndexedStart;
+            extendTo(Math.min(mCount, Math.max(position + 1, mIndexedEnd + Math.max(MIN_CHUNK_SIZE, indexedCount))));
+        }
+
+        /* Find the last run starting at or before position. */
+        int low = 0;
+        int high = mRunCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (mRunStarts[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Discards the index, and indexes a chunk around given position instead. The new index starts at the first position of a header, at least
+     * {@link #MIN_CHUNK_SIZE} positions before given position, so scrolling back does not rebuild it again right away.
+     */
+    private void rebuildAround(final int position) {
+        int startPosition = Math.max(0, position - MIN_CHUNK_SIZE);
+        if (startPosition > 0) {
+            long headerId = mStickyListHeadersAdapter.getHeaderId(startPosition);
+            while (startPosition > 0 && mStickyListHeadersAdapter.getHeaderId(startPosition - 1) == headerId) {
+                startPosition--;
+            }
+        }
+
+        mRunCount = 0;
+        mIndexedStart = startPosition;
+        mIndexedEnd = startPosition;
+        extendTo(Math.min(mCount, Math.max(position + 1, startPosition + 2 * MIN_CHUNK_SIZE)));
+    }
+
+    /**
+     * Indexes the positions up to, but not including, given position.
+     */
+    private void extendTo(final int endPosition) {
+        for (int position = mIndexedEnd; position < endPosition; position++) {
+            long headerId = mStickyListHeadersAdapter.getHeaderId(position);
+            if (mRunCount == 0 || mRunHeaderIds[mRunCount - 1] != headerId) {
+                appendRun(position, headerId);
+            }
+        }
+        mIndexedEnd = endPosition;
+    }
+
+    private void appendRun(final int startPosition, final long headerId) {
+        if (mRunCount == mRunStarts.length) {
+            int[] runStarts = new int[mRunCount * 2];
+            System.arraycopy(mRunStarts, 0, runStarts, 0, mRunCount);
+            mRunStarts = runStarts;
+
+            long[] runHeaderIds = new long[mRunCount * 2];
+            System.arraycopy(mRunHeaderIds, 0, runHeaderIds, 0, mRunCount);
+            mRunHeaderIds = runHeaderIds;
+        }
+
+        mRunStarts[mRunCount] = startPosition;
+        mRunHeaderIds[mRunCount] = headerId;
+        mRunCount++;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.nhaarman.listviewanimations.appearance;
 
+import android.database.DataSetObserver;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.view.View;
@@ -23,8 +24,11 @@ import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
 import com.nhaarman.listviewanimations.BaseAdapterDecorator;
+import com.nhaarman.listviewanimations.StateSnapshot;
+import com.nhaarman.listviewanimations.StateSnapshotParticipant;
 import com.nhaarman.listviewanimations.util.AnimatorUtil;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
+import com.nhaarman.listviewanimations.util.LongHashSet;
 import com.nhaarman.listviewanimations.util.StickyListHeadersListViewWrapper;
 import com.nineoldandroids.animation.Animator;
 import com.nineoldandroids.animation.ObjectAnimator;
@@ -36,13 +40,24 @@ import se.emilsjolander.stickylistheaders.StickyListHeadersListView;
  * A {@link com.nhaarman.listviewanimations.BaseAdapterDecorator} which can be used to animate header views provided by a
  * {@link se.emilsjolander.stickylistheaders.StickyListHeadersAdapter}.
  */
-public class StickyListHeadersAdapterDecorator extends BaseAdapterDecorator implements StickyListHeadersAdapter {
+public class StickyListHeadersAdapterDecorator extends BaseAdapterDecorator implements StickyListHeadersAdapter, StateSnapshotParticipant {
 
     /**
      * Alpha property.
      */
     private static final String ALPHA = "alpha";
 
+    /**
+     * An empty array of Animators, used when there are no additional animators.
+     */
+    private static final Animator[] NO_ANIMATORS = new Animator[0];
+
+    /**
+     * State snapshot keys for the animated header ids and the animation progress of a {@code ViewAnimator} that is not shared.
+     */
+    private static final int SNAPSHOT_KEY_ANIMATED_HEADER_IDS = 0;
+    private static final int SNAPSHOT_KEY_ANIMATION_PROGRESS = 1;
+
     /**
      * The decorated {@link se.emilsjolander.stickylistheaders.StickyListHeadersAdapter}.
      */
@@ -51,10 +66,44 @@ public class StickyListHeadersAdapterDecorator extends BaseAdapterDecorator impl
 
     /**
      * The {@link com.nhaarman.listviewanimations.appearance.ViewAnimator} responsible for animating the Views.
+     * This is the {@code ViewAnimator} of the decorated {@link com.nhaarman.listviewanimations.appearance.AnimationAdapter} if there is one.
      */
     @Nullable
     private ViewAnimator mViewAnimator;
 
+    /**
+     * Whether {@link #mViewAnimator} is shared with the decorated {@link com.nhaarman.listviewanimations.appearance.AnimationAdapter}, which animates the items.
+     */
+    private boolean mSharesViewAnimator;
+
+    /**
+     * The ids of the headers that have been animated. A header is shared by many positions, and should only animate the first time it appears.
+     */
+    @NonNull
+    private final LongHashSet mAnimatedHeaderIds = new LongHashSet();
+
+    /**
+     * The {@link ViewAnimator#getResetCount()} of {@link #mViewAnimator} when {@link #mAnimatedHeaderIds} was last cleared.
+     */
+    private int mViewAnimatorResetCount;
+
+    /**
+     * Clears {@link #mAnimatedHeaderIds} when the data set changes. Registered on the root adapter while a ListView observes this adapter.
+     */
+    @NonNull
+    private final DataSetObserver mDataChangeObserver = new DataChangeObserver();
+
+    /**
+     * Whether {@link #mDataChangeObserver} is registered on the root adapter.
+     */
+    private boolean mIsObservingDataChanges;
+
+    /**
+     * The index of header ids, or {@code null} if it is disabled.
+     */
+    @Nullable
+    private HeaderIdIndex mHeaderIdIndex;
+
     /**
      * Create a new {@code StickyListHeadersAdapterDecorator}, decorating given {@link android.widget.BaseAdapter}.
      *
@@ -64,11 +113,7 @@ public class StickyListHeadersAdapterDecorator extends BaseAdapterDecorator impl
     public StickyListHeadersAdapterDecorator(@NonNull final BaseAdapter baseAdapter) {
         super(baseAdapter);
 
-        BaseAdapter adapter = baseAdapter;
-        while (adapter instanceof BaseAdapterDecorator) {
-            adapter = ((BaseAdapterDecorator) adapter).getDecoratedBaseAdapter();
-        }
-
+        BaseAdapter adapter = getRootAdapter();
         if (!(adapter instanceof StickyListHeadersAdapter)) {
             throw new IllegalArgumentException(adapter.getClass().getCanonicalName() + " does not implement StickyListHeadersAdapter");
         }
@@ -86,16 +131,70 @@ public class StickyListHeadersAdapterDecorator extends BaseAdapterDecorator impl
 
     /**
      * Returns the {@link com.nhaarman.listviewanimations.appearance.ViewAnimator} responsible for animating the header Views in this adapter.
+     * When this adapter decorates an {@link com.nhaarman.listviewanimations.appearance.AnimationAdapter}, headers and items share its {@code ViewAnimator},
+     * so they are staggered on one timeline.
      */
     @Nullable
     public ViewAnimator getViewAnimator() {
         return mViewAnimator;
     }
 
+    /**
+     * Enables or disables the header id index. Disabled by default.
+     * When enabled, header ids are run-length encoded into an index, and {@link #getHeaderId(int)} is a binary search over the headers instead of a call
+     * to the root adapter. The index is built as positions are queried, and is discarded when the data set changes.
+     * It is only used while a ListView observes this adapter.
+     * Enable this for large lists in which many consecutive items share a header.
+     */
+    public void setHeaderIdIndexEnabled(final boolean enabled) {
+        if (enabled && mHeaderIdIndex == null) {
+            mHeaderIdIndex = new HeaderIdIndex(mStickyListHeadersAdapter, getRootAdapter());
+            if (getDataSetObserverCount() > 0) {
+                mHeaderIdIndex.register();
+            }
+        } else if (!enabled && mHeaderIdIndex != null) {
+            mHeaderIdIndex.unregister();
+            mHeaderIdIndex = null;
+        }
+    }
+
     @Override
     public void setListViewWrapper(@NonNull final ListViewWrapper listViewWrapper) {
         super.setListViewWrapper(listViewWrapper);
-        mViewAnimator = new ViewAnimator(listViewWrapper);
+
+        ViewAnimator itemViewAnimator = null;
+        if (getDecoratedBaseAdapter() instanceof AnimationAdapter) {
+            itemViewAnimator = ((AnimationAdapter) getDecoratedBaseAdapter()).getViewAnimator();
+        }
+
+        mSharesViewAnimator = itemViewAnimator != null;
+        mViewAnimator = mSharesViewAnimator ? itemViewAnimator : new ViewAnimator(listViewWrapper);
+        mAnimatedHeaderIds.clear();
+        mViewAnimatorResetCount = mViewAnimator.getResetCount();
+    }
+
+    @Override
+    public void registerDataSetObserver(@NonNull final DataSetObserver observer) {
+        super.registerDataSetObserver(observer);
+        if (getDataSetObserverCount() > 0 && !mIsObservingDataChanges) {
+            getRootAdapter().registerDataSetObserver(mDataChangeObserver);
+            mIsObservingDataChanges = true;
+        }
+        if (getDataSetObserverCount() > 0 && mHeaderIdIndex != null) {
+            mHeaderIdIndex.register();
+        }
+    }
+
+    @Override
+    public void unregisterDataSetObserver(@NonNull final DataSetObserver observer) {
+        super.unregisterDataSetObserver(observer);
+        if (getDataSetObserverCount() == 0 && mIsObservingDataChanges) {
+            getRootAdapter().unregisterDataSetObserver(mDataChangeObserver);
+            mIsObservingDataChanges = false;
+        }
+        if (getDataSetObserverCount() == 0 && mHeaderIdIndex != null) {
+            mHeaderIdIndex.unregister();
+        }
     }
 
     @Override
@@ -111,32 +210,121 @@ public class StickyListHeadersAdapterDecorator extends BaseAdapterDecorator impl
 
         View itemView = mStickyListHeadersAdapter.getHeaderView(position, convertView, parent);
 
-        animateViewIfNecessary(position, itemView, parent);
+        long headerId = getHeaderId(position);
+        if (!isHeaderIdAnimated(headerId)) {
+            animateViewIfNecessary(position, headerId, itemView, parent);
+        }
         return itemView;
     }
 
+    /**
+     * Returns whether the header with given id has been animated since the last reset of the {@link ViewAnimator} or data change.
+     */
+    boolean isHeaderIdAnimated(final long headerId) {
+        if (mViewAnimator != null && mViewAnimator.getResetCount() != mViewAnimatorResetCount) {
+            mAnimatedHeaderIds.clear();
+            mViewAnimatorResetCount = mViewAnimator.getResetCount();
+        }
+        return mAnimatedHeaderIds.contains(headerId);
+    }
+
     /**
      * Animates given View if necessary.
      *
      * @param position the position of the item the View represents.
+     * @param headerId the id of the header the View represents.
      * @param view     the View that should be animated.
      * @param parent   the parent the View is hosted in.
      */
-    private void animateViewIfNecessary(final int position, @NonNull final View view, @NonNull final ViewGroup parent) {
+    private void animateViewIfNecessary(final int position, final long headerId, @NonNull final View view, @NonNull final ViewGroup parent) {
+        assert mViewAnimator != null;
+        boolean shouldAnimate = mSharesViewAnimator ? mViewAnimator.shouldAnimateAttached(position) : mViewAnimator.shouldAnimate(position);
+        if (!shouldAnimate) {
+            return;
+        }
+        mAnimatedHeaderIds.add(headerId);
+
         Animator[] childAnimators;
         if (getDecoratedBaseAdapter() instanceof AnimationAdapter) {
             childAnimators = ((AnimationAdapter) getDecoratedBaseAdapter()).getAnimators(parent, view);
         } else {
-            childAnimators = new Animator[0];
+            childAnimators = NO_ANIMATORS;
         }
-        Animator alphaAnimator = ObjectAnimator.ofFloat(view, ALPHA, 0, 1);
 
-        assert mViewAnimator != null;
-        mViewAnimator.animateViewIfNecessary(position, view, AnimatorUtil.concatAnimators(childAnimators, new Animator[0], alphaAnimator));
+        Animator[] animators = AnimatorUtil.concatAnimators(childAnimators, NO_ANIMATORS, ObjectAnimator.ofFloat(view, ALPHA, 0, 1));
+        if (mSharesViewAnimator) {
+            mViewAnimator.animateAttachedView(position, view, animators);
+        } else {
+            mViewAnimator.animateViewIfNecessary(position, view, animators);
+        }
     }
 
     @Override
     public long getHeaderId(final int position) {
+        if (mHeaderIdIndex != null && mHeaderIdIndex.isRegistered() && position >= 0 && position < mHeaderIdIndex.getCount()) {
+            return mHeaderIdIndex.getHeaderId(position);
+        }
         return mStickyListHeadersAdapter.getHeaderId(position);
     }
+
+    /**
+     * Returns the first position that has the same header as given position.
+     */
+    public int getHeaderStartPosition(final int position) {
+        if (mHeaderIdIndex != null && mHeaderIdIndex.isRegistered() && position >= 0 && position < mHeaderIdIndex.getCount()) {
+            return mHeaderIdIndex.getHeaderStartPosition(position);
+        }
+
+        long headerId = mStickyListHeadersAdapter.getHeaderId(position);
+        int startPosition = position;
+        while (startPosition > 0 && mStickyListHeadersAdapter.getHeaderId(startPosition - 1) == headerId) {
+            startPosition--;
+        }
+        return startPosition;
+    }
+
+    @Override
+    public void onSaveStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        section.putLongs(SNAPSHOT_KEY_ANIMATED_HEADER_IDS, mAnimatedHeaderIds.toArray());
+        if (mViewAnimator != null && !mSharesViewAnimator) {
+            section.putInts(SNAPSHOT_KEY_ANIMATION_PROGRESS, mViewAnimator.getAnimationProgress());
+        }
+    }
+
+    /**
+     * Restores the ids of the headers that have been animated, so they do not animate again.
+     * A shared {@link com.nhaarman.listviewanimations.appearance.ViewAnimator} is restored by the decorated
+     * {@link com.nhaarman.listviewanimations.appearance.AnimationAdapter}.
+     */
+    @Override
+    public void onRestoreStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        long[] animatedHeaderIds = section.getLongs(SNAPSHOT_KEY_ANIMATED_HEADER_IDS);
+        if (animatedHeaderIds != null) {
+            mAnimatedHeaderIds.clear();
+            for (long headerId : animatedHeaderIds) {
+                mAnimatedHeaderIds.add(headerId);
+            }
+        }
+
+        int[] progress = section.getInts(SNAPSHOT_KEY_ANIMATION_PROGRESS);
+        if (progress != null && mViewAnimator != null && !mSharesViewAnimator) {
+            mViewAnimator.setAnimationProgress(progress);
+        }
+    }
+
+    /**
+     * A {@link android.database.DataSetObserver} which clears the animated header ids, since header ids may refer to other headers after a data change.
+     */
+    private class DataChangeObserver extends DataSetObserver {
+
+        @Override
+        public void onChanged() {
+            mAnimatedHeaderIds.clear();
+        }
+
+        @Override
+        public void onInvalidated() {
+            mAnimatedHeaderIds.clear();
+        }
+    }
 }
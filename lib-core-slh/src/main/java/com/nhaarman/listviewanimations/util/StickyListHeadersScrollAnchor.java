@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.util;
+
+import android.support.annotation.NonNull;
+import android.util.Log;
+import android.view.ViewGroup;
+
+import se.emilsjolander.stickylistheaders.StickyListHeadersListView;
+
+/**
+ * A {@link ScrollAnchor} for a {@link se.emilsjolander.stickylistheaders.StickyListHeadersListView}, wrapped in a {@link StickyListHeadersListViewWrapper}.
+ * Set it on an {@code AnimateAdditionAdapter} to keep the visible items in place when items are inserted above them.
+ */
+public class StickyListHeadersScrollAnchor implements ScrollAnchor {
+
+    @Override
+    public void anchor(@NonNull final ListViewWrapper listViewWrapper, final int position, final int top) {
+        ViewGroup listView = listViewWrapper.getListView();
+        if (listView instanceof StickyListHeadersListView) {
+            /* The positions and offsets of the wrapper refer to the wrapped list, which does not account for the sticky header. */
+            ((StickyListHeadersListView) listView).getWrappedList().setSelectionFromTop(position, top);
+        } else {
+            Log.w("ListViewAnimations", "Warning: StickyListHeadersScrollAnchor cannot restore the scroll position of " + listView.getClass().getName() + '!');
+        }
+    }
+}
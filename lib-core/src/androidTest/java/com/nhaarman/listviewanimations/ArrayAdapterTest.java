@@ -1,5 +1,6 @@
 package com.nhaarman.listviewanimations;
 
+import android.database.DataSetObserver;
 import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
@@ -12,6 +13,9 @@ import java.util.List;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SuppressWarnings("ConstantNamingConvention")
 public class ArrayAdapterTest extends TestCase {
@@ -120,6 +124,82 @@ public class ArrayAdapterTest extends TestCase {
         assertThat(mArrayAdapter.getItem(2), is(C));
     }
 
+    public void testSwapItemsNotifiesAfterSwap() {
+        DataSetObserver observer = new DataSetObserver() {
+            @Override
+            public void onChanged() {
+                assertThat(mArrayAdapter.getItem(0), is(B));
+                assertThat(mArrayAdapter.getItem(1), is(A));
+            }
+        };
+        mArrayAdapter.registerDataSetObserver(observer);
+
+        mArrayAdapter.swapItems(0, 1);
+    }
+
+    public void testMoveItemDown() {
+        mArrayAdapter.add(D);
+
+        mArrayAdapter.moveItem(0, 2);
+
+        assertThat(mArrayAdapter.getItem(0), is(B));
+        assertThat(mArrayAdapter.getItem(1), is(C));
+        assertThat(mArrayAdapter.getItem(2), is(A));
+        assertThat(mArrayAdapter.getItem(3), is(D));
+    }
+
+    public void testMoveItemUp() {
+        mArrayAdapter.add(D);
+
+        mArrayAdapter.moveItem(3, 1);
+
+        assertThat(mArrayAdapter.getItem(0), is(A));
+        assertThat(mArrayAdapter.getItem(1), is(D));
+        assertThat(mArrayAdapter.getItem(2), is(B));
+        assertThat(mArrayAdapter.getItem(3), is(C));
+    }
+
+    public void testMoveItemNotifiesOnce() {
+        DataSetObserver observer = mock(DataSetObserver.class);
+        mArrayAdapter.registerDataSetObserver(observer);
+
+        mArrayAdapter.moveItem(0, 2);
+
+        verify(observer, times(1)).onChanged();
+    }
+
+    public void testMoveItemsDown() {
+        mArrayAdapter.add(D);
+
+        mArrayAdapter.moveItems(0, 2, 2);
+
+        assertThat(mArrayAdapter.getItem(0), is(C));
+        assertThat(mArrayAdapter.getItem(1), is(D));
+        assertThat(mArrayAdapter.getItem(2), is(A));
+        assertThat(mArrayAdapter.getItem(3), is(B));
+    }
+
+    public void testMoveItemsUp() {
+        mArrayAdapter.add(D);
+
+        mArrayAdapter.moveItems(2, 2, 1);
+
+        assertThat(mArrayAdapter.getItem(0), is(A));
+        assertThat(mArrayAdapter.getItem(1), is(C));
+        assertThat(mArrayAdapter.getItem(2), is(D));
+        assertThat(mArrayAdapter.getItem(3), is(B));
+    }
+
+    public void testMoveItemsNotifiesOnce() {
+        mArrayAdapter.add(D);
+        DataSetObserver observer = mock(DataSetObserver.class);
+        mArrayAdapter.registerDataSetObserver(observer);
+
+        mArrayAdapter.moveItems(0, 2, 2);
+
+        verify(observer, times(1)).onChanged();
+    }
+
     private static class TestArrayAdapter extends ArrayAdapter<String> {
 
         private TestArrayAdapter() {
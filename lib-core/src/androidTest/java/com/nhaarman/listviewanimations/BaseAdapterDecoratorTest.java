@@ -5,6 +5,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 import android.widget.ListView;
+import android.widget.SectionIndexer;
 
 import com.nhaarman.listviewanimations.util.AbsListViewWrapper;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
@@ -174,6 +175,132 @@ public class BaseAdapterDecoratorTest extends TestCase {
         verify(mBaseAdapter).unregisterDataSetObserver(mock);
     }
 
+    public void testOverridingDecoratorIsNotSkipped() {
+        when(mBaseAdapter.getCount()).thenReturn(5);
+        when(mBaseAdapter.getItemId(0)).thenReturn(3L);
+        BaseAdapterDecorator overridingDecorator = new BaseAdapterDecorator(mBaseAdapterDecorator) {
+            @Override
+            public int getCount() {
+                return 7;
+            }
+        };
+        BaseAdapterDecorator outerDecorator = new BaseAdapterDecorator(overridingDecorator) {
+        };
+
+        assertThat(outerDecorator.getCount(), is(7));
+        assertThat(outerDecorator.getItemId(0), is(3L));
+    }
+
+    public void testGetSectionsWithoutSectionIndexer() {
+        assertThat(mBaseAdapterDecorator.getSections().length, is(0));
+        assertThat(mBaseAdapterDecorator.getSectionForPosition(0), is(0));
+        assertThat(mBaseAdapterDecorator.getPositionForSection(0), is(0));
+    }
+
+    public void testSectionIndexIsCached() {
+        SectionIndexerBaseAdapterImpl sectionIndexer = spy(new SectionIndexerBaseAdapterImpl());
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(new BaseAdapterDecorator(sectionIndexer) {
+        }) {
+        };
+        decorator.registerDataSetObserver(mock(DataSetObserver.class));
+
+        assertThat(decorator.getSections().length, is(2));
+        assertThat(decorator.getSectionForPosition(3), is(1));
+        assertThat(decorator.getPositionForSection(1), is(2));
+        assertThat(decorator.getSectionForPosition(1), is(0));
+
+        verify(sectionIndexer, times(1)).getSections();
+        verify(sectionIndexer, times(1)).getSectionForPosition(3);
+    }
+
+    public void testSectionIndexIsRecomputedOnDataChange() {
+        SectionIndexerBaseAdapterImpl sectionIndexer = spy(new SectionIndexerBaseAdapterImpl());
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(sectionIndexer) {
+        };
+        decorator.registerDataSetObserver(mock(DataSetObserver.class));
+        assertThat(decorator.getSectionForPosition(3), is(1));
+
+        sectionIndexer.mFirstPositionOfSecondSection = 4;
+        sectionIndexer.notifyDataSetChanged();
+
+        assertThat(decorator.getSectionForPosition(3), is(0));
+        assertThat(decorator.getPositionForSection(1), is(4));
+    }
+
+    public void testSectionIndexIsBuiltLazily() {
+        SectionIndexerBaseAdapterImpl sectionIndexer = spy(new SectionIndexerBaseAdapterImpl());
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(sectionIndexer) {
+        };
+        decorator.registerDataSetObserver(mock(DataSetObserver.class));
+
+        assertThat(decorator.getSectionForPosition(3), is(1));
+        assertThat(decorator.getSectionForPosition(3), is(1));
+
+        verify(sectionIndexer, times(1)).getSectionForPosition(3);
+        verify(sectionIndexer, never()).getSectionForPosition(0);
+        verify(sectionIndexer, never()).getSectionForPosition(4);
+    }
+
+    public void testSectionIndexIsNotCachedWithoutObservers() {
+        SectionIndexerBaseAdapterImpl sectionIndexer = spy(new SectionIndexerBaseAdapterImpl());
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(sectionIndexer) {
+        };
+
+        decorator.getSectionForPosition(3);
+        decorator.getSectionForPosition(3);
+
+        verify(sectionIndexer, times(2)).getSectionForPosition(3);
+        verify(sectionIndexer, never()).registerDataSetObserver(any(DataSetObserver.class));
+    }
+
+    public void testSectionIndexCacheFollowsObserverLifecycle() {
+        SectionIndexerBaseAdapterImpl sectionIndexer = spy(new SectionIndexerBaseAdapterImpl());
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(sectionIndexer) {
+        };
+        DataSetObserver observer = mock(DataSetObserver.class);
+
+        /* The cache is created before the ListView registers, and registers along with it. */
+        decorator.getSectionForPosition(3);
+        decorator.registerDataSetObserver(observer);
+        verify(sectionIndexer, times(2)).registerDataSetObserver(any(DataSetObserver.class));
+
+        decorator.getSectionForPosition(3);
+        decorator.getSectionForPosition(3);
+        verify(sectionIndexer, times(2)).getSectionForPosition(3);
+
+        /* Once the ListView unregisters, no observer is left behind on the section indexer. */
+        decorator.unregisterDataSetObserver(observer);
+        verify(sectionIndexer, times(2)).unregisterDataSetObserver(any(DataSetObserver.class));
+
+        decorator.getSectionForPosition(3);
+        verify(sectionIndexer, times(3)).getSectionForPosition(3);
+    }
+
+    private static class SectionIndexerBaseAdapterImpl extends BaseAdapterImpl implements SectionIndexer {
+
+        private int mFirstPositionOfSecondSection = 2;
+
+        @Override
+        public int getCount() {
+            return 5;
+        }
+
+        @Override
+        public Object[] getSections() {
+            return new Object[]{"A", "B"};
+        }
+
+        @Override
+        public int getPositionForSection(final int sectionIndex) {
+            return sectionIndex == 0 ? 0 : mFirstPositionOfSecondSection;
+        }
+
+        @Override
+        public int getSectionForPosition(final int position) {
+            return position < mFirstPositionOfSecondSection ? 0 : 1;
+        }
+    }
+
     @SuppressWarnings("ConstantConditions")
     protected static class BaseAdapterImpl extends BaseAdapter {
 
@@ -0,0 +1,116 @@
+package com.nhaarman.listviewanimations;
+
+import android.os.Parcel;
+import android.support.annotation.NonNull;
+import android.widget.BaseAdapter;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings({"AnonymousInnerClass", "ConstantConditions"})
+public class StateSnapshotTest extends TestCase {
+
+    private StateSnapshot mStateSnapshot;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        mStateSnapshot = new StateSnapshot();
+    }
+
+    public void testPutAndGet() {
+        StateSnapshot.Section section = mStateSnapshot.createSection(0, String.class);
+        section.putInts(0, new int[]{1, 2, 3});
+        section.putLongs(0, new long[]{4L, 5L});
+
+        assertThat(section.getInts(0), is(equalTo(new int[]{1, 2, 3})));
+        assertThat(section.getLongs(0), is(equalTo(new long[]{4L, 5L})));
+        assertThat(section.getInts(1), is(nullValue()));
+        assertThat(section.getLongs(1), is(nullValue()));
+    }
+
+    public void testSectionsAreSeparated() {
+        mStateSnapshot.createSection(0, String.class).putInts(0, new int[]{1});
+        mStateSnapshot.createSection(1, String.class).putInts(0, new int[]{2});
+
+        assertThat(mStateSnapshot.findSection(0, String.class).getInts(0), is(equalTo(new int[]{1})));
+        assertThat(mStateSnapshot.findSection(1, String.class).getInts(0), is(equalTo(new int[]{2})));
+    }
+
+    public void testFindSectionWithDifferentOwner() {
+        mStateSnapshot.createSection(0, String.class).putInts(0, new int[]{1});
+
+        assertThat(mStateSnapshot.findSection(0, Integer.class), is(nullValue()));
+        assertThat(mStateSnapshot.findSection(1, String.class), is(nullValue()));
+    }
+
+    public void testCreateSectionClearsExistingSection() {
+        mStateSnapshot.createSection(0, String.class).putInts(0, new int[]{1});
+
+        assertThat(mStateSnapshot.createSection(0, String.class).getInts(0), is(nullValue()));
+    }
+
+    public void testKeyOutOfRange() {
+        StateSnapshot.Section section = mStateSnapshot.createSection(0, String.class);
+        try {
+            section.putInts(StateSnapshot.KEYS_PER_SECTION, new int[0]);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+            /* Expected */
+        }
+    }
+
+    public void testParcel() {
+        StateSnapshot.Section section = mStateSnapshot.createSection(2, String.class);
+        section.putInts(3, new int[]{7, -1});
+        section.putLongs(4, new long[]{Long.MAX_VALUE});
+
+        Parcel parcel = Parcel.obtain();
+        mStateSnapshot.writeToParcel(parcel, 0);
+        parcel.setDataPosition(0);
+        StateSnapshot result = StateSnapshot.CREATOR.createFromParcel(parcel);
+        parcel.recycle();
+
+        StateSnapshot.Section resultSection = result.findSection(2, String.class);
+        assertThat(resultSection.getInts(3), is(equalTo(new int[]{7, -1})));
+        assertThat(resultSection.getLongs(4), is(equalTo(new long[]{Long.MAX_VALUE})));
+    }
+
+    public void testSaveAndRestoreDecoratorChain() {
+        ParticipantDecorator inner = new ParticipantDecorator(new BaseAdapterDecoratorTest.BaseAdapterImpl());
+        BaseAdapterDecorator middle = new BaseAdapterDecorator(inner) {
+        };
+        ParticipantDecorator outer = new ParticipantDecorator(middle);
+        inner.mState = 1;
+        outer.mState = 2;
+
+        StateSnapshot snapshot = outer.saveStateSnapshot();
+        inner.mState = 0;
+        outer.mState = 0;
+        outer.restoreStateSnapshot(snapshot);
+
+        assertThat(inner.mState, is(1));
+        assertThat(outer.mState, is(2));
+    }
+
+    private static class ParticipantDecorator extends BaseAdapterDecorator implements StateSnapshotParticipant {
+
+        private int mState;
+
+        ParticipantDecorator(@NonNull final BaseAdapter baseAdapter) {
+            super(baseAdapter);
+        }
+
+        @Override
+        public void onSaveStateSnapshot(@NonNull final StateSnapshot.Section section) {
+            section.putInts(0, new int[]{mState});
+        }
+
+        @Override
+        public void onRestoreStateSnapshot(@NonNull final StateSnapshot.Section section) {
+            mState = section.getInts(0)[0];
+        }
+    }
+}
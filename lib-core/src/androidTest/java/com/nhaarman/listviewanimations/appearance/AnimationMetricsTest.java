@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SuppressWarnings("MagicNumber")
+public class AnimationMetricsTest extends TestCase {
+
+    private AnimationMetrics mAnimationMetrics;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mAnimationMetrics = new AnimationMetrics();
+    }
+
+    public void testEmptySnapshot() {
+        AnimationMetrics.Snapshot snapshot = mAnimationMetrics.getBindTimeSnapshot();
+
+        assertThat(snapshot.getCount(), is(0));
+        assertThat(snapshot.getMeanNanos(), is(0L));
+        assertThat(snapshot.getMaxNanos(), is(0L));
+        assertThat(snapshot.getPercentileNanos(50), is(0L));
+    }
+
+    public void testBindTimesAreBucketed() {
+        mAnimationMetrics.onViewBound(0, 100000);
+        mAnimationMetrics.onViewBound(1, 250000);
+        mAnimationMetrics.onViewBound(2, 400000);
+        mAnimationMetrics.onViewBound(3, 3000000);
+
+        AnimationMetrics.Snapshot snapshot = mAnimationMetrics.getBindTimeSnapshot();
+
+        assertThat(snapshot.getCount(), is(4));
+        assertThat(snapshot.getMeanNanos(), is(937500L));
+        assertThat(snapshot.getMaxNanos(), is(3000000L));
+        assertThat(snapshot.getBucketValueCount(0), is(2));
+        assertThat(snapshot.getBucketValueCount(1), is(1));
+        assertThat(snapshot.getBucketValueCount(4), is(1));
+        assertThat(snapshot.getBucketUpperBoundNanos(1), is(500000L));
+    }
+
+    public void testLargeValuesGoInLastBucket() {
+        mAnimationMetrics.onFrameOverrun(0, 1, Long.MAX_VALUE / 2);
+
+        AnimationMetrics.Snapshot snapshot = mAnimationMetrics.getFrameOverrunSnapshot();
+
+        assertThat(snapshot.getBucketValueCount(snapshot.getBucketCount() - 1), is(1));
+    }
+
+    public void testPercentiles() {
+        for (int i = 0; i < 9; i++) {
+            mAnimationMetrics.onFirstAnimatedFrame(i, 200000);
+        }
+        mAnimationMetrics.onFirstAnimatedFrame(9, 20000000);
+
+        AnimationMetrics.Snapshot snapshot = mAnimationMetrics.getFirstFrameLatencySnapshot();
+
+        assertThat(snapshot.getPercentileNanos(50), is(250000L));
+        assertThat(snapshot.getPercentileNanos(90), is(250000L));
+        assertThat(snapshot.getPercentileNanos(100), is(20000000L));
+    }
+
+    public void testSnapshotIsNotUpdated() {
+        AnimationMetrics.Snapshot snapshot = mAnimationMetrics.getBindTimeSnapshot();
+
+        mAnimationMetrics.onViewBound(0, 100000);
+
+        assertThat(snapshot.getCount(), is(0));
+    }
+
+    public void testMaxRunningAnimatorCount() {
+        mAnimationMetrics.onRunningAnimatorCountChanged(1);
+        mAnimationMetrics.onRunningAnimatorCountChanged(2);
+        mAnimationMetrics.onRunningAnimatorCountChanged(1);
+
+        assertThat(mAnimationMetrics.getRunningAnimatorCount(), is(1));
+        assertThat(mAnimationMetrics.getMaxRunningAnimatorCount(), is(2));
+
+        mAnimationMetrics.clear();
+
+        assertThat(mAnimationMetrics.getMaxRunningAnimatorCount(), is(1));
+    }
+
+    public void testClear() {
+        mAnimationMetrics.onViewBound(0, 100000);
+
+        mAnimationMetrics.clear();
+
+        assertThat(mAnimationMetrics.getBindTimeSnapshot().getCount(), is(0));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.os.Build;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+
+import com.nineoldandroids.animation.Animator;
+import com.nineoldandroids.animation.AnimatorInflater;
+import com.nineoldandroids.animation.ObjectAnimator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SuppressLint("InlinedApi")
+@SuppressWarnings("MagicNumber")
+public class AnimatorTemplateCacheTest extends InstrumentationTestCase {
+
+    private static final int ANIMATOR_RES_ID = android.R.animator.fade_in;
+
+    private Context mContext;
+
+    private AnimatorTemplateCache mAnimatorTemplateCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mContext = getInstrumentation().getTargetContext();
+        mAnimatorTemplateCache = new AnimatorTemplateCache(mContext);
+    }
+
+    public void testObtainReturnsNewInstances() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return;
+        }
+
+        Animator first = mAnimatorTemplateCache.obtain(ANIMATOR_RES_ID);
+        Animator second = mAnimatorTemplateCache.obtain(ANIMATOR_RES_ID);
+
+        assertThat(first, is(not(sameInstance(second))));
+        assertThat(first.getDuration(), is(second.getDuration()));
+    }
+
+    public void testObtainMatchesInflatedAnimator() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return;
+        }
+
+        Animator inflated = AnimatorInflater.loadAnimator(mContext, ANIMATOR_RES_ID);
+        Animator obtained = mAnimatorTemplateCache.obtain(ANIMATOR_RES_ID);
+
+        assertThat(obtained.getClass(), is(equalTo((Object) inflated.getClass())));
+        assertThat(obtained.getDuration(), is(inflated.getDuration()));
+        assertThat(obtained.getStartDelay(), is(inflated.getStartDelay()));
+    }
+
+    public void testObtainedAnimatorsAreIndependent() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return;
+        }
+
+        Animator first = mAnimatorTemplateCache.obtain(ANIMATOR_RES_ID);
+        long duration = first.getDuration();
+        View view = new View(mContext);
+
+        first.setDuration(duration + 1000);
+        first.setStartDelay(1000);
+        first.setTarget(view);
+
+        Animator second = mAnimatorTemplateCache.obtain(ANIMATOR_RES_ID);
+
+        assertThat(second.getDuration(), is(duration));
+        assertThat(second.getStartDelay(), is(0L));
+        assertThat(second, is(instanceOf(ObjectAnimator.class)));
+        assertThat(((ObjectAnimator) second).getTarget(), is(nullValue()));
+        assertThat(((ObjectAnimator) first).getTarget(), is((Object) view));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.MockitoAnnotations.*;
+
+@SuppressWarnings({"MagicNumber", "AnonymousInnerClass"})
+public class EntranceAnimationDriverTest extends InstrumentationTestCase {
+
+    private EntranceAnimationDriver mDriver;
+
+    private RecordingViewProperty mProperty;
+
+    private EntranceTransition[] mTransitions;
+
+    @Mock
+    private View mView;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        initMocks(this);
+
+        mDriver = new EntranceAnimationDriver();
+        mProperty = new RecordingViewProperty();
+        mTransitions = new EntranceTransition[]{new EntranceTransition(mProperty, 10, 20)};
+    }
+
+    public void testStartAppliesStartValue() {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDriver.start(0, mView, mTransitions, 1000, 300, 0, false);
+                    }
+                }
+        );
+
+        assertThat(mProperty.mValues, contains(10f));
+    }
+
+    public void testEndAppliesEndValue() {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDriver.start(0, mView, mTransitions, 1000, 300, 0, false);
+                        mDriver.end(mView);
+                    }
+                }
+        );
+
+        assertThat(mProperty.mValues, contains(10f, 20f));
+    }
+
+    public void testCancelAllKeepsCurrentValue() {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDriver.start(0, mView, mTransitions, 1000, 300, 0, false);
+                        mDriver.cancelAll();
+                    }
+                }
+        );
+
+        assertThat(mProperty.mValues, contains(10f));
+    }
+
+    public void testTransitionFinishes() throws InterruptedException {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDriver.start(0, mView, mTransitions, 0, 50, 0, false);
+                    }
+                }
+        );
+
+        Thread.sleep(500);
+        getInstrumentation().waitForIdleSync();
+
+        assertThat(mProperty.mValues.size(), is(greaterThan(1)));
+        assertThat(mProperty.mValues.get(mProperty.mValues.size() - 1), is(20f));
+    }
+
+    private static class RecordingViewProperty extends ViewProperty {
+
+        private final List<Float> mValues = new ArrayList<>();
+
+        @Override
+        public void set(@NonNull final View view, final float value) {
+            mValues.add(value);
+        }
+    }
+}
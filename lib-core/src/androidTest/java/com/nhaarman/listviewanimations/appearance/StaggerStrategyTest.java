@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings("MagicNumber")
+public class StaggerStrategyTest extends TestCase {
+
+    private StaggerTimeline mTimeline;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mTimeline = new StaggerTimeline(3, false, 0, 100);
+    }
+
+    public void testLinear() {
+        StaggerStrategy strategy = new LinearStaggerStrategy();
+
+        assertThat(strategy.getStaggerMillis(0, 0, 0, mTimeline), is(0));
+        assertThat(strategy.getStaggerMillis(4, 1, 1, mTimeline), is(400));
+    }
+
+    public void testDiagonal() {
+        StaggerStrategy strategy = new DiagonalStaggerStrategy();
+
+        assertThat(strategy.getStaggerMillis(2, 0, 2, mTimeline), is(200));
+        assertThat(strategy.getStaggerMillis(4, 1, 1, mTimeline), is(200));
+        assertThat(strategy.getStaggerMillis(8, 2, 2, mTimeline), is(400));
+    }
+
+    public void testEaseOutIsFrontLoaded() {
+        StaggerStrategy strategy = new EaseOutStaggerStrategy(10);
+
+        assertThat(strategy.getStaggerMillis(0, 0, 0, mTimeline), is(0));
+        assertThat(strategy.getStaggerMillis(1, 0, 1, mTimeline), is(lessThan(100)));
+        assertThat(strategy.getStaggerMillis(10, 3, 1, mTimeline), is(500));
+        assertThat(strategy.getStaggerMillis(12, 4, 0, mTimeline), is(700));
+    }
+
+    public void testEaseOutGapsGrowToAnimationDelay() {
+        StaggerStrategy strategy = new EaseOutStaggerStrategy(10);
+
+        int previousGap = 0;
+        for (int i = 1; i <= 10; i++) {
+            int gap = strategy.getStaggerMillis(i, 0, 0, mTimeline) - strategy.getStaggerMillis(i - 1, 0, 0, mTimeline);
+            assertThat(gap, is(both(greaterThanOrEqualTo(previousGap)).and(lessThanOrEqualTo(100))));
+            previousGap = gap;
+        }
+        assertThat(previousGap, is(greaterThan(90)));
+    }
+
+    public void testEaseOutIsContinuousAtItemCount() {
+        StaggerStrategy strategy = new EaseOutStaggerStrategy(10);
+
+        int gapBefore = strategy.getStaggerMillis(10, 0, 0, mTimeline) - strategy.getStaggerMillis(9, 0, 0, mTimeline);
+        int gapAfter = strategy.getStaggerMillis(11, 0, 0, mTimeline) - strategy.getStaggerMillis(10, 0, 0, mTimeline);
+
+        assertThat(gapAfter, is(100));
+        assertThat(gapAfter - gapBefore, is(lessThanOrEqualTo(10)));
+    }
+
+    public void testEaseOutIsMonotonic() {
+        StaggerStrategy strategy = new EaseOutStaggerStrategy(10);
+
+        int previous = -1;
+        for (int i = 0; i < 20; i++) {
+            int staggerMillis = strategy.getStaggerMillis(i, 0, 0, mTimeline);
+            assertThat(staggerMillis, is(greaterThanOrEqualTo(previous)));
+            previous = staggerMillis;
+        }
+    }
+
+    public void testEaseOutRejectsNonPositiveItemCount() {
+        try {
+            new EaseOutStaggerStrategy(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.nhaarman.listviewanimations.appearance;
 
+import android.os.SystemClock;
 import android.test.InstrumentationTestCase;
 import android.view.View;
+import android.view.ViewGroup;
 
+import com.nhaarman.listviewanimations.util.DisplayUtil;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
 import com.nineoldandroids.animation.Animator;
+import com.nineoldandroids.animation.ValueAnimator;
 
 import org.mockito.Mock;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.*;
 
@@ -25,6 +32,9 @@ public class ViewAnimatorTest extends InstrumentationTestCase {
     @Mock
     private Animator mAnimator;
 
+    @Mock
+    private AnimationMetricsListener mAnimationMetricsListener;
+
     @Override
     protected void setUp() throws Exception {
         super.setUp();
@@ -99,4 +109,91 @@ public class ViewAnimatorTest extends InstrumentationTestCase {
 
     }
 
-}
\ No newline at end of file
+    public void testAttachedViewSharesPosition() {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mViewAnimator.animateViewIfNecessary(0, mView, new Animator[]{mAnimator});
+                    }
+                }
+        );
+
+        assertThat(mViewAnimator.shouldAnimateAttached(0), is(true));
+        assertThat(mViewAnimator.shouldAnimate(0), is(false));
+    }
+
+    public void testAttachedViewDoesNotMarkPositionAnimated() {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mViewAnimator.animateAttachedView(0, mView, new Animator[]{mAnimator});
+                    }
+                }
+        );
+
+        verify(mAnimator, timeout(500)).start();
+        assertThat(mViewAnimator.shouldAnimate(0), is(true));
+    }
+
+    public void testMetricsRunningAnimatorCount() {
+        enableMetrics();
+        mViewAnimator.setAnimationDurationMillis(100);
+
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mViewAnimator.animateViewIfNecessary(0, mView, new Animator[]{ValueAnimator.ofFloat(0, 1)});
+                        mViewAnimator.animateViewIfNecessary(1, mView, new Animator[]{ValueAnimator.ofFloat(0, 1)});
+                    }
+                }
+        );
+
+        verify(mAnimationMetricsListener).onRunningAnimatorCountChanged(2);
+        verify(mAnimationMetricsListener, timeout(3000)).onRunningAnimatorCountChanged(0);
+    }
+
+    public void testMetricsFrameOverrunIsAttributedToLastStartedPosition() {
+        enableMetrics();
+
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mViewAnimator.animateViewIfNecessary(0, mView, new Animator[]{ValueAnimator.ofFloat(0, 1)});
+                        mViewAnimator.animateViewIfNecessary(1, mView, new Animator[]{ValueAnimator.ofFloat(0, 1)});
+
+                        /* Block the frame in which the animations were started. */
+                        SystemClock.sleep(100);
+                    }
+                }
+        );
+
+        verify(mAnimationMetricsListener, timeout(1000)).onFrameOverrun(eq(1), eq(2), longThat(greaterThanOrEqualTo(100000000L)));
+    }
+
+    public void testMetricsFrameOverrunThresholdFollowsDisplay() {
+        enableMetrics();
+
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mViewAnimator.animateViewIfNecessary(0, mView, new Animator[]{ValueAnimator.ofFloat(0, 1)});
+                    }
+                }
+        );
+
+        long frameIntervalNanos = DisplayUtil.getFrameIntervalNanos(getInstrumentation().getTargetContext());
+        assertThat(mViewAnimator.getFrameOverrunThresholdNanos(), is(frameIntervalNanos * 3 / 2));
+    }
+
+    private void enableMetrics() {
+        ViewGroup listView = mock(ViewGroup.class);
+        when(listView.getContext()).thenReturn(getInstrumentation().getTargetContext());
+        when(mListViewWrapper.getListView()).thenReturn(listView);
+        mViewAnimator.setAnimationMetricsListener(mAnimationMetricsListener);
+    }
+}
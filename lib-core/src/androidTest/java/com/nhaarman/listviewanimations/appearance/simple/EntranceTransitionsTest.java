@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance.simple;
+
+import android.test.AndroidTestCase;
+import android.view.View;
+import android.widget.ArrayAdapter;
+import android.widget.BaseAdapter;
+import android.widget.FrameLayout;
+
+import com.nhaarman.listviewanimations.appearance.EntranceTransition;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings("MagicNumber")
+public class EntranceTransitionsTest extends AndroidTestCase {
+
+    private BaseAdapter mBaseAdapter;
+
+    private FrameLayout mParent;
+
+    private View mView;
+
+    private View mOtherView;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mBaseAdapter = new ArrayAdapter<>(getContext(), android.R.layout.simple_list_item_1, new String[]{"item"});
+        mParent = new FrameLayout(getContext());
+        mParent.layout(0, 0, 100, 100);
+        mView = new View(getContext());
+        mOtherView = new View(getContext());
+    }
+
+    public void testAlphaInReusesTransitions() {
+        AlphaInAnimationAdapter adapter = new AlphaInAnimationAdapter(mBaseAdapter);
+
+        EntranceTransition[] transitions = adapter.getEntranceTransitions(mParent, mView);
+
+        assertThat(adapter.getEntranceTransitions(mParent, mOtherView), is(sameInstance(transitions)));
+    }
+
+    public void testScaleInReusesTransitions() {
+        ScaleInAnimationAdapter adapter = new ScaleInAnimationAdapter(mBaseAdapter);
+
+        EntranceTransition[] transitions = adapter.getEntranceTransitions(mParent, mView);
+
+        assertThat(transitions.length, is(2));
+        assertThat(adapter.getEntranceTransitions(mParent, mOtherView), is(sameInstance(transitions)));
+    }
+
+    public void testSwingLeftInReusesTransitionsForSameWidth() {
+        SwingLeftInAnimationAdapter adapter = new SwingLeftInAnimationAdapter(mBaseAdapter);
+
+        EntranceTransition[] transitions = adapter.getEntranceTransitions(mParent, mView);
+
+        assertThat(transitions.length, is(1));
+        assertThat(adapter.getEntranceTransitions(mParent, mOtherView), is(sameInstance(transitions)));
+    }
+
+    public void testSwingLeftInRebuildsTransitionsWhenWidthChanges() {
+        SwingLeftInAnimationAdapter adapter = new SwingLeftInAnimationAdapter(mBaseAdapter);
+        EntranceTransition[] transitions = adapter.getEntranceTransitions(mParent, mView);
+
+        mParent.layout(0, 0, 200, 100);
+
+        assertThat(adapter.getEntranceTransitions(mParent, mOtherView), is(not(sameInstance(transitions))));
+    }
+
+    public void testSwingRightInReusesTransitionsForSameWidth() {
+        SwingRightInAnimationAdapter adapter = new SwingRightInAnimationAdapter(mBaseAdapter);
+
+        EntranceTransition[] transitions = adapter.getEntranceTransitions(mParent, mView);
+
+        assertThat(adapter.getEntranceTransitions(mParent, mOtherView), is(sameInstance(transitions)));
+    }
+
+    public void testSwingBottomInReusesTransitionsForSameHeight() {
+        SwingBottomInAnimationAdapter adapter = new SwingBottomInAnimationAdapter(mBaseAdapter);
+
+        EntranceTransition[] transitions = adapter.getEntranceTransitions(mParent, mView);
+
+        assertThat(adapter.getEntranceTransitions(mParent, mOtherView), is(sameInstance(transitions)));
+    }
+}
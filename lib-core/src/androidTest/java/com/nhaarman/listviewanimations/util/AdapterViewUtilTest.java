@@ -151,6 +151,44 @@ public class AdapterViewUtilTest extends TestCase {
         assertThat(AdapterViewUtil.getPositionForView(mListView, mView), is(POSITION - 2));
     }
 
+    public void testListViewWrapperGetColumnCountWithoutChildren() throws Exception {
+        when(mListViewWrapper.getListView()).thenReturn(mListView);
+        when(mListViewWrapper.getChildCount()).thenReturn(0);
+
+        assertThat(AdapterViewUtil.getColumnCount(mListViewWrapper), is(1));
+    }
+
+    public void testListViewWrapperGetColumnCountSingleColumn() throws Exception {
+        View dummyView1 = mock(View.class);
+        View dummyView2 = mock(View.class);
+
+        when(mListViewWrapper.getListView()).thenReturn(mListView);
+        when(mListViewWrapper.getChildCount()).thenReturn(2);
+        when(mListViewWrapper.getChildAt(0)).thenReturn(dummyView1);
+        when(mListViewWrapper.getChildAt(1)).thenReturn(dummyView2);
+        when(dummyView1.getTop()).thenReturn(0);
+        when(dummyView2.getTop()).thenReturn(100);
+
+        assertThat(AdapterViewUtil.getColumnCount(mListViewWrapper), is(1));
+    }
+
+    public void testListViewWrapperGetColumnCountMultipleColumns() throws Exception {
+        View dummyView1 = mock(View.class);
+        View dummyView2 = mock(View.class);
+        View dummyView3 = mock(View.class);
+
+        when(mListViewWrapper.getListView()).thenReturn(mAbsListView);
+        when(mListViewWrapper.getChildCount()).thenReturn(3);
+        when(mListViewWrapper.getChildAt(0)).thenReturn(dummyView1);
+        when(mListViewWrapper.getChildAt(1)).thenReturn(dummyView2);
+        when(mListViewWrapper.getChildAt(2)).thenReturn(dummyView3);
+        when(dummyView1.getTop()).thenReturn(-20);
+        when(dummyView2.getTop()).thenReturn(-20);
+        when(dummyView3.getTop()).thenReturn(80);
+
+        assertThat(AdapterViewUtil.getColumnCount(mListViewWrapper), is(2));
+    }
+
     @SuppressWarnings("ProtectedInnerClass")
     protected abstract static class AbsListViewImpl extends AbsListView {
 
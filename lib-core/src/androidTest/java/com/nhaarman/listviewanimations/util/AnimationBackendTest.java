@@ -0,0 +1,198 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.util;
+
+import android.os.Build;
+import android.test.InstrumentationTestCase;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.nineoldandroids.view.ViewHelper;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings("MagicNumber")
+public class AnimationBackendTest extends InstrumentationTestCase {
+
+    private static final long FLING_DURATION_MS = 100;
+
+    private static final long ANIMATION_DURATION_MS = 50;
+
+    private static final long ANIMATION_TIMEOUT_MS = 2000;
+
+    private View mView;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mView = new View(getInstrumentation().getTargetContext());
+        mView.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, 100));
+    }
+
+    public void testInstanceMatchesApiLevel() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+            assertThat(AnimationBackend.getInstance(), is(instanceOf(NativeAnimationBackend.class)));
+        } else {
+            assertThat(AnimationBackend.getInstance(), is(instanceOf(NineOldAndroidsAnimationBackend.class)));
+        }
+    }
+
+    public void testNineOldAndroidsBackendSetsProperties() {
+        assertPropertiesSet(new NineOldAndroidsAnimationBackend());
+    }
+
+    public void testNativeBackendSetsProperties() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return;
+        }
+
+        assertPropertiesSet(new NativeAnimationBackend());
+    }
+
+    public void testNineOldAndroidsBackendAnimates() throws InterruptedException {
+        assertAnimates(new NineOldAndroidsAnimationBackend());
+    }
+
+    public void testNativeBackendAnimates() throws InterruptedException {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return;
+        }
+
+        assertAnimates(new NativeAnimationBackend());
+    }
+
+    public void testNativeBackendMapsViewProperties() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            return;
+        }
+
+        assertThat(NativeAnimationBackend.getProperty(PropertyAnimation.ALPHA), is(View.ALPHA));
+        assertThat(NativeAnimationBackend.getProperty(PropertyAnimation.TRANSLATION_X), is(View.TRANSLATION_X));
+        assertThat(NativeAnimationBackend.getProperty(PropertyAnimation.SCALE_X), is(View.SCALE_X));
+        assertThat(NativeAnimationBackend.getProperty(PropertyAnimation.SCALE_Y), is(View.SCALE_Y));
+    }
+
+    public void testNineOldAndroidsAnimatorsStepProperties() {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        List<com.nineoldandroids.animation.Animator> animators = new NineOldAndroidsAnimationBackend().createAnimatorSet(createFlingAnimation()).getChildAnimations();
+                        for (com.nineoldandroids.animation.Animator animator : animators) {
+                            ((com.nineoldandroids.animation.ValueAnimator) animator).setCurrentPlayTime(FLING_DURATION_MS);
+                        }
+                    }
+                }
+        );
+
+        assertThat(ViewHelper.getTranslationX(mView), is(100f));
+        assertThat(ViewHelper.getAlpha(mView), is(0f));
+        assertThat(ViewHelper.getScaleX(mView), is(0.5f));
+        assertThat(ViewHelper.getScaleY(mView), is(2f));
+    }
+
+    public void testNativeAnimatorsStepProperties() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return;
+        }
+
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        List<android.animation.Animator> animators = new NativeAnimationBackend().createAnimatorSet(createFlingAnimation()).getChildAnimations();
+                        for (android.animation.Animator animator : animators) {
+                            ((android.animation.ValueAnimator) animator).setCurrentPlayTime(FLING_DURATION_MS);
+                        }
+                    }
+                }
+        );
+
+        assertThat(mView.getTranslationX(), is(100f));
+        assertThat(mView.getAlpha(), is(0f));
+        assertThat(mView.getScaleX(), is(0.5f));
+        assertThat(mView.getScaleY(), is(2f));
+    }
+
+    /**
+     * Creates the animation of a swipe fling: translationX, alpha and scale played together.
+     */
+    private PropertyAnimation createFlingAnimation() {
+        return new PropertyAnimation()
+                .animate(mView, PropertyAnimation.TRANSLATION_X, 0, 100)
+                .animate(mView, PropertyAnimation.ALPHA, 1, 0)
+                .animate(mView, PropertyAnimation.SCALE_X, 0.5f)
+                .animate(mView, PropertyAnimation.SCALE_Y, 1, 2)
+                .setDuration(FLING_DURATION_MS);
+    }
+
+    /**
+     * Runs a {@link PropertyAnimation} on given backend, and asserts that the end values are set and the end action is run.
+     */
+    private void assertAnimates(final AnimationBackend backend) throws InterruptedException {
+        final CountDownLatch endLatch = new CountDownLatch(1);
+        final PropertyAnimation animation = new PropertyAnimation()
+                .animate(mView, PropertyAnimation.TRANSLATION_X, 10)
+                .animate(mView, PropertyAnimation.ALPHA, 1, 0.5f)
+                .animate(mView, PropertyAnimation.HEIGHT, 100, 1)
+                .setDuration(ANIMATION_DURATION_MS)
+                .setEndAction(
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                endLatch.countDown();
+                            }
+                        }
+                );
+
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        backend.start(animation);
+                    }
+                }
+        );
+
+        assertThat(endLatch.await(ANIMATION_TIMEOUT_MS, TimeUnit.MILLISECONDS), is(true));
+        assertThat(ViewHelper.getTranslationX(mView), is(10f));
+        assertThat(ViewHelper.getAlpha(mView), is(0.5f));
+        assertThat(mView.getLayoutParams().height, is(1));
+    }
+
+    private void assertPropertiesSet(final AnimationBackend backend) {
+        backend.setAlpha(mView, 0.5f);
+        backend.setTranslationX(mView, 10);
+        backend.setTranslationY(mView, 20);
+        backend.setScaleX(mView, 0.25f);
+        backend.setScaleY(mView, 0.75f);
+        backend.setRotation(mView, 45);
+
+        assertThat(ViewHelper.getAlpha(mView), is(0.5f));
+        assertThat(ViewHelper.getTranslationX(mView), is(10f));
+        assertThat(ViewHelper.getTranslationY(mView), is(20f));
+        assertThat(ViewHelper.getScaleX(mView), is(0.25f));
+        assertThat(ViewHelper.getScaleY(mView), is(0.75f));
+        assertThat(ViewHelper.getRotation(mView), is(45f));
+    }
+}
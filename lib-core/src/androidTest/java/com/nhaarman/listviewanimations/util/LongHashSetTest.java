@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.util;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class LongHashSetTest extends TestCase {
+
+    private LongHashSet mLongHashSet;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mLongHashSet = new LongHashSet();
+    }
+
+    public void testEmpty() {
+        assertThat(mLongHashSet.size(), is(0));
+        assertThat(mLongHashSet.isEmpty(), is(true));
+        assertThat(mLongHashSet.contains(0), is(false));
+    }
+
+    public void testAdd() {
+        assertThat(mLongHashSet.add(5), is(true));
+
+        assertThat(mLongHashSet.contains(5), is(true));
+        assertThat(mLongHashSet.size(), is(1));
+    }
+
+    public void testAddDuplicate() {
+        mLongHashSet.add(5);
+
+        assertThat(mLongHashSet.add(5), is(false));
+        assertThat(mLongHashSet.size(), is(1));
+    }
+
+    public void testRemove() {
+        mLongHashSet.add(5);
+
+        assertThat(mLongHashSet.remove(5), is(true));
+        assertThat(mLongHashSet.contains(5), is(false));
+        assertThat(mLongHashSet.size(), is(0));
+    }
+
+    public void testRemoveAbsent() {
+        mLongHashSet.add(5);
+
+        assertThat(mLongHashSet.remove(6), is(false));
+        assertThat(mLongHashSet.size(), is(1));
+    }
+
+    public void testClear() {
+        mLongHashSet.add(5);
+        mLongHashSet.add(6);
+
+        mLongHashSet.clear();
+
+        assertThat(mLongHashSet.isEmpty(), is(true));
+        assertThat(mLongHashSet.contains(5), is(false));
+    }
+
+    /**
+     * Test whether values remain reachable when the set grows, and when values in between are removed.
+     */
+    public void testManyValues() {
+        for (long i = -500; i < 500; i++) {
+            mLongHashSet.add(i * 31);
+        }
+        for (long i = -500; i < 500; i += 2) {
+            mLongHashSet.remove(i * 31);
+        }
+
+        assertThat(mLongHashSet.size(), is(500));
+        for (long i = -500; i < 500; i++) {
+            assertThat(mLongHashSet.contains(i * 31), is(i % 2 != 0));
+        }
+    }
+}
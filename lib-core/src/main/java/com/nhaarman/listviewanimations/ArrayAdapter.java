@@ -20,20 +20,22 @@ import android.support.annotation.Nullable;
 import android.widget.BaseAdapter;
 
 import com.nhaarman.listviewanimations.util.Insertable;
+import com.nhaarman.listviewanimations.util.Movable;
 import com.nhaarman.listviewanimations.util.Swappable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * A true {@link ArrayList} adapter providing access to some of the {@code ArrayList} methods.
  * <p/>
- * Also implements {@link Swappable} for easy object swapping,
+ * Also implements {@link Swappable} for easy object swapping, {@link Movable} for moving objects,
  * and {@link com.nhaarman.listviewanimations.util.Insertable} for inserting objects.
  */
 @SuppressWarnings("UnusedDeclaration")
-public abstract class ArrayAdapter<T> extends BaseAdapter implements Swappable, Insertable<T> {
+public abstract class ArrayAdapter<T> extends BaseAdapter implements Swappable, Movable, Insertable<T> {
 
     @NonNull
     private final List<T> mItems;
@@ -139,8 +141,44 @@ public abstract class ArrayAdapter<T> extends BaseAdapter implements Swappable,
     @Override
     public void swapItems(final int positionOne, final int positionTwo) {
         T firstItem = mItems.set(positionOne, getItem(positionTwo));
-        notifyDataSetChanged();
         mItems.set(positionTwo, firstItem);
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Moves the item at position {@code from} to position {@code to}, by rotating only the items in between.
+     * Notifies the data set has changed once.
+     */
+    @Override
+    public void moveItem(final int from, final int to) {
+        if (from == to) {
+            return;
+        }
+
+        if (from < to) {
+            Collections.rotate(mItems.subList(from, to + 1), -1);
+        } else {
+            Collections.rotate(mItems.subList(to, from + 1), 1);
+        }
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Moves the {@code count} items starting at position {@code from} so that the first ends up at position {@code to}, by rotating only the affected items.
+     * Notifies the data set has changed once.
+     */
+    @Override
+    public void moveItems(final int from, final int count, final int to) {
+        if (from == to || count <= 0) {
+            return;
+        }
+
+        if (from < to) {
+            Collections.rotate(mItems.subList(from, to + count), -count);
+        } else {
+            Collections.rotate(mItems.subList(to, from + count), count);
+        }
+        notifyDataSetChanged();
     }
 
     public void propagateNotifyDataSetChanged(@NonNull final BaseAdapter slavedAdapter) {
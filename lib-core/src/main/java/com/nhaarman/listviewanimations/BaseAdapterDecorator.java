@@ -50,6 +50,24 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
     @Nullable
     private ListViewWrapper mListViewWrapper;
 
+    /**
+     * The resolved chain of adapters below this {@code BaseAdapterDecorator}, lazily created. The chain cannot change after construction.
+     */
+    @Nullable
+    private DecoratorPipeline mDecoratorPipeline;
+
+    /**
+     * The cached section index of the {@link android.widget.SectionIndexer} below this {@code BaseAdapterDecorator}, lazily created.
+     */
+    @Nullable
+    private SectionIndexCache mSectionIndexCache;
+
+    /**
+     * The number of {@link android.database.DataSetObserver}s registered on this {@code BaseAdapterDecorator}.
+     * {@link #mSectionIndexCache} is only registered on the adapter below while this is positive, so it does not outlive the ListView using this adapter.
+     */
+    private int mDataSetObserverCount;
+
     /**
      * Create a new {@code BaseAdapterDecorator}, decorating given {@link android.widget.BaseAdapter}.
      *
@@ -72,11 +90,48 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
      */
     @NonNull
     protected BaseAdapter getRootAdapter() {
-        BaseAdapter adapter = mDecoratedBaseAdapter;
-        while (adapter instanceof BaseAdapterDecorator) {
-            adapter = ((BaseAdapterDecorator) adapter).getDecoratedBaseAdapter();
+        return getDecoratorPipeline().getRootAdapter();
+    }
+
+    /**
+     * Returns the resolved chain of adapters below this {@code BaseAdapterDecorator}, resolving it on first use.
+     */
+    @NonNull
+    private DecoratorPipeline getDecoratorPipeline() {
+        if (mDecoratorPipeline == null) {
+            mDecoratorPipeline = new DecoratorPipeline(mDecoratedBaseAdapter);
+        }
+        return mDecoratorPipeline;
+    }
+
+    /**
+     * Returns the cached section index of the {@link android.widget.SectionIndexer} below this {@code BaseAdapterDecorator},
+     * or {@code null} if there is none.
+     */
+    @Nullable
+    private SectionIndexCache getSectionIndexCache() {
+        SectionIndexer sectionIndexer = getDecoratorPipeline().getSectionIndexer();
+        if (mSectionIndexCache != null && mSectionIndexCache.getSectionIndexer() != sectionIndexer) {
+            mSectionIndexCache.unregister();
+            mSectionIndexCache = null;
         }
-        return adapter;
+
+        if (mSectionIndexCache == null && sectionIndexer != null) {
+            /* The pipeline only resolves BaseAdapters. */
+            mSectionIndexCache = new SectionIndexCache((BaseAdapter) sectionIndexer, sectionIndexer);
+            if (mDataSetObserverCount > 0) {
+                mSectionIndexCache.register();
+            }
+        }
+        return mSectionIndexCache;
+    }
+
+    /**
+     * Returns the number of {@link android.database.DataSetObserver}s registered on this {@code BaseAdapterDecorator}, for example by the ListView it is bound to.
+     * Subclasses which observe the adapters below should only do so while this is positive, so they do not outlive the ListView.
+     */
+    protected int getDataSetObserverCount() {
+        return mDataSetObserverCount;
     }
 
     public void setAbsListView(@NonNull final AbsListView absListView) {
@@ -106,17 +161,17 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
 
     @Override
     public int getCount() {
-        return mDecoratedBaseAdapter.getCount();
+        return getDecoratorPipeline().getCountAdapter().getCount();
     }
 
     @Override
     public Object getItem(final int position) {
-        return mDecoratedBaseAdapter.getItem(position);
+        return getDecoratorPipeline().getItemAdapter().getItem(position);
     }
 
     @Override
     public long getItemId(final int position) {
-        return mDecoratedBaseAdapter.getItemId(position);
+        return getDecoratorPipeline().getItemIdAdapter().getItemId(position);
     }
 
     @Override
@@ -138,7 +193,7 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
 
     @Override
     public int getItemViewType(final int position) {
-        return mDecoratedBaseAdapter.getItemViewType(position);
+        return getDecoratorPipeline().getItemViewTypeAdapter().getItemViewType(position);
     }
 
     @Override
@@ -148,7 +203,7 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
 
     @Override
     public boolean hasStableIds() {
-        return mDecoratedBaseAdapter.hasStableIds();
+        return getDecoratorPipeline().getStableIdsAdapter().hasStableIds();
     }
 
     @Override
@@ -158,7 +213,7 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
 
     @Override
     public boolean isEnabled(final int position) {
-        return mDecoratedBaseAdapter.isEnabled(position);
+        return getDecoratorPipeline().getEnabledAdapter().isEnabled(position);
     }
 
     @Override
@@ -191,18 +246,29 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
     @Override
     public void registerDataSetObserver(@NonNull final DataSetObserver observer) {
         mDecoratedBaseAdapter.registerDataSetObserver(observer);
+        mDataSetObserverCount++;
+        if (mDataSetObserverCount == 1 && mSectionIndexCache != null) {
+            mSectionIndexCache.register();
+        }
     }
 
     @Override
     public void unregisterDataSetObserver(@NonNull final DataSetObserver observer) {
         mDecoratedBaseAdapter.unregisterDataSetObserver(observer);
+        if (mDataSetObserverCount > 0) {
+            mDataSetObserverCount--;
+        }
+        if (mDataSetObserverCount == 0 && mSectionIndexCache != null) {
+            mSectionIndexCache.unregister();
+        }
     }
 
     @Override
     public int getPositionForSection(final int sectionIndex) {
         int result = 0;
-        if (mDecoratedBaseAdapter instanceof SectionIndexer) {
-            result = ((SectionIndexer) mDecoratedBaseAdapter).getPositionForSection(sectionIndex);
+        SectionIndexCache sectionIndexCache = getSectionIndexCache();
+        if (sectionIndexCache != null) {
+            result = sectionIndexCache.getPositionForSection(sectionIndex);
         }
         return result;
     }
@@ -210,8 +276,9 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
     @Override
     public int getSectionForPosition(final int position) {
         int result = 0;
-        if (mDecoratedBaseAdapter instanceof SectionIndexer) {
-            result = ((SectionIndexer) mDecoratedBaseAdapter).getSectionForPosition(position);
+        SectionIndexCache sectionIndexCache = getSectionIndexCache();
+        if (sectionIndexCache != null) {
+            result = sectionIndexCache.getSectionForPosition(position);
         }
         return result;
     }
@@ -219,17 +286,19 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
     @Override
     @NonNull
     public Object[] getSections() {
-        Object[] result = new Object[0];
-        if (mDecoratedBaseAdapter instanceof SectionIndexer) {
-            result = ((SectionIndexer) mDecoratedBaseAdapter).getSections();
+        Object[] result = SectionIndexCache.EMPTY_SECTIONS;
+        SectionIndexCache sectionIndexCache = getSectionIndexCache();
+        if (sectionIndexCache != null) {
+            result = sectionIndexCache.getSections();
         }
         return result;
     }
 
     @Override
     public void swapItems(final int positionOne, final int positionTwo) {
-        if (mDecoratedBaseAdapter instanceof Swappable) {
-            ((Swappable) mDecoratedBaseAdapter).swapItems(positionOne, positionTwo);
+        Swappable swappable = getDecoratorPipeline().getSwappable();
+        if (swappable != null) {
+            swappable.swapItems(positionOne, positionTwo);
         } else {
             Log.w("ListViewAnimations", "Warning: swapItems called on an adapter that does not implement Swappable!");
         }
@@ -237,11 +306,56 @@ public abstract class BaseAdapterDecorator extends BaseAdapter implements Sectio
 
     @Override
     public void add(final int index, @NonNull final Object item) {
-        if (mDecoratedBaseAdapter instanceof Insertable) {
+        Insertable insertable = getDecoratorPipeline().getInsertable();
+        if (insertable != null) {
             //noinspection rawtypes
-            ((Insertable) mDecoratedBaseAdapter).add(index, item);
+            insertable.add(index, item);
         } else {
             Log.w("ListViewAnimations", "Warning: add called on an adapter that does not implement Insertable!");
         }
     }
+
+    /**
+     * Returns a {@link StateSnapshot} containing the dynamic state of this {@code BaseAdapterDecorator} and all adapters it decorates
+     * which implement {@link StateSnapshotParticipant}.
+     * Use this as a compact alternative to the {@code onSaveInstanceState()} methods of the individual adapters.
+     */
+    @NonNull
+    public StateSnapshot saveStateSnapshot() {
+        StateSnapshot snapshot = new StateSnapshot();
+
+        BaseAdapter adapter = this;
+        int depth = 0;
+        while (adapter != null) {
+            if (adapter instanceof StateSnapshotParticipant) {
+                ((StateSnapshotParticipant) adapter).onSaveStateSnapshot(snapshot.createSection(depth, adapter.getClass()));
+            }
+            adapter = adapter instanceof BaseAdapterDecorator ? ((BaseAdapterDecorator) adapter).getDecoratedBaseAdapter() : null;
+            depth++;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Restores the dynamic state of this {@code BaseAdapterDecorator} and all adapters it decorates from given {@link StateSnapshot}.
+     * The chain of adapters should be built the same way as the chain that created the snapshot; adapters of which the class does not match are skipped.
+     * Call this method after {@link #setAbsListView(android.widget.AbsListView)}, and before setting this adapter to the ListView.
+     *
+     * @param snapshot the {@code StateSnapshot} previously returned by {@link #saveStateSnapshot()}.
+     */
+    public void restoreStateSnapshot(@NonNull final StateSnapshot snapshot) {
+        BaseAdapter adapter = this;
+        int depth = 0;
+        while (adapter != null) {
+            if (adapter instanceof StateSnapshotParticipant) {
+                StateSnapshot.Section section = snapshot.findSection(depth, adapter.getClass());
+                if (section != null) {
+                    ((StateSnapshotParticipant) adapter).onRestoreStateSnapshot(section);
+                }
+            }
+            adapter = adapter instanceof BaseAdapterDecorator ? ((BaseAdapterDecorator) adapter).getDecoratedBaseAdapter() : null;
+            depth++;
+        }
+    }
 }
\ No newline at end of file
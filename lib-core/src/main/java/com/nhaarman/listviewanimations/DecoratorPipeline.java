@@ -0,0 +1,239 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.widget.BaseAdapter;
+import android.widget.SectionIndexer;
+
+import com.nhaarman.listviewanimations.util.Insertable;
+import com.nhaarman.listviewanimations.util.Swappable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A resolved view of the chain of adapters below a {@link BaseAdapterDecorator}.
+ * For each pass-through method, it holds the first adapter in the chain that actually implements the method: decorators which only inherit the
+ * forwarding implementation of {@code BaseAdapterDecorator} are skipped. It also caches the root adapter and the adapters providing
+ * the {@link Swappable}, {@link Insertable} and {@link SectionIndexer} capabilities.
+ * <p/>
+ * The chain of a {@code BaseAdapterDecorator} is fixed at construction, so a pipeline is resolved once. This class should only be used on the main thread.
+ */
+class DecoratorPipeline {
+
+    private static final int GET_COUNT = 1;
+    private static final int GET_ITEM = 1 << 1;
+    private static final int GET_ITEM_ID = 1 << 2;
+    private static final int GET_ITEM_VIEW_TYPE = 1 << 3;
+    private static final int HAS_STABLE_IDS = 1 << 4;
+    private static final int IS_ENABLED = 1 << 5;
+    private static final int SWAP_ITEMS = 1 << 6;
+    private static final int ADD = 1 << 7;
+    private static final int SECTIONS = 1 << 8;
+
+    /**
+     * For each {@link BaseAdapterDecorator} subclass, a mask of the methods it overrides.
+     */
+    @NonNull
+    private static final Map<Class<?>, Integer> sOverrideMasks = new HashMap<>();
+
+    @NonNull
+    private final BaseAdapter mRootAdapter;
+
+    @NonNull
+    private final BaseAdapter mCountAdapter;
+
+    @NonNull
+    private final BaseAdapter mItemAdapter;
+
+    @NonNull
+    private final BaseAdapter mItemIdAdapter;
+
+    @NonNull
+    private final BaseAdapter mItemViewTypeAdapter;
+
+    @NonNull
+    private final BaseAdapter mStableIdsAdapter;
+
+    @NonNull
+    private final BaseAdapter mEnabledAdapter;
+
+    @Nullable
+    private final Swappable mSwappable;
+
+    @Nullable
+    private final Insertable<?> mInsertable;
+
+    @Nullable
+    private final SectionIndexer mSectionIndexer;
+
+    /**
+     * Resolves the chain starting at given adapter.
+     *
+     * @param decoratedBaseAdapter the adapter a {@link BaseAdapterDecorator} decorates.
+     */
+    DecoratorPipeline(@NonNull final BaseAdapter decoratedBaseAdapter) {
+        BaseAdapter rootAdapter = decoratedBaseAdapter;
+        while (rootAdapter instanceof BaseAdapterDecorator) {
+            rootAdapter = ((BaseAdapterDecorator) rootAdapter).getDecoratedBaseAdapter();
+        }
+        mRootAdapter = rootAdapter;
+
+        mCountAdapter = resolve(decoratedBaseAdapter, GET_COUNT);
+        mItemAdapter = resolve(decoratedBaseAdapter, GET_ITEM);
+        mItemIdAdapter = resolve(decoratedBaseAdapter, GET_ITEM_ID);
+        mItemViewTypeAdapter = resolve(decoratedBaseAdapter, GET_ITEM_VIEW_TYPE);
+        mStableIdsAdapter = resolve(decoratedBaseAdapter, HAS_STABLE_IDS);
+        mEnabledAdapter = resolve(decoratedBaseAdapter, IS_ENABLED);
+
+        BaseAdapter swappable = resolve(decoratedBaseAdapter, SWAP_ITEMS);
+        mSwappable = swappable instanceof Swappable ? (Swappable) swappable : null;
+
+        BaseAdapter insertable = resolve(decoratedBaseAdapter, ADD);
+        mInsertable = insertable instanceof Insertable ? (Insertable<?>) insertable : null;
+
+        BaseAdapter sectionIndexer = resolve(decoratedBaseAdapter, SECTIONS);
+        mSectionIndexer = sectionIndexer instanceof SectionIndexer ? (SectionIndexer) sectionIndexer : null;
+    }
+
+    @NonNull
+    BaseAdapter getRootAdapter() {
+        return mRootAdapter;
+    }
+
+    @NonNull
+    BaseAdapter getCountAdapter() {
+        return mCountAdapter;
+    }
+
+    @NonNull
+    BaseAdapter getItemAdapter() {
+        return mItemAdapter;
+    }
+
+    @NonNull
+    BaseAdapter getItemIdAdapter() {
+        return mItemIdAdapter;
+    }
+
+    @NonNull
+    BaseAdapter getItemViewTypeAdapter() {
+        return mItemViewTypeAdapter;
+    }
+
+    @NonNull
+    BaseAdapter getStableIdsAdapter() {
+        return mStableIdsAdapter;
+    }
+
+    @NonNull
+    BaseAdapter getEnabledAdapter() {
+        return mEnabledAdapter;
+    }
+
+    /**
+     * Returns the first adapter in the chain that swaps items itself, or {@code null} if it does not implement {@link Swappable}.
+     */
+    @Nullable
+    Swappable getSwappable() {
+        return mSwappable;
+    }
+
+    /**
+     * Returns the first adapter in the chain that inserts items itself, or {@code null} if it does not implement {@link Insertable}.
+     */
+    @Nullable
+    Insertable<?> getInsertable() {
+        return mInsertable;
+    }
+
+    /**
+     * Returns the first adapter in the chain that indexes sections itself, or {@code null} if it does not implement {@link SectionIndexer}.
+     */
+    @Nullable
+    SectionIndexer getSectionIndexer() {
+        return mSectionIndexer;
+    }
+
+    /**
+     * Returns the first adapter starting at given adapter which is not a {@link BaseAdapterDecorator} that merely forwards the methods identified by given flag.
+     */
+    @NonNull
+    private static BaseAdapter resolve(@NonNull final BaseAdapter adapter, final int methodFlag) {
+        BaseAdapter result = adapter;
+        while (result instanceof BaseAdapterDecorator && (getOverrideMask(result.getClass()) & methodFlag) == 0) {
+            result = ((BaseAdapterDecorator) result).getDecoratedBaseAdapter();
+        }
+        return result;
+    }
+
+    private static int getOverrideMask(@NonNull final Class<?> decoratorClass) {
+        Integer mask = sOverrideMasks.get(decoratorClass);
+        if (mask == null) {
+            mask = computeOverrideMask(decoratorClass);
+            sOverrideMasks.put(decoratorClass, mask);
+        }
+        return mask;
+    }
+
+    private static int computeOverrideMask(@NonNull final Class<?> decoratorClass) {
+        int mask = 0;
+        if (overrides(decoratorClass, "getCount")) {
+            mask |= GET_COUNT;
+        }
+        if (overrides(decoratorClass, "getItem", int.class)) {
+            mask |= GET_ITEM;
+        }
+        if (overrides(decoratorClass, "getItemId", int.class)) {
+            mask |= GET_ITEM_ID;
+        }
+        if (overrides(decoratorClass, "getItemViewType", int.class)) {
+            mask |= GET_ITEM_VIEW_TYPE;
+        }
+        if (overrides(decoratorClass, "hasStableIds")) {
+            mask |= HAS_STABLE_IDS;
+        }
+        if (overrides(decoratorClass, "isEnabled", int.class)) {
+            mask |= IS_ENABLED;
+        }
+        if (overrides(decoratorClass, "swapItems", int.class, int.class)) {
+            mask |= SWAP_ITEMS;
+        }
+        if (overrides(decoratorClass, "add", int.class, Object.class)) {
+            mask |= ADD;
+        }
+        if (overrides(decoratorClass, "getSections") || overrides(decoratorClass, "getPositionForSection", int.class)
+                || overrides(decoratorClass, "getSectionForPosition", int.class)) {
+            mask |= SECTIONS;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns whether given class, or one of its superclasses below {@link BaseAdapterDecorator}, declares given public method.
+     */
+    private static boolean overrides(@NonNull final Class<?> decoratorClass, @NonNull final String methodName, @NonNull final Class<?>... parameterTypes) {
+        try {
+            return decoratorClass.getMethod(methodName, parameterTypes).getDeclaringClass() != BaseAdapterDecorator.class;
+        } catch (NoSuchMethodException ignored) {
+            /* Cannot happen for subclasses of BaseAdapterDecorator. Never skip a layer we know nothing about. */
+            return true;
+        }
+    }
+}
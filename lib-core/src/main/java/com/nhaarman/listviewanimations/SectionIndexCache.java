@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations;
+
+import android.database.DataSetObserver;
+import android.support.annotation.NonNull;
+import android.widget.BaseAdapter;
+import android.widget.SectionIndexer;
+
+import java.util.Arrays;
+
+/**
+ * A cache of the section index of an adapter implementing {@link SectionIndexer}.
+ * The sections and a section to position table are computed on the first query after the adapter notifies a data change. The section of a position is
+ * only asked from the {@code SectionIndexer} the first time that position is queried, so a data change never costs a pass over all items.
+ * This makes repeated queries of a fast scroller constant time lookups.
+ * <p/>
+ * The cache only holds values while it is registered for data changes of the adapter, see {@link #register()}. Otherwise, all queries go to the
+ * {@code SectionIndexer} directly.
+ */
+class SectionIndexCache extends DataSetObserver {
+
+    /**
+     * The sections returned when there is no {@link SectionIndexer}.
+     */
+    static final Object[] EMPTY_SECTIONS = new Object[0];
+
+    /**
+     * Marks a position of which the section has not been queried yet.
+     */
+    private static final int UNKNOWN_SECTION = Integer.MIN_VALUE;
+
+    @NonNull
+    private final BaseAdapter mAdapter;
+
+    @NonNull
+    private final SectionIndexer mSectionIndexer;
+
+    @NonNull
+    private Object[] mSections = EMPTY_SECTIONS;
+
+    /**
+     * For each position in the adapter, the index of its section, or {@link #UNKNOWN_SECTION} if it has not been queried yet.
+     */
+    @NonNull
+    private int[] mPositionToSection = new int[0];
+
+    /**
+     * For each section, the position of its first item.
+     */
+    @NonNull
+    private int[] mSectionToPosition = new int[0];
+
+    /**
+     * Whether the tables reflect the current data of the adapter.
+     */
+    private boolean mIsValid;
+
+    /**
+     * Whether this cache is registered for data changes of the adapter.
+     */
+    private boolean mIsRegistered;
+
+    /**
+     * Creates a new {@code SectionIndexCache}. Call {@link #register()} to start caching.
+     *
+     * @param adapter        the adapter the cached positions refer to.
+     * @param sectionIndexer the {@code SectionIndexer} of that adapter. Usually the adapter itself.
+     */
+    SectionIndexCache(@NonNull final BaseAdapter adapter, @NonNull final SectionIndexer sectionIndexer) {
+        mAdapter = adapter;
+        mSectionIndexer = sectionIndexer;
+    }
+
+    /**
+     * Returns the {@link SectionIndexer} this cache queries.
+     */
+    @NonNull
+    SectionIndexer getSectionIndexer() {
+        return mSectionIndexer;
+    }
+
+    /**
+     * Registers this cache for data changes of the adapter, so it can start caching. Does nothing if it is already registered.
+     */
+    void register() {
+        if (!mIsRegistered) {
+            mAdapter.registerDataSetObserver(this);
+            mIsRegistered = true;
+            mIsValid = false;
+        }
+    }
+
+    /**
+     * Unregisters this cache from the adapter, and stops caching. Does nothing if it is not registered.
+     */
+    void unregister() {
+        if (mIsRegistered) {
+            mAdapter.unregisterDataSetObserver(this);
+            mIsRegistered = false;
+            mIsValid = false;
+        }
+    }
+
+    @Override
+    public void onChanged() {
+        mIsValid = false;
+    }
+
+    @Override
+    public void onInvalidated() {
+        mIsValid = false;
+    }
+
+    @NonNull
+    Object[] getSections() {
+        if (!mIsRegistered) {
+            Object[] sections = mSectionIndexer.getSections();
+            return sections == null ? EMPTY_SECTIONS : sections;
+        }
+
+        ensureValid();
+        return mSections;
+    }
+
+    int getPositionForSection(final int sectionIndex) {
+        if (!mIsRegistered) {
+            return mSectionIndexer.getPositionForSection(sectionIndex);
+        }
+
+        ensureValid();
+        if (sectionIndex < 0 || sectionIndex >= mSectionToPosition.length) {
+            return mSectionIndexer.getPositionForSection(sectionIndex);
+        }
+        return mSectionToPosition[sectionIndex];
+    }
+
+    int getSectionForPosition(final int position) {
+        if (!mIsRegistered) {
+            return mSectionIndexer.getSectionForPosition(position);
+        }
+
+        ensureValid();
+        if (position < 0 || position >= mPositionToSection.length) {
+            return mSectionIndexer.getSectionForPosition(position);
+        }
+        if (mPositionToSection[position] == UNKNOWN_SECTION) {
+            mPositionToSection[position] = mSectionIndexer.getSectionForPosition(position);
+        }
+        return mPositionToSection[position];
+    }
+
+    private void ensureValid() {
+        if (mIsValid) {
+            return;
+        }
+
+        Object[] sections = mSectionIndexer.getSections();
+        mSections = sections == null ? EMPTY_SECTIONS : sections;
+
+        int sectionCount = mSections.length;
+        if (mSectionToPosition.length != sectionCount) {
+            mSectionToPosition = new int[sectionCount];
+        }
+        for (int i = 0; i < sectionCount; i++) {
+            mSectionToPosition[i] = mSectionIndexer.getPositionForSection(i);
+        }
+
+        int count = mAdapter.getCount();
+        if (mPositionToSection.length != count) {
+            mPositionToSection = new int[count];
+        }
+        Arrays.fill(mPositionToSection, UNKNOWN_SECTION);
+
+        mIsValid = true;
+    }
+}
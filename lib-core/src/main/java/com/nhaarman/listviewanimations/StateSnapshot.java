@@ -0,0 +1,192 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.SparseArray;
+
+/**
+ * A compact snapshot of the state of a chain of adapters, as created by {@link BaseAdapterDecorator#saveStateSnapshot()}.
+ * The state is stored as primitive {@code int} and {@code long} arrays, which are written to a {@link android.os.Parcel} directly instead of through
+ * nested {@link android.os.Bundle}s.
+ * <p/>
+ * Each adapter in the chain implementing {@link StateSnapshotParticipant} gets its own {@link Section}, identified by its depth in the chain.
+ * A section is only handed back on restore to an adapter of the same class at the same depth.
+ */
+public class StateSnapshot implements Parcelable {
+
+    /**
+     * The number of keys an adapter can use in its {@link Section}.
+     */
+    public static final int KEYS_PER_SECTION = 15;
+
+    /**
+     * The number of keys reserved per depth: one for the owner marker, plus the keys of the section.
+     */
+    private static final int SECTION_STRIDE = KEYS_PER_SECTION + 1;
+
+    public static final Creator<StateSnapshot> CREATOR = new Creator<StateSnapshot>() {
+        @Override
+        public StateSnapshot createFromParcel(@NonNull final Parcel source) {
+            return new StateSnapshot(source);
+        }
+
+        @Override
+        public StateSnapshot[] newArray(final int size) {
+            return new StateSnapshot[size];
+        }
+    };
+
+    /**
+     * The {@code int} arrays in this snapshot, by their absolute key.
+     */
+    @NonNull
+    private final SparseArray<int[]> mInts;
+
+    /**
+     * The {@code long} arrays in this snapshot, by their absolute key.
+     */
+    @NonNull
+    private final SparseArray<long[]> mLongs;
+
+    /**
+     * Creates a new, empty {@code StateSnapshot}.
+     */
+    public StateSnapshot() {
+        mInts = new SparseArray<>();
+        mLongs = new SparseArray<>();
+    }
+
+    private StateSnapshot(@NonNull final Parcel source) {
+        int intCount = source.readInt();
+        mInts = new SparseArray<>(intCount);
+        for (int i = 0; i < intCount; i++) {
+            int key = source.readInt();
+            mInts.put(key, source.createIntArray());
+        }
+
+        int longCount = source.readInt();
+        mLongs = new SparseArray<>(longCount);
+        for (int i = 0; i < longCount; i++) {
+            int key = source.readInt();
+            mLongs.put(key, source.createLongArray());
+        }
+    }
+
+    /**
+     * Creates the {@link Section} for the adapter of given class at given depth in the chain, replacing any existing section at that depth.
+     */
+    @NonNull
+    Section createSection(final int depth, @NonNull final Class<?> ownerClass) {
+        int base = depth * SECTION_STRIDE;
+        for (int key = base; key < base + SECTION_STRIDE; key++) {
+            mInts.remove(key);
+            mLongs.remove(key);
+        }
+        mInts.put(base, new int[]{ownerClass.getName().hashCode()});
+        return new Section(this, base + 1);
+    }
+
+    /**
+     * Returns the {@link Section} for the adapter of given class at given depth in the chain,
+     * or {@code null} if there is none, or if it was created for an adapter of a different class.
+     */
+    @Nullable
+    Section findSection(final int depth, @NonNull final Class<?> ownerClass) {
+        int base = depth * SECTION_STRIDE;
+        int[] owner = mInts.get(base);
+        if (owner == null || owner.length != 1 || owner[0] != ownerClass.getName().hashCode()) {
+            return null;
+        }
+        return new Section(this, base + 1);
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(@NonNull final Parcel dest, final int flags) {
+        dest.writeInt(mInts.size());
+        for (int i = 0; i < mInts.size(); i++) {
+            dest.writeInt(mInts.keyAt(i));
+            dest.writeIntArray(mInts.valueAt(i));
+        }
+
+        dest.writeInt(mLongs.size());
+        for (int i = 0; i < mLongs.size(); i++) {
+            dest.writeInt(mLongs.keyAt(i));
+            dest.writeLongArray(mLongs.valueAt(i));
+        }
+    }
+
+    /**
+     * The part of a {@link StateSnapshot} belonging to a single adapter in the chain.
+     * Keys range from {@code 0} to {@link #KEYS_PER_SECTION}, exclusive. {@code int} and {@code long} arrays are stored separately, so the same key can be
+     * used for both. Arrays are stored as is, without copying.
+     */
+    public static class Section {
+
+        @NonNull
+        private final StateSnapshot mSnapshot;
+
+        /**
+         * The absolute key of key {@code 0} of this section.
+         */
+        private final int mBaseKey;
+
+        Section(@NonNull final StateSnapshot snapshot, final int baseKey) {
+            mSnapshot = snapshot;
+            mBaseKey = baseKey;
+        }
+
+        public void putInts(final int key, @NonNull final int[] values) {
+            mSnapshot.mInts.put(getAbsoluteKey(key), values);
+        }
+
+        /**
+         * Returns the {@code int} array stored under given key, or {@code null} if there is none.
+         */
+        @Nullable
+        public int[] getInts(final int key) {
+            return mSnapshot.mInts.get(getAbsoluteKey(key));
+        }
+
+        public void putLongs(final int key, @NonNull final long[] values) {
+            mSnapshot.mLongs.put(getAbsoluteKey(key), values);
+        }
+
+        /**
+         * Returns the {@code long} array stored under given key, or {@code null} if there is none.
+         */
+        @Nullable
+        public long[] getLongs(final int key) {
+            return mSnapshot.mLongs.get(getAbsoluteKey(key));
+        }
+
+        private int getAbsoluteKey(final int key) {
+            if (key < 0 || key >= KEYS_PER_SECTION) {
+                throw new IllegalArgumentException("Key " + key + " is out of range, should be between 0 and " + KEYS_PER_SECTION + " (exclusive)!");
+            }
+            return mBaseKey + key;
+        }
+    }
+}
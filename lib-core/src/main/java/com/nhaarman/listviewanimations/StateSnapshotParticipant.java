@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations;
+
+import android.support.annotation.NonNull;
+
+/**
+ * An adapter that can save its dynamic state to, and restore it from, a {@link StateSnapshot}.
+ * All participating adapters in a chain are visited by {@link BaseAdapterDecorator#saveStateSnapshot()} and
+ * {@link BaseAdapterDecorator#restoreStateSnapshot(StateSnapshot)}.
+ */
+public interface StateSnapshotParticipant {
+
+    /**
+     * Saves the dynamic state of this adapter to given {@link StateSnapshot.Section}.
+     */
+    void onSaveStateSnapshot(@NonNull StateSnapshot.Section section);
+
+    /**
+     * Restores the dynamic state of this adapter from given {@link StateSnapshot.Section}, previously passed to {@link #onSaveStateSnapshot(StateSnapshot.Section)}.
+     */
+    void onRestoreStateSnapshot(@NonNull StateSnapshot.Section section);
+}
@@ -24,6 +24,8 @@ import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
 import com.nhaarman.listviewanimations.BaseAdapterDecorator;
+import com.nhaarman.listviewanimations.StateSnapshot;
+import com.nhaarman.listviewanimations.StateSnapshotParticipant;
 import com.nhaarman.listviewanimations.util.AnimatorUtil;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
 import com.nineoldandroids.animation.Animator;
@@ -33,18 +35,33 @@ import com.nineoldandroids.animation.ObjectAnimator;
  * A {@link BaseAdapterDecorator} class which applies multiple {@link Animator}s at once to views when they are first shown. The Animators applied include the animations specified
  * in {@link #getAnimators(ViewGroup, View)}, plus an alpha transition.
  */
-public abstract class AnimationAdapter extends BaseAdapterDecorator {
+public abstract class AnimationAdapter extends BaseAdapterDecorator implements StateSnapshotParticipant {
 
     /**
      * Saved instance state key for the ViewAniamt
      */
     private static final String SAVEDINSTANCESTATE_VIEWANIMATOR = "savedinstancestate_viewanimator";
 
+    /**
+     * State snapshot key for the animation progress of the ViewAnimator.
+     */
+    private static final int SNAPSHOT_KEY_ANIMATION_PROGRESS = 0;
+
     /**
      * Alpha property
      */
     private static final String ALPHA = "alpha";
 
+    /**
+     * The alpha transition applied to all views when {@link EntranceTransition}s are used.
+     */
+    private static final EntranceTransition ALPHA_TRANSITION = new EntranceTransition(ViewProperty.ALPHA, 0, 1);
+
+    /**
+     * An empty array of EntranceTransitions, used when there are no additional transitions.
+     */
+    private static final EntranceTransition[] NO_TRANSITIONS = new EntranceTransition[0];
+
     /**
      * The ViewAnimator responsible for animating the Views.
      */
@@ -62,6 +79,24 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
      */
     private boolean mGridViewPossiblyMeasuring;
 
+    /**
+     * The decorated adapter's transitions that {@link #mAllEntranceTransitions} was built from.
+     */
+    @Nullable
+    private EntranceTransition[] mLastChildEntranceTransitions;
+
+    /**
+     * This adapter's transitions that {@link #mAllEntranceTransitions} was built from.
+     */
+    @Nullable
+    private EntranceTransition[] mLastEntranceTransitions;
+
+    /**
+     * The last result of {@link #getAllEntranceTransitions(ViewGroup, View)}, reused as long as the same transition arrays are returned.
+     */
+    @Nullable
+    private EntranceTransition[] mAllEntranceTransitions;
+
     /**
      * The position of the item that the GridView is possibly measuring.
      */
@@ -96,6 +131,7 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
      */
     private void setIsWrapped() {
         mIsRootAdapter = false;
+        mAllEntranceTransitions = null;
     }
 
     /**
@@ -139,10 +175,17 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
             }
         }
 
+        AnimationMetricsListener metricsListener = mIsRootAdapter && mViewAnimator != null ? mViewAnimator.getAnimationMetricsListener() : null;
+        long getViewStartNanos = metricsListener == null ? 0 : System.nanoTime();
+
         View itemView = super.getView(position, convertView, parent);
 
+        if (metricsListener != null) {
+            metricsListener.onViewBound(position, System.nanoTime() - getViewStartNanos);
+        }
+
         if (mIsRootAdapter) {
-            animateViewIfNecessary(position, itemView, parent);
+            animateViewIfNecessary(position, itemView, parent, getViewStartNanos);
         }
         return itemView;
     }
@@ -150,11 +193,12 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
     /**
      * Animates given View if necessary.
      *
-     * @param position the position of the item the View represents.
-     * @param view     the View that should be animated.
-     * @param parent   the parent the View is hosted in.
+     * @param position          the position of the item the View represents.
+     * @param view              the View that should be animated.
+     * @param parent            the parent the View is hosted in.
+     * @param getViewStartNanos the time in nanoseconds at which {@code getView} was called, or 0 if metrics are disabled.
      */
-    private void animateViewIfNecessary(final int position, @NonNull final View view, @NonNull final ViewGroup parent) {
+    private void animateViewIfNecessary(final int position, @NonNull final View view, @NonNull final ViewGroup parent, final long getViewStartNanos) {
         assert mViewAnimator != null;
 
         /* GridView measures the first View which is returned by getView(int, View, ViewGroup), but does not use that View.
@@ -167,6 +211,18 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
             mViewAnimator.setLastAnimatedPosition(-1);
         }
 
+        if (mViewAnimator.isEntranceTransitionsEnabled()) {
+            if (!mViewAnimator.shouldAnimate(position)) {
+                return;
+            }
+
+            EntranceTransition[] transitions = getAllEntranceTransitions(parent, view);
+            if (transitions != null) {
+                mViewAnimator.animateViewIfNecessary(position, view, transitions, getViewStartNanos);
+                return;
+            }
+        }
+
         Animator[] childAnimators;
         if (getDecoratedBaseAdapter() instanceof AnimationAdapter) {
             childAnimators = ((AnimationAdapter) getDecoratedBaseAdapter()).getAnimators(parent, view);
@@ -177,7 +233,7 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
         Animator alphaAnimator = ObjectAnimator.ofFloat(view, ALPHA, 0, 1);
 
         Animator[] concatAnimators = AnimatorUtil.concatAnimators(childAnimators, animators, alphaAnimator);
-        mViewAnimator.animateViewIfNecessary(position, view, concatAnimators);
+        mViewAnimator.animateViewIfNecessary(position, view, concatAnimators, getViewStartNanos);
     }
 
     /**
@@ -189,6 +245,63 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
     @NonNull
     public abstract Animator[] getAnimators(@NonNull ViewGroup parent, @NonNull View view);
 
+    /**
+     * Returns the {@link EntranceTransition}s to apply to the views, as a typed equivalent of {@link #getAnimators(ViewGroup, View)}.
+     * These are only used when enabled using {@link ViewAnimator#setEntranceTransitionsEnabled(boolean)}. In addition to the returned transitions,
+     * an alpha transition will be applied to the view.
+     * <p/>
+     * Returns {@code null} by default, in which case the Animators are used. Subclasses which override {@code getAnimators} should override this method as well.
+     * <p/>
+     * Since {@code EntranceTransition}s are immutable, implementations should return the same array for every View where possible, so that binding a View
+     * does not allocate. The returned array is never modified.
+     *
+     * @param parent The parent of the view
+     * @param view   The view that will be animated, as retrieved by getView().
+     */
+    @Nullable
+    public EntranceTransition[] getEntranceTransitions(@NonNull final ViewGroup parent, @NonNull final View view) {
+        return null;
+    }
+
+    /**
+     * Returns the {@link EntranceTransition}s of this adapter and all decorated {@code AnimationAdapter}s, plus the alpha transition,
+     * or {@code null} if any of them does not provide transitions.
+     * The concatenated array is only rebuilt when one of the adapters returns a different array than for the previous View.
+     */
+    @Nullable
+    private EntranceTransition[] getAllEntranceTransitions(@NonNull final ViewGroup parent, @NonNull final View view) {
+        EntranceTransition[] childTransitions = NO_TRANSITIONS;
+        if (getDecoratedBaseAdapter() instanceof AnimationAdapter) {
+            childTransitions = ((AnimationAdapter) getDecoratedBaseAdapter()).getAllEntranceTransitions(parent, view);
+            if (childTransitions == null) {
+                return null;
+            }
+        }
+
+        EntranceTransition[] transitions = getEntranceTransitions(parent, view);
+        if (transitions == null) {
+            return null;
+        }
+
+        if (childTransitions == mLastChildEntranceTransitions && transitions == mLastEntranceTransitions && mAllEntranceTransitions != null) {
+            return mAllEntranceTransitions;
+        }
+
+        /* The alpha transition is added once, by the root adapter. */
+        int alphaCount = mIsRootAdapter ? 1 : 0;
+        EntranceTransition[] result = new EntranceTransition[childTransitions.length + transitions.length + alphaCount];
+        System.arraycopy(childTransitions, 0, result, 0, childTransitions.length);
+        System.arraycopy(transitions, 0, result, childTransitions.length, transitions.length);
+        if (mIsRootAdapter) {
+            result[result.length - 1] = ALPHA_TRANSITION;
+        }
+
+        mLastChildEntranceTransitions = childTransitions;
+        mLastEntranceTransitions = transitions;
+        mAllEntranceTransitions = result;
+        return result;
+    }
+
     /**
      * Returns a Parcelable object containing the AnimationAdapter's current dynamic state.
      */
@@ -216,4 +329,31 @@ public abstract class AnimationAdapter extends BaseAdapterDecorator {
             }
         }
     }
+
+    @Override
+    public void onSaveStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        if (mViewAnimator != null) {
+            section.putInts(SNAPSHOT_KEY_ANIMATION_PROGRESS, mViewAnimator.getAnimationProgress());
+        }
+    }
+
+    /**
+     * Restores the animation progress of the {@link com.nhaarman.listviewanimations.appearance.ViewAnimator}.
+     * When views have been animated before, the GridView measuring heuristic is skipped as well, so the restored views are neither animated again
+     * nor is the animation progress reset by the first layout pass.
+     */
+    @Override
+    public void onRestoreStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        if (mViewAnimator == null) {
+            throw new IllegalStateException("Call setAbsListView() on this AnimationAdapter first!");
+        }
+
+        int[] progress = section.getInts(SNAPSHOT_KEY_ANIMATION_PROGRESS);
+        if (progress != null) {
+            mViewAnimator.setAnimationProgress(progress);
+            if (progress[1] != -1) {
+                mGridViewPossiblyMeasuring = false;
+            }
+        }
+    }
 }
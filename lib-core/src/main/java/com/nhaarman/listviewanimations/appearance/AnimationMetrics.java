@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+
+/**
+ * An {@link AnimationMetricsListener} which records the reported timings in memory, in histograms with exponentially growing buckets.
+ * Use {@link #getBindTimeSnapshot()}, {@link #getFirstFrameLatencySnapshot()} and {@link #getFrameOverrunSnapshot()} to read them.
+ * <p/>
+ * Usage:
+ * <pre>
+ * AnimationMetrics metrics = new AnimationMetrics();
+ * animationAdapter.getViewAnimator().setAnimationMetricsListener(metrics);
+ * </pre>
+ */
+public class AnimationMetrics implements AnimationMetricsListener {
+
+    /**
+     * The upper bound in nanoseconds of the first histogram bucket. Each next bucket doubles the bound.
+     */
+    private static final long FIRST_BUCKET_UPPER_BOUND_NANOS = 250000;
+
+    /**
+     * The number of histogram buckets. The last bucket also holds all values above its upper bound.
+     */
+    private static final int BUCKET_COUNT = 16;
+
+    /**
+     * The bind times of the Views, through the decorated adapters.
+     */
+    @NonNull
+    private final Histogram mBindTimes = new Histogram();
+
+    /**
+     * The latencies between {@code getView} and the first animated frame.
+     */
+    @NonNull
+    private final Histogram mFirstFrameLatencies = new Histogram();
+
+    /**
+     * The intervals of the frames that overran while starting animations.
+     */
+    @NonNull
+    private final Histogram mFrameOverruns = new Histogram();
+
+    /**
+     * The number of entrance animations that are currently running.
+     */
+    private int mRunningAnimatorCount;
+
+    /**
+     * The highest number of concurrently running entrance animations since creation or the last call to {@link #clear()}.
+     */
+    private int mMaxRunningAnimatorCount;
+
+    @Override
+    public void onViewBound(final int position, final long bindTimeNanos) {
+        mBindTimes.record(bindTimeNanos);
+    }
+
+    @Override
+    public void onFirstAnimatedFrame(final int position, final long latencyNanos) {
+        mFirstFrameLatencies.record(latencyNanos);
+    }
+
+    @Override
+    public void onRunningAnimatorCountChanged(final int runningAnimatorCount) {
+        mRunningAnimatorCount = runningAnimatorCount;
+        mMaxRunningAnimatorCount = Math.max(mMaxRunningAnimatorCount, runningAnimatorCount);
+    }
+
+    @Override
+    public void onFrameOverrun(final int position, final int startedAnimatorCount, final long frameIntervalNanos) {
+        mFrameOverruns.record(frameIntervalNanos);
+    }
+
+    /**
+     * Returns a snapshot of the recorded bind times.
+     */
+    @NonNull
+    public Snapshot getBindTimeSnapshot() {
+        return mBindTimes.snapshot();
+    }
+
+    /**
+     * Returns a snapshot of the recorded latencies between {@code getView} and the first animated frame.
+     */
+    @NonNull
+    public Snapshot getFirstFrameLatencySnapshot() {
+        return mFirstFrameLatencies.snapshot();
+    }
+
+    /**
+     * Returns a snapshot of the recorded intervals of frames that overran while starting animations.
+     */
+    @NonNull
+    public Snapshot getFrameOverrunSnapshot() {
+        return mFrameOverruns.snapshot();
+    }
+
+    /**
+     * Returns the number of entrance animations that are currently running.
+     */
+    public int getRunningAnimatorCount() {
+        return mRunningAnimatorCount;
+    }
+
+    /**
+     * Returns the highest number of concurrently running entrance animations since creation or the last call to {@link #clear()}.
+     */
+    public int getMaxRunningAnimatorCount() {
+        return mMaxRunningAnimatorCount;
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public void clear() {
+        mBindTimes.clear();
+        mFirstFrameLatencies.clear();
+        mFrameOverruns.clear();
+        mMaxRunningAnimatorCount = mRunningAnimatorCount;
+    }
+
+    /**
+     * Returns the index of the bucket given value in nanoseconds belongs to.
+     */
+    private static int bucketIndex(final long valueNanos) {
+        int index = 0;
+        long upperBound = FIRST_BUCKET_UPPER_BOUND_NANOS;
+        while (valueNanos > upperBound && index < BUCKET_COUNT - 1) {
+            upperBound <<= 1;
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * A mutable histogram of values in nanoseconds.
+     */
+    private static class Histogram {
+
+        @NonNull
+        private final int[] mBucketCounts = new int[BUCKET_COUNT];
+
+        private int mCount;
+
+        private long mSumNanos;
+
+        private long mMaxNanos;
+
+        void record(final long valueNanos) {
+            mBucketCounts[bucketIndex(valueNanos)]++;
+            mCount++;
+            mSumNanos += valueNanos;
+            mMaxNanos = Math.max(mMaxNanos, valueNanos);
+        }
+
+        void clear() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                mBucketCounts[i] = 0;
+            }
+            mCount = 0;
+            mSumNanos = 0;
+            mMaxNanos = 0;
+        }
+
+        @NonNull
+        Snapshot snapshot() {
+            int[] bucketCounts = new int[BUCKET_COUNT];
+            System.arraycopy(mBucketCounts, 0, bucketCounts, 0, BUCKET_COUNT);
+            return new Snapshot(bucketCounts, mCount, mSumNanos, mMaxNanos);
+        }
+    }
+
+    /**
+     * An immutable copy of a histogram of values in nanoseconds.
+     * Bucket {@code i} holds the values greater than the upper bound of bucket {@code i - 1}, and smaller than or equal to its own upper bound.
+     */
+    public static class Snapshot {
+
+        @NonNull
+        private final int[] mBucketCounts;
+
+        private final int mCount;
+
+        private final long mSumNanos;
+
+        private final long mMaxNanos;
+
+        Snapshot(@NonNull final int[] bucketCounts, final int count, final long sumNanos, final long maxNanos) {
+            mBucketCounts = bucketCounts;
+            mCount = count;
+            mSumNanos = sumNanos;
+            mMaxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the number of recorded values.
+         */
+        public int getCount() {
+            return mCount;
+        }
+
+        /**
+         * Returns the mean of the recorded values in nanoseconds, or 0 if there are none.
+         */
+        public long getMeanNanos() {
+            return mCount == 0 ? 0 : mSumNanos / mCount;
+        }
+
+        /**
+         * Returns the largest recorded value in nanoseconds, or 0 if there are none.
+         */
+        public long getMaxNanos() {
+            return mMaxNanos;
+        }
+
+        /**
+         * Returns the number of buckets in this histogram.
+         */
+        public int getBucketCount() {
+            return mBucketCounts.length;
+        }
+
+        /**
+         * Returns the number of values in the bucket at given index.
+         */
+        public int getBucketValueCount(final int index) {
+            return mBucketCounts[index];
+        }
+
+        /**
+         * Returns the upper bound in nanoseconds of the bucket at given index. The last bucket also holds all larger values.
+         */
+        public long getBucketUpperBoundNanos(final int index) {
+            return FIRST_BUCKET_UPPER_BOUND_NANOS << index;
+        }
+
+        /**
+         * Returns an estimate of given percentile in nanoseconds: the upper bound of the bucket that contains it, capped by the largest recorded value.
+         *
+         * @param percentile the percentile, between 0 and 100.
+         */
+        public long getPercentileNanos(final double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile should be between 0 and 100, was " + percentile);
+            }
+            if (mCount == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * mCount));
+            long seen = 0;
+            for (int i = 0; i < mBucketCounts.length; i++) {
+                seen += mBucketCounts[i];
+                if (seen >= rank) {
+                    return Math.min(getBucketUpperBoundNanos(i), mMaxNanos);
+                }
+            }
+            return mMaxNanos;
+        }
+    }
+}
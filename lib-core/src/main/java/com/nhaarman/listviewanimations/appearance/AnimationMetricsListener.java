@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+/**
+ * A listener which receives timing metrics of entrance animations, for example to forward them to performance telemetry.
+ * Set it using {@link ViewAnimator#setAnimationMetricsListener(AnimationMetricsListener)}. When no listener is set, no measurements are taken.
+ * {@link AnimationMetrics} is an implementation which keeps in-memory histograms.
+ * <p/>
+ * All methods are called on the main thread. Implementations should return quickly.
+ */
+public interface AnimationMetricsListener {
+
+    /**
+     * Called when the root {@link AnimationAdapter} has retrieved a {@code View} through its chain of decorated adapters.
+     *
+     * @param position      the position of the item.
+     * @param bindTimeNanos the time in nanoseconds the decorated adapters took to return the {@code View}.
+     */
+    void onViewBound(int position, long bindTimeNanos);
+
+    /**
+     * Called when the entrance animation of an item has rendered its first frame.
+     *
+     * @param position     the position of the item.
+     * @param latencyNanos the time in nanoseconds between the start of {@code getView} and the first animated frame, including any start delay.
+     */
+    void onFirstAnimatedFrame(int position, long latencyNanos);
+
+    /**
+     * Called when the number of running entrance animations has changed.
+     *
+     * @param runningAnimatorCount the number of entrance animations that are started, but have not ended yet.
+     */
+    void onRunningAnimatorCountChanged(int runningAnimatorCount);
+
+    /**
+     * Called when a frame in which entrance animations were started took longer than a display frame.
+     *
+     * @param position             the position of the last item whose animation was started in the frame.
+     * @param startedAnimatorCount the number of entrance animations that were started in the frame.
+     * @param frameIntervalNanos   the time in nanoseconds between the frame and the next one.
+     */
+    void onFrameOverrun(int position, int startedAnimatorCount, long frameIntervalNanos);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.util.SparseArray;
+
+import com.nineoldandroids.animation.Animator;
+import com.nineoldandroids.animation.AnimatorInflater;
+
+/**
+ * A cache of {@link Animator}s inflated from animator resources.
+ * Each resource is parsed once; {@link #obtain(int)} hands out clones of the parsed template, which is much cheaper than inflating the resource again.
+ * <p/>
+ * This class should only be used on the main thread.
+ */
+class AnimatorTemplateCache {
+
+    @NonNull
+    private final Context mContext;
+
+    /**
+     * The parsed templates. Keys are animator resource ids.
+     */
+    @NonNull
+    private final SparseArray<Animator> mTemplates = new SparseArray<>();
+
+    AnimatorTemplateCache(@NonNull final Context context) {
+        mContext = context;
+    }
+
+    /**
+     * Returns a new {@link Animator} for given animator resource id. The resource is inflated only the first time it is requested.
+     */
+    @NonNull
+    Animator obtain(final int animatorResId) {
+        Animator template = mTemplates.get(animatorResId);
+        if (template == null) {
+            template = AnimatorInflater.loadAnimator(mContext, animatorResId);
+            mTemplates.put(animatorResId, template);
+        }
+        return template.clone();
+    }
+}
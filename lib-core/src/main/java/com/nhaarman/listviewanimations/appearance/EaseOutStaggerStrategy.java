@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A {@link StaggerStrategy} which starts the first items of a wave quickly after each other, and slows down towards the end of the wave.
+ * The time between two consecutive items grows from zero at the first item to the animation delay at item {@code itemCount}. From there on, items are
+ * delayed linearly, like with {@link LinearStaggerStrategy}, so there is no jump in the pace of the wave.
+ */
+public class EaseOutStaggerStrategy implements StaggerStrategy {
+
+    private static final int DEFAULT_ITEM_COUNT = 10;
+
+    /**
+     * The number of items over which the time between consecutive items grows to the animation delay.
+     */
+    private final int mItemCount;
+
+    /**
+     * Creates a new {@code EaseOutStaggerStrategy} with a curve spread over {@value #DEFAULT_ITEM_COUNT} items.
+     */
+    public EaseOutStaggerStrategy() {
+        this(DEFAULT_ITEM_COUNT);
+    }
+
+    /**
+     * Creates a new {@code EaseOutStaggerStrategy}.
+     *
+     * @param itemCount the number of items the curve is spread over. Should be positive.
+     */
+    public EaseOutStaggerStrategy(final int itemCount) {
+        if (itemCount <= 0) {
+            throw new IllegalArgumentException("itemCount should be positive, was " + itemCount);
+        }
+        mItemCount = itemCount;
+    }
+
+    @Override
+    public int getStaggerMillis(final int index, final int row, final int column, @NonNull final StaggerTimeline timeline) {
+        int animationDelayMillis = timeline.getAnimationDelayMillis();
+        if (index >= mItemCount) {
+            /* Continues the curve with its slope at mItemCount, which is one animation delay per item. */
+            return mItemCount * animationDelayMillis / 2 + (index - mItemCount) * animationDelayMillis;
+        }
+
+        return index * index * animationDelayMillis / (2 * mItemCount);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.View;
+import android.view.animation.AccelerateDecelerateInterpolator;
+import android.view.animation.Interpolator;
+
+import com.nhaarman.listviewanimations.util.FrameCallbackScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays {@link EntranceTransition}s for all entering Views of a list from a single {@link FrameCallbackScheduler}, instead of starting an
+ * {@code AnimatorSet} per View. Finished entries are pooled and reused.
+ * <p/>
+ * All methods of this class should be called on the main thread.
+ */
+class EntranceAnimationDriver implements FrameCallbackScheduler.Callback {
+
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    /**
+     * The interpolator used for all transitions, which is the default interpolator of Animators.
+     */
+    @NonNull
+    private final Interpolator mInterpolator = new AccelerateDecelerateInterpolator();
+
+    @NonNull
+    private final FrameCallbackScheduler mFrameCallbackScheduler = new FrameCallbackScheduler(this);
+
+    /**
+     * The entries that are waiting for their start delay or are running.
+     */
+    @NonNull
+    private final List<Entry> mEntries = new ArrayList<>();
+
+    /**
+     * Finished entries, available for reuse.
+     */
+    @NonNull
+    private final List<Entry> mEntryPool = new ArrayList<>();
+
+    /**
+     * The {@link Listener} to notify of progress, or {@code null}.
+     */
+    @Nullable
+    private Listener mListener;
+
+    void setListener(@Nullable final Listener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Starts playing given transitions on given View. The start values are applied immediately.
+     *
+     * @param position          the position of the item the View represents.
+     * @param view              the View to animate.
+     * @param transitions       the transitions to play.
+     * @param delayMillis       the delay in millis before the transitions start.
+     * @param durationMillis    the duration in millis of the transitions.
+     * @param getViewStartNanos the time in nanoseconds at which {@code getView} was called for the item, passed back to the {@link Listener}.
+     * @param isTracked         whether the {@link Listener} should be notified of the progress of these transitions.
+     */
+    void start(final int position, @NonNull final View view, @NonNull final EntranceTransition[] transitions, final long delayMillis, final long durationMillis,
+               final long getViewStartNanos, final boolean isTracked) {
+        end(view);
+
+        Entry entry = mEntryPool.isEmpty() ? new Entry() : mEntryPool.remove(mEntryPool.size() - 1);
+        entry.mPosition = position;
+        entry.mView = view;
+        entry.mTransitions = transitions;
+        entry.mStartNanos = System.nanoTime() + delayMillis * NANOS_PER_MILLI;
+        entry.mDurationNanos = Math.max(1, durationMillis * NANOS_PER_MILLI);
+        entry.mGetViewStartNanos = getViewStartNanos;
+        entry.mHasRenderedFrame = false;
+        entry.mIsTracked = isTracked;
+        entry.apply(0);
+
+        mEntries.add(entry);
+        mFrameCallbackScheduler.scheduleFrame();
+    }
+
+    /**
+     * Ends the transitions of given View, if any, by applying their end values.
+     */
+    void end(@NonNull final View view) {
+        for (int i = 0; i < mEntries.size(); i++) {
+            Entry entry = mEntries.get(i);
+            if (entry.mView == view) {
+                entry.apply(mInterpolator.getInterpolation(1));
+                finish(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops all transitions, leaving the Views at their current values.
+     */
+    void cancelAll() {
+        while (!mEntries.isEmpty()) {
+            finish(mEntries.size() - 1);
+        }
+        mFrameCallbackScheduler.cancel();
+    }
+
+    @Override
+    public void onFrame(final long frameTimeNanos) {
+        long nowNanos = System.nanoTime();
+        for (int i = mEntries.size() - 1; i >= 0; i--) {
+            Entry entry = mEntries.get(i);
+            long elapsedNanos = nowNanos - entry.mStartNanos;
+            if (elapsedNanos < 0) {
+                continue;
+            }
+
+            float fraction = Math.min(1, (float) elapsedNanos / entry.mDurationNanos);
+            entry.apply(mInterpolator.getInterpolation(fraction));
+
+            if (!entry.mHasRenderedFrame) {
+                entry.mHasRenderedFrame = true;
+                if (entry.mIsTracked && mListener != null) {
+                    mListener.onFirstFrame(entry.mPosition, entry.mGetViewStartNanos);
+                }
+            }
+
+            if (fraction >= 1) {
+                finish(i);
+            }
+        }
+
+        if (!mEntries.isEmpty()) {
+            mFrameCallbackScheduler.scheduleFrame();
+        }
+    }
+
+    /**
+     * Removes the entry at given index, and returns it to the pool.
+     */
+    private void finish(final int index) {
+        /* Order does not matter, so move the last entry into the gap instead of shifting. */
+        int lastIndex = mEntries.size() - 1;
+        Entry entry = mEntries.get(index);
+        mEntries.set(index, mEntries.get(lastIndex));
+        mEntries.remove(lastIndex);
+
+        entry.mView = null;
+        entry.mTransitions = null;
+        mEntryPool.add(entry);
+
+        if (entry.mIsTracked && mListener != null) {
+            mListener.onFinished();
+        }
+    }
+
+    /**
+     * A listener which is notified of the progress of the transitions that were started as tracked.
+     */
+    interface Listener {
+
+        /**
+         * Called when the transitions of the item at given position have rendered their first frame.
+         */
+        void onFirstFrame(int position, long getViewStartNanos);
+
+        /**
+         * Called when the transitions of a View have finished, were ended or were cancelled.
+         */
+        void onFinished();
+    }
+
+    /**
+     * The transitions of a single View.
+     */
+    private static class Entry {
+
+        private int mPosition;
+
+        @Nullable
+        private View mView;
+
+        @Nullable
+        private EntranceTransition[] mTransitions;
+
+        private long mStartNanos;
+
+        private long mDurationNanos;
+
+        private long mGetViewStartNanos;
+
+        private boolean mHasRenderedFrame;
+
+        private boolean mIsTracked;
+
+        void apply(final float fraction) {
+            assert mView != null && mTransitions != null;
+            for (EntranceTransition transition : mTransitions) {
+                transition.apply(mView, fraction);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+import android.view.View;
+
+/**
+ * A transition of a single {@link ViewProperty} from a start value to an end value, played when a View enters the list.
+ * Entrance transitions are the typed counterpart of the Animators returned by {@link AnimationAdapter#getAnimators(android.view.ViewGroup, android.view.View)}.
+ */
+public class EntranceTransition {
+
+    @NonNull
+    private final ViewProperty mProperty;
+
+    private final float mFromValue;
+
+    private final float mToValue;
+
+    /**
+     * Creates a new {@code EntranceTransition}.
+     *
+     * @param property  the property to animate.
+     * @param fromValue the value at the start of the transition.
+     * @param toValue   the value at the end of the transition.
+     */
+    public EntranceTransition(@NonNull final ViewProperty property, final float fromValue, final float toValue) {
+        mProperty = property;
+        mFromValue = fromValue;
+        mToValue = toValue;
+    }
+
+    /**
+     * Sets the property on given View to the value at given fraction of the transition.
+     */
+    void apply(@NonNull final View view, final float fraction) {
+        mProperty.set(view, mFromValue + (mToValue - mFromValue) * fraction);
+    }
+}
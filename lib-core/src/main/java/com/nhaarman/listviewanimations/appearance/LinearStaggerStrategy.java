@@ -0,0 +1,30 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A {@link StaggerStrategy} which delays each item by the animation delay of the {@link ViewAnimator}. This is the default.
+ */
+public class LinearStaggerStrategy implements StaggerStrategy {
+
+    @Override
+    public int getStaggerMillis(final int index, final int row, final int column, @NonNull final StaggerTimeline timeline) {
+        return index * timeline.getAnimationDelayMillis();
+    }
+}
@@ -21,29 +21,37 @@ import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
 import com.nineoldandroids.animation.Animator;
-import com.nineoldandroids.animation.AnimatorInflater;
 
 import android.support.annotation.NonNull;
 
 /**
  * An implementation of AnimationAdapter which bases the animations on
- * resources.
+ * resources. Each animator resource is parsed once; every animated View gets a clone of the parsed animator.
  */
 public abstract class ResourceAnimationAdapter extends AnimationAdapter {
 
+    /**
+     * The cache of parsed animator resources.
+     */
     @NonNull
-    private final Context mContext;
+    private final AnimatorTemplateCache mAnimatorTemplateCache;
 
     @SuppressWarnings("UnusedDeclaration")
     protected ResourceAnimationAdapter(@NonNull final BaseAdapter baseAdapter, @NonNull final Context context) {
         super(baseAdapter);
-        mContext = context;
+        mAnimatorTemplateCache = new AnimatorTemplateCache(context);
     }
 
+    /**
+     * Returns a clone of the animator parsed from {@link #getAnimationResourceId()}, with given {@code View} set as its target.
+     * Setting the target here means the animator resource does not need to be applied to the {@code View} by the caller.
+     */
     @NonNull
     @Override
     public Animator[] getAnimators(@NonNull final ViewGroup parent, @NonNull final View view) {
-        return new Animator[]{AnimatorInflater.loadAnimator(mContext, getAnimationResourceId())};
+        Animator animator = mAnimatorTemplateCache.obtain(getAnimationResourceId());
+        animator.setTarget(view);
+        return new Animator[]{animator};
     }
 
     /**
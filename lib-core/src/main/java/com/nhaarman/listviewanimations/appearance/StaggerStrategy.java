@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Decides how the start of entrance animations is spread over the items that enter together.
+ * Set it using {@link ViewAnimator#setStaggerStrategy(StaggerStrategy)}.
+ * <p/>
+ * Items enter in waves. When the list is first filled, all items that animate before the screen is full belong to one wave.
+ * When scrolling, each row that scrolls into view is its own wave.
+ */
+public interface StaggerStrategy {
+
+    /**
+     * Returns the delay in milliseconds of an item relative to the first item of its wave.
+     *
+     * @param index    the index of the item in its wave.
+     * @param row      the row of the item in its wave. Always 0 for items that scroll into view.
+     * @param column   the column of the item. Always 0 for lists.
+     * @param timeline the {@link StaggerTimeline} of the current layout pass.
+     */
+    int getStaggerMillis(int index, int row, int column, @NonNull StaggerTimeline timeline);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+/**
+ * The state of the list that entrance delays are computed from, captured once per layout pass by the {@link ViewAnimator}.
+ */
+public class StaggerTimeline {
+
+    /**
+     * The number of columns of the list; 1 for lists.
+     */
+    private final int mColumnCount;
+
+    /**
+     * Whether the items of this layout pass scroll into view, rather than filling the list initially.
+     */
+    private final boolean mIsScrolling;
+
+    /**
+     * The time of the layout pass, as returned by {@link android.os.SystemClock#uptimeMillis()}.
+     */
+    private final long mPassStartMillis;
+
+    /**
+     * The delay in millis between view animations.
+     */
+    private final int mAnimationDelayMillis;
+
+    StaggerTimeline(final int columnCount, final boolean isScrolling, final long passStartMillis, final int animationDelayMillis) {
+        mColumnCount = columnCount;
+        mIsScrolling = isScrolling;
+        mPassStartMillis = passStartMillis;
+        mAnimationDelayMillis = animationDelayMillis;
+    }
+
+    /**
+     * Returns the number of columns of the list; 1 for lists.
+     */
+    public int getColumnCount() {
+        return mColumnCount;
+    }
+
+    /**
+     * Returns whether the items of this layout pass scroll into view, rather than filling the list initially.
+     */
+    public boolean isScrolling() {
+        return mIsScrolling;
+    }
+
+    /**
+     * Returns the time of the layout pass, as returned by {@link android.os.SystemClock#uptimeMillis()}.
+     */
+    public long getPassStartMillis() {
+        return mPassStartMillis;
+    }
+
+    /**
+     * Returns the delay in millis between view animations, as set on the {@link ViewAnimator}.
+     */
+    public int getAnimationDelayMillis() {
+        return mAnimationDelayMillis;
+    }
+}
@@ -16,8 +16,6 @@
 
 package com.nhaarman.listviewanimations.appearance;
 
-import android.annotation.SuppressLint;
-import android.os.Build;
 import android.os.Bundle;
 import android.os.Parcelable;
 import android.os.SystemClock;
@@ -25,12 +23,17 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.SparseArray;
 import android.view.View;
-import android.widget.GridView;
+import android.view.ViewGroup;
 
+import com.nhaarman.listviewanimations.util.AdapterViewUtil;
+import com.nhaarman.listviewanimations.util.AnimationBackend;
+import com.nhaarman.listviewanimations.util.DisplayUtil;
+import com.nhaarman.listviewanimations.util.FrameCallbackScheduler;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
 import com.nineoldandroids.animation.Animator;
+import com.nineoldandroids.animation.AnimatorListenerAdapter;
 import com.nineoldandroids.animation.AnimatorSet;
-import com.nineoldandroids.view.ViewHelper;
+import com.nineoldandroids.animation.ValueAnimator;
 
 /**
  * A class which decides whether given Views should be animated based on their position: each View should only be animated once.
@@ -109,6 +112,78 @@ public class ViewAnimator {
      */
     private boolean mShouldAnimate = true;
 
+    /**
+     * The {@link StaggerStrategy} which spreads the animation delays of items that enter together.
+     */
+    @NonNull
+    private StaggerStrategy mStaggerStrategy = new LinearStaggerStrategy();
+
+    /**
+     * The {@link StaggerTimeline} of the current layout pass, or {@code null} if none has been captured.
+     */
+    @Nullable
+    private StaggerTimeline mStaggerTimeline;
+
+    /**
+     * The Runnable which discards {@link #mStaggerTimeline} after the layout pass.
+     */
+    @NonNull
+    private final Runnable mClearStaggerTimelineRunnable = new ClearStaggerTimelineRunnable();
+
+    /**
+     * Whether entrance animations should be played using {@link EntranceTransition}s when available.
+     */
+    private boolean mEntranceTransitionsEnabled;
+
+    /**
+     * The {@link EntranceAnimationDriver} which plays {@link EntranceTransition}s, lazily created.
+     */
+    @Nullable
+    private EntranceAnimationDriver mEntranceAnimationDriver;
+
+    /**
+     * The {@link AnimationMetricsListener} to report timings to. When {@code null}, no measurements are taken.
+     */
+    @Nullable
+    private AnimationMetricsListener mMetricsListener;
+
+    /**
+     * The {@link FrameCallbackScheduler} used to measure frame intervals while {@link #mMetricsListener} is set.
+     */
+    @Nullable
+    private FrameCallbackScheduler mFrameScheduler;
+
+    /**
+     * The number of started animations that have not ended yet. Only maintained while {@link #mMetricsListener} is set.
+     */
+    private int mRunningAnimatorCount;
+
+    /**
+     * The number of animations started since the last measured frame.
+     */
+    private int mStartedSinceLastFrame;
+
+    /**
+     * The position of the last item whose animation was started since the last measured frame.
+     */
+    private int mLastStartedPosition;
+
+    /**
+     * The time in nanoseconds, as returned by {@link System#nanoTime()}, of the last measured frame, or -1 if frames are not being measured.
+     */
+    private long mLastFrameNanos = -1;
+
+    /**
+     * The frame interval in nanoseconds above which a frame in which animations were started is reported as an overrun: one and a half display frames.
+     * Updated from the display refresh rate each time frames start being measured.
+     */
+    private long mFrameOverrunThresholdNanos = DisplayUtil.DEFAULT_FRAME_INTERVAL_NANOS * 3 / 2;
+
+    /**
+     * The number of times {@link #reset()} has been called.
+     */
+    private int mResetCount;
+
     /**
      * Creates a new ViewAnimator, using the given {@link com.nhaarman.listviewanimations.util.ListViewWrapper}.
      *
@@ -129,10 +204,22 @@ public class ViewAnimator {
             mAnimators.get(mAnimators.keyAt(i)).cancel();
         }
         mAnimators.clear();
+        if (mEntranceAnimationDriver != null) {
+            mEntranceAnimationDriver.cancelAll();
+        }
         mFirstAnimatedPosition = -1;
         mLastAnimatedPosition = -1;
         mAnimationStartMillis = -1;
         mShouldAnimate = true;
+        mStaggerTimeline = null;
+        mResetCount++;
+    }
+
+    /**
+     * Returns the number of times {@link #reset()} has been called, so state that is derived from the animation status can tell when it is outdated.
+     */
+    int getResetCount() {
+        return mResetCount;
     }
 
     /**
@@ -180,6 +267,14 @@ public class ViewAnimator {
      */
     public void setAnimationDelayMillis(final int delayMillis) {
         mAnimationDelayMillis = delayMillis;
+        mStaggerTimeline = null;
+    }
+
+    /**
+     * Sets the {@link StaggerStrategy} which spreads the animation delays of items that enter together. Defaults to {@link LinearStaggerStrategy}.
+     */
+    public void setStaggerStrategy(@NonNull final StaggerStrategy staggerStrategy) {
+        mStaggerStrategy = staggerStrategy;
     }
 
     /**
@@ -191,6 +286,52 @@ public class ViewAnimator {
         mAnimationDurationMillis = durationMillis;
     }
 
+    /**
+     * Sets the {@link AnimationMetricsListener} to report animation timings to. Metrics are disabled by default; pass {@code null} to disable them again.
+     */
+    public void setAnimationMetricsListener(@Nullable final AnimationMetricsListener listener) {
+        mMetricsListener = listener;
+        if (listener == null) {
+            if (mFrameScheduler != null) {
+                mFrameScheduler.cancel();
+            }
+            mLastFrameNanos = -1;
+            mStartedSinceLastFrame = 0;
+        }
+    }
+
+    /**
+     * Returns the {@link AnimationMetricsListener} timings are reported to, or {@code null} if metrics are disabled.
+     */
+    @Nullable
+    AnimationMetricsListener getAnimationMetricsListener() {
+        return mMetricsListener;
+    }
+
+    /**
+     * Returns the frame interval in nanoseconds above which a frame in which animations were started is reported as an overrun.
+     */
+    long getFrameOverrunThresholdNanos() {
+        return mFrameOverrunThresholdNanos;
+    }
+
+    /**
+     * Sets whether entrance animations should be played by a single shared frame callback using typed {@link ViewProperty} setters, instead of
+     * an {@code AnimatorSet} per View. Disabled by default.
+     * This only applies to {@link AnimationAdapter}s that provide {@link AnimationAdapter#getEntranceTransitions(android.view.ViewGroup, android.view.View)};
+     * other adapters keep using their Animators.
+     */
+    public void setEntranceTransitionsEnabled(final boolean enabled) {
+        mEntranceTransitionsEnabled = enabled;
+    }
+
+    /**
+     * Returns whether entrance animations should be played using {@link EntranceTransition}s when available.
+     */
+    boolean isEntranceTransitionsEnabled() {
+        return mEntranceTransitionsEnabled;
+    }
+
     /**
      * Enables animating the Views. This is the default.
      */
@@ -215,6 +356,10 @@ public class ViewAnimator {
             animator.end();
             mAnimators.remove(hashCode);
         }
+
+        if (mEntranceAnimationDriver != null) {
+            mEntranceAnimationDriver.end(view);
+        }
     }
 
     /**
@@ -224,62 +369,210 @@ public class ViewAnimator {
      * @param view     the View that should be animated.
      */
     public void animateViewIfNecessary(final int position, @NonNull final View view, @NonNull final Animator[] animators) {
-        if (mShouldAnimate && position > mLastAnimatedPosition) {
+        animateViewIfNecessary(position, view, animators, System.nanoTime());
+    }
+
+    /**
+     * Animates given View if necessary.
+     *
+     * @param position          the position of the item the View represents.
+     * @param view              the View that should be animated.
+     * @param getViewStartNanos the time in nanoseconds at which {@code getView} was called for the item, used for metrics.
+     */
+    void animateViewIfNecessary(final int position, @NonNull final View view, @NonNull final Animator[] animators, final long getViewStartNanos) {
+        if (shouldAnimate(position)) {
+            if (mFirstAnimatedPosition == -1) {
+                mFirstAnimatedPosition = position;
+            }
+
+            animateView(position, view, animators, getViewStartNanos);
+            mLastAnimatedPosition = position;
+        }
+    }
+
+    /**
+     * Returns whether the View for given position would be animated by {@link #animateViewIfNecessary(int, android.view.View, com.nineoldandroids.animation.Animator[])}.
+     */
+    boolean shouldAnimate(final int position) {
+        return mShouldAnimate && position > mLastAnimatedPosition;
+    }
+
+    /**
+     * Animates given View if necessary, playing given {@link EntranceTransition}s using the shared {@link EntranceAnimationDriver}.
+     *
+     * @param position          the position of the item the View represents.
+     * @param view              the View that should be animated.
+     * @param transitions       the transitions to play.
+     * @param getViewStartNanos the time in nanoseconds at which {@code getView} was called for the item, used for metrics.
+     */
+    void animateViewIfNecessary(final int position, @NonNull final View view, @NonNull final EntranceTransition[] transitions, final long getViewStartNanos) {
+        if (shouldAnimate(position)) {
             if (mFirstAnimatedPosition == -1) {
                 mFirstAnimatedPosition = position;
             }
 
-            animateView(position, view, animators);
+            playTransitions(position, view, transitions, getViewStartNanos);
             mLastAnimatedPosition = position;
         }
     }
 
+    /**
+     * Plays given {@link EntranceTransition}s on given View.
+     */
+    private void playTransitions(final int position, @NonNull final View view, @NonNull final EntranceTransition[] transitions, final long getViewStartNanos) {
+        if (mAnimationStartMillis == -1) {
+            mAnimationStartMillis = SystemClock.uptimeMillis();
+        }
+
+        Animator animator = mAnimators.get(view.hashCode());
+        if (animator != null) {
+            animator.end();
+            mAnimators.remove(view.hashCode());
+        }
+
+        if (mEntranceAnimationDriver == null) {
+            mEntranceAnimationDriver = new EntranceAnimationDriver();
+            mEntranceAnimationDriver.setListener(new MetricsDriverListener());
+        }
+
+        boolean isTracked = mMetricsListener != null;
+        mEntranceAnimationDriver.start(position, view, transitions, calculateAnimationDelay(position), mAnimationDurationMillis, getViewStartNanos, isTracked);
+        if (isTracked) {
+            onTrackedAnimationStarted(position);
+        }
+    }
+
+    /**
+     * Returns whether a View attached to the item at given position, such as a header, would be animated by
+     * {@link #animateAttachedView(int, android.view.View, com.nineoldandroids.animation.Animator[])}.
+     * This is the case when the item itself is the last animated item, or has not been animated yet.
+     */
+    boolean shouldAnimateAttached(final int position) {
+        return mShouldAnimate && position >= mLastAnimatedPosition;
+    }
+
+    /**
+     * Animates a View that is attached to the item at given position, such as a header.
+     * The animation shares the timeline of the items: it starts together with the animation of the item at the same position.
+     * Unlike {@link #animateViewIfNecessary(int, android.view.View, com.nineoldandroids.animation.Animator[])}, this does not mark the position as animated.
+     *
+     * @param position  the position of the item the View is attached to.
+     * @param view      the View that should be animated.
+     * @param animators the Animators to play.
+     */
+    void animateAttachedView(final int position, @NonNull final View view, @NonNull final Animator[] animators) {
+        if (mFirstAnimatedPosition == -1) {
+            mFirstAnimatedPosition = position;
+        }
+        animateView(position, view, animators, System.nanoTime());
+    }
+
     /**
      * Animates given View.
      *
      * @param view the View that should be animated.
      */
-    private void animateView(final int position, @NonNull final View view, @NonNull final Animator[] animators) {
+    private void animateView(final int position, @NonNull final View view, @NonNull final Animator[] animators, final long getViewStartNanos) {
+        if (mEntranceAnimationDriver != null) {
+            mEntranceAnimationDriver.end(view);
+        }
+
         if (mAnimationStartMillis == -1) {
             mAnimationStartMillis = SystemClock.uptimeMillis();
         }
 
-        ViewHelper.setAlpha(view, 0);
+        AnimationBackend.getInstance().setAlpha(view, 0);
 
         AnimatorSet set = new AnimatorSet();
         set.playTogether(animators);
         set.setStartDelay(calculateAnimationDelay(position));
         set.setDuration(mAnimationDurationMillis);
+        if (mMetricsListener != null) {
+            trackAnimation(position, set, animators, getViewStartNanos);
+        }
         set.start();
 
         mAnimators.put(view.hashCode(), set);
     }
 
+    /**
+     * Attaches the listeners that report the metrics of the animation of given position, and records the start for frame overrun attribution.
+     */
+    private void trackAnimation(final int position, @NonNull final AnimatorSet set, @NonNull final Animator[] animators, final long getViewStartNanos) {
+        for (Animator animator : animators) {
+            if (animator instanceof ValueAnimator) {
+                ValueAnimator valueAnimator = (ValueAnimator) animator;
+                valueAnimator.addUpdateListener(new FirstFrameUpdateListener(position, getViewStartNanos));
+                break;
+            }
+        }
+        set.addListener(new RunningCountAnimatorListener());
+
+        onTrackedAnimationStarted(position);
+    }
+
+    /**
+     * Records the start of a tracked animation of given position for the running count and frame overrun attribution.
+     */
+    private void onTrackedAnimationStarted(final int position) {
+        assert mMetricsListener != null;
+        mRunningAnimatorCount++;
+        mMetricsListener.onRunningAnimatorCountChanged(mRunningAnimatorCount);
+
+        mStartedSinceLastFrame++;
+        mLastStartedPosition = position;
+        if (mLastFrameNanos == -1) {
+            mFrameOverrunThresholdNanos = DisplayUtil.getFrameIntervalNanos(mListViewWrapper.getListView().getContext()) * 3 / 2;
+
+            /* The frame that is being built started before this call; measuring from here underestimates its length, so overruns are never over-reported. */
+            mLastFrameNanos = System.nanoTime();
+        }
+        if (mFrameScheduler == null) {
+            mFrameScheduler = new FrameCallbackScheduler(new OverrunFrameCallback());
+        }
+        mFrameScheduler.scheduleFrame();
+    }
+
     /**
      * Returns the delay in milliseconds after which animation for View with position mLastAnimatedPosition + 1 should start.
      */
-    @SuppressLint("NewApi")
     private int calculateAnimationDelay(final int position) {
-        int delay;
+        StaggerTimeline timeline = getStaggerTimeline(position);
+        int columnCount = timeline.getColumnCount();
+        int column = position % columnCount;
 
-        int lastVisiblePosition = mListViewWrapper.getLastVisiblePosition();
-        int firstVisiblePosition = mListViewWrapper.getFirstVisiblePosition();
+        if (timeline.isScrolling()) {
+            return mAnimationDelayMillis + mStaggerStrategy.getStaggerMillis(column, 0, column, timeline);
+        }
+
+        int index = position - mFirstAnimatedPosition;
+        int row = position / columnCount - mFirstAnimatedPosition / columnCount;
+        int delaySinceStart = mStaggerStrategy.getStaggerMillis(index, row, column, timeline);
+        return Math.max(0, (int) (mAnimationStartMillis + mInitialDelayMillis + delaySinceStart - timeline.getPassStartMillis()));
+    }
+
+    /**
+     * Returns the {@link StaggerTimeline} of the current layout pass, capturing it if given position is the first to animate in this pass.
+     * The timeline is discarded when the main thread has finished the layout pass.
+     */
+    @NonNull
+    private StaggerTimeline getStaggerTimeline(final int position) {
+        if (mStaggerTimeline != null) {
+            return mStaggerTimeline;
+        }
 
-        int numberOfItemsOnScreen = lastVisiblePosition - firstVisiblePosition;
+        int numberOfItemsOnScreen = mListViewWrapper.getLastVisiblePosition() - mListViewWrapper.getFirstVisiblePosition();
         int numberOfAnimatedItems = position - 1 - mFirstAnimatedPosition;
+        boolean isScrolling = numberOfItemsOnScreen + 1 < numberOfAnimatedItems;
 
-        if (numberOfItemsOnScreen + 1 < numberOfAnimatedItems) {
-            delay = mAnimationDelayMillis;
+        StaggerTimeline timeline = new StaggerTimeline(AdapterViewUtil.getColumnCount(mListViewWrapper), isScrolling, SystemClock.uptimeMillis(), mAnimationDelayMillis);
 
-            if (mListViewWrapper.getListView() instanceof GridView && Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-                int numColumns = ((GridView) mListViewWrapper.getListView()).getNumColumns();
-                delay += mAnimationDelayMillis * (position % numColumns);
-            }
-        } else {
-            int delaySinceStart = (position - mFirstAnimatedPosition) * mAnimationDelayMillis;
-            delay = Math.max(0, (int) (-SystemClock.uptimeMillis() + mAnimationStartMillis + mInitialDelayMillis + delaySinceStart));
+        ViewGroup listView = mListViewWrapper.getListView();
+        if (listView != null) {
+            mStaggerTimeline = timeline;
+            listView.post(mClearStaggerTimelineRunnable);
         }
-        return delay;
+        return timeline;
     }
 
     /**
@@ -309,4 +602,141 @@ public class ViewAnimator {
             mShouldAnimate = bundle.getBoolean(SAVEDINSTANCESTATE_SHOULDANIMATE);
         }
     }
+
+    /**
+     * Returns the animation progress of this ViewAnimator as the first animated position, the last animated position,
+     * and {@code 1} if animations are enabled or {@code 0} otherwise.
+     */
+    @NonNull
+    int[] getAnimationProgress() {
+        return new int[]{mFirstAnimatedPosition, mLastAnimatedPosition, mShouldAnimate ? 1 : 0};
+    }
+
+    /**
+     * Restores the animation progress of this ViewAnimator.
+     *
+     * @param progress the array previously returned by {@link #getAnimationProgress()}.
+     */
+    void setAnimationProgress(@NonNull final int[] progress) {
+        if (progress.length != 3) {
+            throw new IllegalArgumentException("Invalid animation progress of length " + progress.length + '!');
+        }
+        mFirstAnimatedPosition = progress[0];
+        mLastAnimatedPosition = progress[1];
+        mShouldAnimate = progress[2] != 0;
+    }
+
+    /**
+     * An {@link com.nineoldandroids.animation.ValueAnimator.AnimatorUpdateListener} which reports the latency of the first animated frame, and then removes itself.
+     */
+    private class FirstFrameUpdateListener implements ValueAnimator.AnimatorUpdateListener {
+
+        private final int mPosition;
+
+        private final long mGetViewStartNanos;
+
+        FirstFrameUpdateListener(final int position, final long getViewStartNanos) {
+            mPosition = position;
+            mGetViewStartNanos = getViewStartNanos;
+        }
+
+        @Override
+        public void onAnimationUpdate(@NonNull final ValueAnimator animation) {
+            animation.removeUpdateListener(this);
+            if (mMetricsListener != null) {
+                mMetricsListener.onFirstAnimatedFrame(mPosition, System.nanoTime() - mGetViewStartNanos);
+            }
+        }
+    }
+
+    /**
+     * An {@link EntranceAnimationDriver.Listener} which reports the metrics of tracked entrance transitions.
+     */
+    private class MetricsDriverListener implements EntranceAnimationDriver.Listener {
+
+        @Override
+        public void onFirstFrame(final int position, final long getViewStartNanos) {
+            if (mMetricsListener != null) {
+                mMetricsListener.onFirstAnimatedFrame(position, System.nanoTime() - getViewStartNanos);
+            }
+        }
+
+        @Override
+        public void onFinished() {
+            mRunningAnimatorCount--;
+            if (mMetricsListener != null) {
+                mMetricsListener.onRunningAnimatorCountChanged(mRunningAnimatorCount);
+            }
+        }
+    }
+
+    /**
+     * An {@link com.nineoldandroids.animation.Animator.AnimatorListener} which decreases {@link #mRunningAnimatorCount} once when the animation ends or is cancelled.
+     */
+    private class RunningCountAnimatorListener extends AnimatorListenerAdapter {
+
+        private boolean mIsFinished;
+
+        @Override
+        public void onAnimationCancel(@NonNull final Animator animation) {
+            onFinished();
+        }
+
+        @Override
+        public void onAnimationEnd(@NonNull final Animator animation) {
+            onFinished();
+        }
+
+        private void onFinished() {
+            if (mIsFinished) {
+                return;
+            }
+            mIsFinished = true;
+            mRunningAnimatorCount--;
+            if (mMetricsListener != null) {
+                mMetricsListener.onRunningAnimatorCountChanged(mRunningAnimatorCount);
+            }
+        }
+    }
+
+    /**
+     * A {@link com.nhaarman.listviewanimations.util.FrameCallbackScheduler.Callback} which measures frame intervals while animations are running,
+     * and reports overruns of frames in which animations were started.
+     */
+    private class OverrunFrameCallback implements FrameCallbackScheduler.Callback {
+
+        @Override
+        public void onFrame(final long frameTimeNanos) {
+            if (mMetricsListener == null) {
+                mLastFrameNanos = -1;
+                return;
+            }
+
+            /* Measure callback to callback in the System.nanoTime() base, since the vsync based frame time can lag behind the start that was measured. */
+            long nowNanos = System.nanoTime();
+            long frameIntervalNanos = nowNanos - mLastFrameNanos;
+            if (mStartedSinceLastFrame > 0 && frameIntervalNanos > mFrameOverrunThresholdNanos) {
+                mMetricsListener.onFrameOverrun(mLastStartedPosition, mStartedSinceLastFrame, frameIntervalNanos);
+            }
+            mStartedSinceLastFrame = 0;
+
+            if (mRunningAnimatorCount > 0) {
+                mLastFrameNanos = nowNanos;
+                mFrameScheduler.scheduleFrame();
+            } else {
+                mLastFrameNanos = -1;
+            }
+        }
+    }
+
+    /**
+     * A Runnable which discards the {@link StaggerTimeline} of the layout pass that has finished.
+     */
+    private class ClearStaggerTimelineRunnable implements Runnable {
+
+        @Override
+        public void run() {
+            mStaggerTimeline = null;
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.appearance;
+
+import android.support.annotation.NonNull;
+import android.view.View;
+
+import com.nhaarman.listviewanimations.util.AnimationBackend;
+
+/**
+ * A typed, animatable float property of a {@link View}.
+ * Unlike animating a property by name, setting a {@code ViewProperty} involves no property lookup and no boxing.
+ */
+public abstract class ViewProperty {
+
+    public static final ViewProperty ALPHA = new ViewProperty() {
+        @Override
+        public void set(@NonNull final View view, final float value) {
+            AnimationBackend.getInstance().setAlpha(view, value);
+        }
+    };
+
+    public static final ViewProperty TRANSLATION_X = new ViewProperty() {
+        @Override
+        public void set(@NonNull final View view, final float value) {
+            AnimationBackend.getInstance().setTranslationX(view, value);
+        }
+    };
+
+    public static final ViewProperty TRANSLATION_Y = new ViewProperty() {
+        @Override
+        public void set(@NonNull final View view, final float value) {
+            AnimationBackend.getInstance().setTranslationY(view, value);
+        }
+    };
+
+    public static final ViewProperty SCALE_X = new ViewProperty() {
+        @Override
+        public void set(@NonNull final View view, final float value) {
+            AnimationBackend.getInstance().setScaleX(view, value);
+        }
+    };
+
+    public static final ViewProperty SCALE_Y = new ViewProperty() {
+        @Override
+        public void set(@NonNull final View view, final float value) {
+            AnimationBackend.getInstance().setScaleY(view, value);
+        }
+    };
+
+    public static final ViewProperty ROTATION = new ViewProperty() {
+        @Override
+        public void set(@NonNull final View view, final float value) {
+            AnimationBackend.getInstance().setRotation(view, value);
+        }
+    };
+
+    /**
+     * Sets the value of this property on given View.
+     */
+    public abstract void set(@NonNull View view, float value);
+}
@@ -21,10 +21,16 @@ import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
 import com.nhaarman.listviewanimations.appearance.AnimationAdapter;
+import com.nhaarman.listviewanimations.appearance.EntranceTransition;
 import com.nineoldandroids.animation.Animator;
 
 public class AlphaInAnimationAdapter extends AnimationAdapter {
 
+    /**
+     * The empty array of {@link EntranceTransition}s returned for every View: only the alpha transition of the root adapter is applied.
+     */
+    private static final EntranceTransition[] NO_TRANSITIONS = new EntranceTransition[0];
+
     public AlphaInAnimationAdapter(@NonNull final BaseAdapter baseAdapter) {
         super(baseAdapter);
     }
@@ -34,4 +40,10 @@ public class AlphaInAnimationAdapter extends AnimationAdapter {
     public Animator[] getAnimators(@NonNull final ViewGroup parent, @NonNull final View view) {
         return new Animator[0];
     }
+
+    @NonNull
+    @Override
+    public EntranceTransition[] getEntranceTransitions(@NonNull final ViewGroup parent, @NonNull final View view) {
+        return NO_TRANSITIONS;
+    }
 }
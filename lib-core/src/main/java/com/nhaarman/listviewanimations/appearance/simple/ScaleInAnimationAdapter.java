@@ -21,6 +21,8 @@ import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
 import com.nhaarman.listviewanimations.appearance.AnimationAdapter;
+import com.nhaarman.listviewanimations.appearance.EntranceTransition;
+import com.nhaarman.listviewanimations.appearance.ViewProperty;
 import com.nineoldandroids.animation.Animator;
 import com.nineoldandroids.animation.ObjectAnimator;
 
@@ -33,6 +35,12 @@ public class ScaleInAnimationAdapter extends AnimationAdapter {
 
     private final float mScaleFrom;
 
+    /**
+     * The {@link EntranceTransition}s returned for every View.
+     */
+    @NonNull
+    private final EntranceTransition[] mEntranceTransitions;
+
     public ScaleInAnimationAdapter(@NonNull final BaseAdapter baseAdapter) {
         this(baseAdapter, DEFAULT_SCALE_FROM);
     }
@@ -40,6 +48,10 @@ public class ScaleInAnimationAdapter extends AnimationAdapter {
     public ScaleInAnimationAdapter(@NonNull final BaseAdapter baseAdapter, final float scaleFrom) {
         super(baseAdapter);
         mScaleFrom = scaleFrom;
+        mEntranceTransitions = new EntranceTransition[]{
+                new EntranceTransition(ViewProperty.SCALE_X, scaleFrom, 1f),
+                new EntranceTransition(ViewProperty.SCALE_Y, scaleFrom, 1f)
+        };
     }
 
     @NonNull
@@ -49,4 +61,10 @@ public class ScaleInAnimationAdapter extends AnimationAdapter {
         ObjectAnimator scaleY = ObjectAnimator.ofFloat(view, SCALE_Y, mScaleFrom, 1f);
         return new ObjectAnimator[]{scaleX, scaleY};
     }
+
+    @NonNull
+    @Override
+    public EntranceTransition[] getEntranceTransitions(@NonNull final ViewGroup parent, @NonNull final View view) {
+        return mEntranceTransitions;
+    }
 }
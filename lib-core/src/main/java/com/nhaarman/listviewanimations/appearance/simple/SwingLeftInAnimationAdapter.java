@@ -16,11 +16,14 @@
 package com.nhaarman.listviewanimations.appearance.simple;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
+import com.nhaarman.listviewanimations.appearance.EntranceTransition;
 import com.nhaarman.listviewanimations.appearance.SingleAnimationAdapter;
+import com.nhaarman.listviewanimations.appearance.ViewProperty;
 import com.nineoldandroids.animation.Animator;
 import com.nineoldandroids.animation.ObjectAnimator;
 
@@ -33,6 +36,17 @@ public class SwingLeftInAnimationAdapter extends SingleAnimationAdapter {
 
     private static final String TRANSLATION_X = "translationX";
 
+    /**
+     * The {@link EntranceTransition}s returned for every View, rebuilt only when the width of the parent changes.
+     */
+    @Nullable
+    private EntranceTransition[] mEntranceTransitions;
+
+    /**
+     * The start value of {@link #mEntranceTransitions}.
+     */
+    private int mEntranceTransitionsFromValue;
+
     public SwingLeftInAnimationAdapter(@NonNull final BaseAdapter baseAdapter) {
         super(baseAdapter);
     }
@@ -42,4 +56,15 @@ public class SwingLeftInAnimationAdapter extends SingleAnimationAdapter {
     protected Animator getAnimator(@NonNull final ViewGroup parent, @NonNull final View view) {
         return ObjectAnimator.ofFloat(view, TRANSLATION_X, 0 - parent.getWidth(), 0);
     }
+
+    @NonNull
+    @Override
+    public EntranceTransition[] getEntranceTransitions(@NonNull final ViewGroup parent, @NonNull final View view) {
+        int fromValue = 0 - parent.getWidth();
+        if (mEntranceTransitions == null || mEntranceTransitionsFromValue != fromValue) {
+            mEntranceTransitions = new EntranceTransition[]{new EntranceTransition(ViewProperty.TRANSLATION_X, fromValue, 0)};
+            mEntranceTransitionsFromValue = fromValue;
+        }
+        return mEntranceTransitions;
+    }
 }
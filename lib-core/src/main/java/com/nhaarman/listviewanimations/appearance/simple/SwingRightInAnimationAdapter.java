@@ -16,11 +16,14 @@
 package com.nhaarman.listviewanimations.appearance.simple;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
+import com.nhaarman.listviewanimations.appearance.EntranceTransition;
 import com.nhaarman.listviewanimations.appearance.SingleAnimationAdapter;
+import com.nhaarman.listviewanimations.appearance.ViewProperty;
 import com.nineoldandroids.animation.Animator;
 import com.nineoldandroids.animation.ObjectAnimator;
 
@@ -32,6 +35,17 @@ public class SwingRightInAnimationAdapter extends SingleAnimationAdapter {
 
     private static final String TRANSLATION_X = "translationX";
 
+    /**
+     * The {@link EntranceTransition}s returned for every View, rebuilt only when the width of the parent changes.
+     */
+    @Nullable
+    private EntranceTransition[] mEntranceTransitions;
+
+    /**
+     * The start value of {@link #mEntranceTransitions}.
+     */
+    private int mEntranceTransitionsFromValue;
+
     public SwingRightInAnimationAdapter(@NonNull final BaseAdapter baseAdapter) {
         super(baseAdapter);
     }
@@ -41,4 +55,15 @@ public class SwingRightInAnimationAdapter extends SingleAnimationAdapter {
     protected Animator getAnimator(@NonNull final ViewGroup parent, @NonNull final View view) {
         return ObjectAnimator.ofFloat(view, TRANSLATION_X, parent.getWidth(), 0);
     }
+
+    @NonNull
+    @Override
+    public EntranceTransition[] getEntranceTransitions(@NonNull final ViewGroup parent, @NonNull final View view) {
+        int fromValue = parent.getWidth();
+        if (mEntranceTransitions == null || mEntranceTransitionsFromValue != fromValue) {
+            mEntranceTransitions = new EntranceTransition[]{new EntranceTransition(ViewProperty.TRANSLATION_X, fromValue, 0)};
+            mEntranceTransitionsFromValue = fromValue;
+        }
+        return mEntranceTransitions;
+    }
 }
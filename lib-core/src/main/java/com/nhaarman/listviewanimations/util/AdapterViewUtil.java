@@ -15,12 +15,15 @@
  */
 package com.nhaarman.listviewanimations.util;
 
+import android.annotation.SuppressLint;
+import android.os.Build;
 import android.view.View;
 import android.widget.AbsListView;
 import android.widget.AdapterView;
 
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.widget.GridView;
 import android.widget.ListView;
 
 public class AdapterViewUtil {
@@ -103,4 +106,37 @@ public class AdapterViewUtil {
         }
         return downView;
     }
+
+    /**
+     * Returns the number of columns the items in given {@link ListViewWrapper} are laid out in.
+     * For a {@link android.widget.GridView} on Honeycomb and above this is {@link android.widget.GridView#getNumColumns()}. Otherwise, the number of leading children
+     * that share the top of the first child is returned.
+     *
+     * @param listViewWrapper the {@link ListViewWrapper} wrapping the ListView that should be examined.
+     *
+     * @return the number of columns, at least 1.
+     */
+    @SuppressLint("NewApi")
+    public static int getColumnCount(@NonNull final ListViewWrapper listViewWrapper) {
+        if (listViewWrapper.getListView() instanceof GridView && Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+            return Math.max(1, ((GridView) listViewWrapper.getListView()).getNumColumns());
+        }
+
+        View firstChild = listViewWrapper.getChildAt(0);
+        if (firstChild == null) {
+            return 1;
+        }
+
+        int firstTop = firstChild.getTop();
+        int columnCount = 1;
+        int childCount = listViewWrapper.getChildCount();
+        for (int i = 1; i < childCount; i++) {
+            View child = listViewWrapper.getChildAt(i);
+            if (child == null || child.getTop() != firstTop) {
+                break;
+            }
+            columnCount++;
+        }
+        return columnCount;
+    }
 }
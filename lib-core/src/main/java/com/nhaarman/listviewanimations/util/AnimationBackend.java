@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.util;
+
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.view.View;
+
+/**
+ * Sets and animates {@link View} properties using the fastest mechanism available at runtime.
+ * On Honeycomb and above, the native {@code View} property methods and {@code android.animation} framework are used. On older API levels,
+ * nineoldandroids is used as a fallback.
+ * <p/>
+ * Use this class for property writes on hot paths, such as per-frame updates and touch move handling. Animations are started using
+ * {@link PropertyAnimation}.
+ */
+public abstract class AnimationBackend {
+
+    private static AnimationBackend sInstance;
+
+    /**
+     * Returns the {@code AnimationBackend} for the current API level.
+     */
+    @NonNull
+    public static AnimationBackend getInstance() {
+        if (sInstance == null) {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+                sInstance = new NativeAnimationBackend();
+            } else {
+                sInstance = new NineOldAndroidsAnimationBackend();
+            }
+        }
+        return sInstance;
+    }
+
+    public abstract void setAlpha(@NonNull View view, float alpha);
+
+    public abstract void setTranslationX(@NonNull View view, float translationX);
+
+    public abstract void setTranslationY(@NonNull View view, float translationY);
+
+    public abstract void setScaleX(@NonNull View view, float scaleX);
+
+    public abstract void setScaleY(@NonNull View view, float scaleY);
+
+    public abstract void setRotation(@NonNull View view, float rotation);
+
+    /**
+     * Starts given {@link PropertyAnimation}.
+     */
+    abstract void start(@NonNull PropertyAnimation animation);
+}
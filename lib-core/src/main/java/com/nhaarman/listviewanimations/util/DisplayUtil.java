@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.util;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.view.Display;
+import android.view.WindowManager;
+
+/**
+ * Utility methods for querying properties of the device display, such as the expected frame interval.
+ */
+public class DisplayUtil {
+
+    /**
+     * The frame interval in nanoseconds of a 60 Hz display, used when the refresh rate of the display cannot be determined.
+     */
+    public static final long DEFAULT_FRAME_INTERVAL_NANOS = 16666667;
+
+    private static final long NANOS_PER_SECOND = 1000000000;
+
+    private DisplayUtil() {
+    }
+
+    /**
+     * Returns the expected time in nanoseconds between two frames on the default display, based on {@link android.view.Display#getRefreshRate()}.
+     * Returns {@link #DEFAULT_FRAME_INTERVAL_NANOS} if the refresh rate cannot be determined.
+     */
+    public static long getFrameIntervalNanos(@NonNull final Context context) {
+        WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        Display display = windowManager == null ? null : windowManager.getDefaultDisplay();
+        float refreshRate = display == null ? 0 : display.getRefreshRate();
+        if (refreshRate < 1) {
+            return DEFAULT_FRAME_INTERVAL_NANOS;
+        }
+        return (long) (NANOS_PER_SECOND / refreshRate);
+    }
+}
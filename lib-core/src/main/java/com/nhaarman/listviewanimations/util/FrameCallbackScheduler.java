@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.util;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.view.Choreographer;
+
+/**
+ * A class which invokes a {@link Callback} at most once per display frame.
+ * On Jelly Bean and above, the callback is driven by {@link android.view.Choreographer}. On older API levels, a {@link android.os.Handler}
+ * posting to the main thread with a delay of {@value #FALLBACK_FRAME_DELAY_MILLIS} ms is used instead.
+ * <p/>
+ * All methods of this class should be called on the main thread.
+ */
+public class FrameCallbackScheduler {
+
+    /**
+     * The delay in millis between frames when {@code Choreographer} is not available.
+     */
+    private static final long FALLBACK_FRAME_DELAY_MILLIS = 16;
+
+    /**
+     * The {@link Callback} that is notified on each scheduled frame.
+     */
+    @NonNull
+    private final Callback mCallback;
+
+    /**
+     * The {@link FrameDriver} that delivers the frames.
+     */
+    @NonNull
+    private final FrameDriver mFrameDriver;
+
+    /**
+     * Whether a frame has been requested, but not yet delivered.
+     */
+    private boolean mIsScheduled;
+
+    /**
+     * Creates a new {@code FrameCallbackScheduler}, notifying given {@link Callback}.
+     *
+     * @param callback the {@code Callback} to notify when a scheduled frame arrives.
+     */
+    public FrameCallbackScheduler(@NonNull final Callback callback) {
+        mCallback = callback;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mFrameDriver = new ChoreographerFrameDriver();
+        } else {
+            mFrameDriver = new HandlerFrameDriver();
+        }
+    }
+
+    /**
+     * Requests a callback on the next frame. Does nothing if a frame has already been requested.
+     */
+    public void scheduleFrame() {
+        if (!mIsScheduled) {
+            mIsScheduled = true;
+            mFrameDriver.post();
+        }
+    }
+
+    /**
+     * Cancels a pending frame request, if any.
+     */
+    public void cancel() {
+        if (mIsScheduled) {
+            mIsScheduled = false;
+            mFrameDriver.remove();
+        }
+    }
+
+    /**
+     * Returns whether a frame has been requested, but not yet delivered.
+     */
+    public boolean isScheduled() {
+        return mIsScheduled;
+    }
+
+    /**
+     * Delivers a frame to the {@link Callback}.
+     *
+     * @param frameTimeNanos the time in nanoseconds at which the frame started rendering, in the {@link System#nanoTime()} time base.
+     */
+    private void onFrame(final long frameTimeNanos) {
+        mIsScheduled = false;
+        mCallback.onFrame(frameTimeNanos);
+    }
+
+    /**
+     * A callback which is notified when a scheduled frame arrives.
+     */
+    public interface Callback {
+
+        /**
+         * Called when a scheduled frame arrives. Call {@link #scheduleFrame()} from this method to receive the next frame as well.
+         *
+         * @param frameTimeNanos the time in nanoseconds at which the frame started rendering, in the {@link System#nanoTime()} time base.
+         */
+        void onFrame(long frameTimeNanos);
+    }
+
+    /**
+     * An interface for the mechanism that delivers frames.
+     */
+    private interface FrameDriver {
+
+        void post();
+
+        void remove();
+    }
+
+    /**
+     * A {@link FrameDriver} which uses {@link android.view.Choreographer}.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private class ChoreographerFrameDriver implements FrameDriver, Choreographer.FrameCallback {
+
+        @Override
+        public void post() {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        @Override
+        public void remove() {
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(final long frameTimeNanos) {
+            onFrame(frameTimeNanos);
+        }
+    }
+
+    /**
+     * A {@link FrameDriver} which uses a {@link android.os.Handler} on the main thread.
+     */
+    private class HandlerFrameDriver implements FrameDriver, Runnable {
+
+        @NonNull
+        private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void post() {
+            mHandler.postDelayed(this, FALLBACK_FRAME_DELAY_MILLIS);
+        }
+
+        @Override
+        public void remove() {
+            mHandler.removeCallbacks(this);
+        }
+
+        @Override
+        public void run() {
+            onFrame(System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.util;
+
+/**
+ * A set of primitive {@code long} values, backed by an open addressing hash table.
+ * Unlike a {@code HashSet<Long>}, adding, removing and looking up values does not allocate.
+ */
+public class LongHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The multiplier used to spread the bits of the values over the table, the 64-bit golden ratio.
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The values in this set. A slot is only valid if the corresponding entry in {@link #mUsed} is {@code true}.
+     */
+    private long[] mValues;
+
+    /**
+     * Whether the corresponding slot in {@link #mValues} contains a value.
+     */
+    private boolean[] mUsed;
+
+    /**
+     * The number of values in this set.
+     */
+    private int mSize;
+
+    /**
+     * Creates a new, empty {@code LongHashSet}.
+     */
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty {@code LongHashSet} which can hold given number of values without resizing.
+     */
+    public LongHashSet(final int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        mValues = new long[capacity];
+        mUsed = new boolean[capacity];
+    }
+
+    /**
+     * Adds given value to this set.
+     *
+     * @return {@code true} if the value was added, {@code false} if it was already present.
+     */
+    public boolean add(final long value) {
+        int slot = findSlot(value);
+        if (mUsed[slot]) {
+            return false;
+        }
+
+        mValues[slot] = value;
+        mUsed[slot] = true;
+        mSize++;
+
+        if (mSize * 2 > mValues.length) {
+            resize(mValues.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes given value from this set.
+     *
+     * @return {@code true} if the value was removed, {@code false} if it was not present.
+     */
+    public boolean remove(final long value) {
+        int slot = findSlot(value);
+        if (!mUsed[slot]) {
+            return false;
+        }
+
+        mUsed[slot] = false;
+        mSize--;
+        shiftBack(slot);
+        return true;
+    }
+
+    /**
+     * Returns whether given value is present in this set.
+     */
+    public boolean contains(final long value) {
+        return mUsed[findSlot(value)];
+    }
+
+    /**
+     * Returns the number of values in this set.
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns whether this set contains no values.
+     */
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    /**
+     * Returns the values in this set, in no particular order.
+     */
+    public long[] toArray() {
+        long[] result = new long[mSize];
+        int index = 0;
+        for (int i = 0; i < mUsed.length; i++) {
+            if (mUsed[i]) {
+                result[index] = mValues[i];
+                index++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all values from this set.
+     */
+    public void clear() {
+        if (mSize > 0) {
+            for (int i = 0; i < mUsed.length; i++) {
+                mUsed[i] = false;
+            }
+            mSize = 0;
+        }
+    }
+
+    /**
+     * Returns the slot containing given value, or the empty slot where it should be inserted.
+     */
+    private int findSlot(final long value) {
+        int mask = mValues.length - 1;
+        int slot = hash(value) & mask;
+        while (mUsed[slot] && mValues[slot] != value) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Moves values following the emptied slot back, so no value becomes unreachable from its home slot.
+     */
+    private void shiftBack(final int emptiedSlot) {
+        int mask = mValues.length - 1;
+        int empty = emptiedSlot;
+        int slot = empty + 1 & mask;
+        while (mUsed[slot]) {
+            int home = hash(mValues[slot]) & mask;
+            /* The value can move to the empty slot if its home slot does not lie cyclically within (empty, slot]. */
+            boolean canMove = empty <= slot ? home <= empty || home > slot : home <= empty && home > slot;
+            if (canMove) {
+                mValues[empty] = mValues[slot];
+                mUsed[empty] = true;
+                mUsed[slot] = false;
+                empty = slot;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    private void resize(final int capacity) {
+        long[] oldValues = mValues;
+        boolean[] oldUsed = mUsed;
+
+        mValues = new long[capacity];
+        mUsed = new boolean[capacity];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldUsed[i]) {
+                int slot = findSlot(oldValues[i]);
+                mValues[slot] = oldValues[i];
+                mUsed[slot] = true;
+            }
+        }
+    }
+
+    private static int hash(final long value) {
+        return (int) (value * HASH_MULTIPLIER >>> 32);
+    }
+}
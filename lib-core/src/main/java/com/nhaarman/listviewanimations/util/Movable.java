@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.util;
+
+/**
+ * Interface, usually implemented by the root adapter of a chain of {@link com.nhaarman.listviewanimations.BaseAdapterDecorator}s,
+ * that indicates that it can move a list item to another position, shifting the items in between.
+ * Decorators do not forward moves; users look up the first adapter in the chain that implements this interface.
+ */
+public interface Movable {
+
+    /**
+     * Moves the item at the first adapter position to the second adapter position. The items in between shift one position towards the first position.
+     * Be sure to call {@link android.widget.BaseAdapter#notifyDataSetChanged()} if appropriate when implementing this method.
+     *
+     * @param from the adapter position of the item to move.
+     * @param to   the adapter position the item should end up at.
+     */
+    void moveItem(int from, int to);
+
+    /**
+     * Moves the {@code count} consecutive items starting at the first adapter position as a block, so that the first of them ends up at the second adapter position.
+     * The items in between shift {@code count} positions towards the first position.
+     * Be sure to call {@link android.widget.BaseAdapter#notifyDataSetChanged()} if appropriate when implementing this method.
+     *
+     * @param from  the adapter position of the first item to move.
+     * @param count the number of items to move.
+     * @param to    the adapter position the first item should end up at.
+     */
+    void moveItems(int from, int count, int to);
+}
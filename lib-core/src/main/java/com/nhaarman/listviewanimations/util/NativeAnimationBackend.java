@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.util;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.AnimatorSet;
+import android.animation.ObjectAnimator;
+import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.util.Property;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.List;
+
+/**
+ * An {@link AnimationBackend} which calls the native {@link View} property methods, and animates using the native {@code android.animation} framework.
+ */
+@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+class NativeAnimationBackend extends AnimationBackend {
+
+    @Override
+    public void setAlpha(@NonNull final View view, final float alpha) {
+        view.setAlpha(alpha);
+    }
+
+    @Override
+    public void setTranslationX(@NonNull final View view, final float translationX) {
+        view.setTranslationX(translationX);
+    }
+
+    @Override
+    public void setTranslationY(@NonNull final View view, final float translationY) {
+        view.setTranslationY(translationY);
+    }
+
+    @Override
+    public void setScaleX(@NonNull final View view, final float scaleX) {
+        view.setScaleX(scaleX);
+    }
+
+    @Override
+    public void setScaleY(@NonNull final View view, final float scaleY) {
+        view.setScaleY(scaleY);
+    }
+
+    @Override
+    public void setRotation(@NonNull final View view, final float rotation) {
+        view.setRotation(rotation);
+    }
+
+    @Override
+    void start(@NonNull final PropertyAnimation animation) {
+        createAnimatorSet(animation).start();
+    }
+
+    /**
+     * Creates an {@link AnimatorSet} which plays the properties of given {@link PropertyAnimation} together.
+     */
+    @NonNull
+    AnimatorSet createAnimatorSet(@NonNull final PropertyAnimation animation) {
+        List<PropertyAnimation.Entry> entries = animation.getEntries();
+        Animator[] animators = new Animator[entries.size()];
+        for (int i = 0; i < animators.length; i++) {
+            animators[i] = createAnimator(entries.get(i));
+        }
+
+        AnimatorSet animatorSet = new AnimatorSet();
+        animatorSet.playTogether(animators);
+        if (animation.getDurationMs() != PropertyAnimation.DEFAULT_DURATION) {
+            animatorSet.setDuration(animation.getDurationMs());
+        }
+        if (animation.getEndAction() != null) {
+            animatorSet.addListener(new EndActionListener(animation.getEndAction()));
+        }
+        return animatorSet;
+    }
+
+    @NonNull
+    private static Animator createAnimator(@NonNull final PropertyAnimation.Entry entry) {
+        if (entry.getProperty() == PropertyAnimation.HEIGHT) {
+            ValueAnimator heightAnimator = ValueAnimator.ofInt((int) entry.getFromValue(), (int) entry.getToValue());
+            heightAnimator.addUpdateListener(new HeightUpdater(entry.getView()));
+            return heightAnimator;
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            Property<View, Float> property = getProperty(entry.getProperty());
+            if (entry.hasFromValue()) {
+                return ObjectAnimator.ofFloat(entry.getView(), property, entry.getFromValue(), entry.getToValue());
+            }
+            return ObjectAnimator.ofFloat(entry.getView(), property, entry.getToValue());
+        }
+
+        String propertyName = PropertyAnimation.getPropertyName(entry.getProperty());
+        if (entry.hasFromValue()) {
+            return ObjectAnimator.ofFloat(entry.getView(), propertyName, entry.getFromValue(), entry.getToValue());
+        }
+        return ObjectAnimator.ofFloat(entry.getView(), propertyName, entry.getToValue());
+    }
+
+    /**
+     * Returns the {@link View} {@link Property} for given {@link PropertyAnimation} property, so that the setter is called directly instead of being looked up
+     * by name through reflection.
+     *
+     * @param property one of {@link PropertyAnimation#ALPHA}, {@link PropertyAnimation#TRANSLATION_X}, {@link PropertyAnimation#SCALE_X} or
+     *                 {@link PropertyAnimation#SCALE_Y}.
+     */
+    @NonNull
+    @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+    static Property<View, Float> getProperty(final int property) {
+        switch (property) {
+            case PropertyAnimation.ALPHA:
+                return View.ALPHA;
+            case PropertyAnimation.TRANSLATION_X:
+                return View.TRANSLATION_X;
+            case PropertyAnimation.SCALE_X:
+                return View.SCALE_X;
+            case PropertyAnimation.SCALE_Y:
+                return View.SCALE_Y;
+            default:
+                throw new IllegalArgumentException("Unknown property: " + property);
+        }
+    }
+
+    /**
+     * Applies the animated height value to a {@link View}.
+     */
+    private static class HeightUpdater implements ValueAnimator.AnimatorUpdateListener {
+
+        @NonNull
+        private final View mView;
+
+        HeightUpdater(@NonNull final View view) {
+            mView = view;
+        }
+
+        @Override
+        public void onAnimationUpdate(@NonNull final ValueAnimator animation) {
+            ViewGroup.LayoutParams layoutParams = mView.getLayoutParams();
+            layoutParams.height = (Integer) animation.getAnimatedValue();
+            mView.setLayoutParams(layoutParams);
+        }
+    }
+
+    /**
+     * Runs the end action of a {@link PropertyAnimation} when the animation ends.
+     */
+    private static class EndActionListener extends AnimatorListenerAdapter {
+
+        @NonNull
+        private final Runnable mEndAction;
+
+        EndActionListener(@NonNull final Runnable endAction) {
+            mEndAction = endAction;
+        }
+
+        @Override
+        public void onAnimationEnd(@NonNull final Animator animation) {
+            mEndAction.run();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.util;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An animation of {@link View} properties which play together, started on the {@link AnimationBackend} of the current API level.
+ * On Honeycomb and above, it runs on the native {@code android.animation} framework; on older API levels, nineoldandroids is used.
+ * <p/>
+ * Use this class for animations which are internal to the library, and thus do not need to expose nineoldandroids {@code Animator}s.
+ */
+public class PropertyAnimation {
+
+    public static final int ALPHA = 0;
+    public static final int TRANSLATION_X = 1;
+    public static final int SCALE_X = 2;
+    public static final int SCALE_Y = 3;
+
+    /**
+     * The height of the {@link android.view.ViewGroup.LayoutParams} of the {@code View}, animated as an int.
+     */
+    public static final int HEIGHT = 4;
+
+    /**
+     * The duration used when no duration is set, which is the default duration of the animation framework.
+     */
+    static final long DEFAULT_DURATION = -1;
+
+    @NonNull
+    private final List<Entry> mEntries = new ArrayList<>();
+
+    private long mDurationMs = DEFAULT_DURATION;
+
+    @Nullable
+    private Runnable mEndAction;
+
+    /**
+     * Animates given property of given {@link View} from its current value to given value.
+     *
+     * @param property one of {@link #ALPHA}, {@link #TRANSLATION_X}, {@link #SCALE_X} and {@link #SCALE_Y}.
+     */
+    @NonNull
+    public PropertyAnimation animate(@NonNull final View view, final int property, final float toValue) {
+        mEntries.add(new Entry(view, property, false, 0, toValue));
+        return this;
+    }
+
+    /**
+     * Animates given property of given {@link View} from given value to given value.
+     *
+     * @param property one of {@link #ALPHA}, {@link #TRANSLATION_X}, {@link #SCALE_X}, {@link #SCALE_Y} and {@link #HEIGHT}.
+     */
+    @NonNull
+    public PropertyAnimation animate(@NonNull final View view, final int property, final float fromValue, final float toValue) {
+        mEntries.add(new Entry(view, property, true, fromValue, toValue));
+        return this;
+    }
+
+    /**
+     * Sets the duration of the animation in milliseconds. If not set, the default duration of the animation framework is used.
+     */
+    @NonNull
+    public PropertyAnimation setDuration(final long durationMs) {
+        mDurationMs = durationMs;
+        return this;
+    }
+
+    /**
+     * Sets a {@link Runnable} which is run when the animation ends.
+     */
+    @NonNull
+    public PropertyAnimation setEndAction(@Nullable final Runnable endAction) {
+        mEndAction = endAction;
+        return this;
+    }
+
+    /**
+     * Starts the animation.
+     */
+    public void start() {
+        AnimationBackend.getInstance().start(this);
+    }
+
+    @NonNull
+    List<Entry> getEntries() {
+        return mEntries;
+    }
+
+    long getDurationMs() {
+        return mDurationMs;
+    }
+
+    @Nullable
+    Runnable getEndAction() {
+        return mEndAction;
+    }
+
+    /**
+     * Returns the name of given property, as used by the {@code ObjectAnimator}s of both animation frameworks.
+     */
+    @NonNull
+    static String getPropertyName(final int property) {
+        switch (property) {
+            case ALPHA:
+                return "alpha";
+            case TRANSLATION_X:
+                return "translationX";
+            case SCALE_X:
+                return "scaleX";
+            case SCALE_Y:
+                return "scaleY";
+            default:
+                throw new IllegalArgumentException("Property " + property + " cannot be animated by name");
+        }
+    }
+
+    /**
+     * A single animated property of a {@link View}.
+     */
+    static class Entry {
+
+        @NonNull
+        private final View mView;
+
+        private final int mProperty;
+
+        /**
+         * Whether {@link #mFromValue} is used. If not, the property is animated from its current value.
+         */
+        private final boolean mHasFromValue;
+
+        private final float mFromValue;
+
+        private final float mToValue;
+
+        Entry(@NonNull final View view, final int property, final boolean hasFromValue, final float fromValue, final float toValue) {
+            mView = view;
+            mProperty = property;
+            mHasFromValue = hasFromValue;
+            mFromValue = fromValue;
+            mToValue = toValue;
+        }
+
+        @NonNull
+        View getView() {
+            return mView;
+        }
+
+        int getProperty() {
+            return mProperty;
+        }
+
+        boolean hasFromValue() {
+            return mHasFromValue;
+        }
+
+        float getFromValue() {
+            return mFromValue;
+        }
+
+        float getToValue() {
+            return mToValue;
+        }
+    }
+}
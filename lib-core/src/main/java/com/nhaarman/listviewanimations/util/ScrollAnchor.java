@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.util;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Restores the scroll position of a list after an {@code AnimateAdditionAdapter} has inserted items above the first visible item.
+ * <p/>
+ * Implement this interface for list implementations that are not an {@link android.widget.AbsListView}, and set it using
+ * {@code AnimateAdditionAdapter#setScrollAnchor(ScrollAnchor)}. For a {@code StickyListHeadersListView}, use the {@code StickyListHeadersScrollAnchor}.
+ */
+public interface ScrollAnchor {
+
+    /**
+     * Scrolls the list so that the item at given position is shown with given top offset.
+     *
+     * @param listViewWrapper the {@link ListViewWrapper} wrapping the list to scroll.
+     * @param position        the adapter position of the item to anchor, including header views.
+     * @param top             the distance in pixels from the top of the list the item should be placed at.
+     */
+    void anchor(@NonNull ListViewWrapper listViewWrapper, int position, int top);
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation;
+
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import junit.framework.TestCase;
+
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TouchEventArbiterTest extends TestCase {
+
+    private TouchEventArbiter mTouchEventArbiter;
+
+    @Mock
+    private TouchEventHandler mHighHandler;
+
+    @Mock
+    private TouchEventHandler mMiddleHandler;
+
+    @Mock
+    private TouchEventHandler mLowHandler;
+
+    private MotionEvent mDownEvent;
+
+    private MotionEvent mCancelEvent;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        MockitoAnnotations.initMocks(this);
+
+        mTouchEventArbiter = new TouchEventArbiter();
+        mTouchEventArbiter.add(mLowHandler, 0);
+        mTouchEventArbiter.add(mHighHandler, 200);
+        mTouchEventArbiter.add(mMiddleHandler, 100);
+
+        long now = SystemClock.uptimeMillis();
+        mDownEvent = MotionEvent.obtain(now, now, MotionEvent.ACTION_DOWN, 0, 0, 0);
+        mCancelEvent = MotionEvent.obtain(now, now, MotionEvent.ACTION_CANCEL, 0, 0, 0);
+
+        mTouchEventArbiter.beginGesture();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mDownEvent.recycle();
+        mCancelEvent.recycle();
+        super.tearDown();
+    }
+
+    /**
+     * Test whether events are offered in order of descending priority, regardless of registration order.
+     */
+    public void testOfferInPriorityOrder() {
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(nullValue()));
+
+        InOrder inOrder = inOrder(mHighHandler, mMiddleHandler, mLowHandler);
+        inOrder.verify(mHighHandler).onTouchEvent(mDownEvent);
+        inOrder.verify(mMiddleHandler).onTouchEvent(mDownEvent);
+        inOrder.verify(mLowHandler).onTouchEvent(mDownEvent);
+    }
+
+    /**
+     * Test whether the highest priority interacting handler wins, and lower priority handlers are not offered the event.
+     */
+    public void testHighestInteractingHandlerWins() {
+        when(mHighHandler.isInteracting()).thenReturn(true);
+        when(mLowHandler.isInteracting()).thenReturn(true);
+
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(mHighHandler));
+
+        verify(mMiddleHandler, never()).onTouchEvent(mDownEvent);
+        verify(mLowHandler, never()).onTouchEvent(mDownEvent);
+    }
+
+    /**
+     * Test whether a lower priority handler wins if the higher priority handlers do not start interacting.
+     */
+    public void testLowerPriorityHandlerWins() {
+        when(mMiddleHandler.isInteracting()).thenReturn(true);
+
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(mMiddleHandler));
+
+        verify(mHighHandler).onTouchEvent(mDownEvent);
+        verify(mLowHandler, never()).onTouchEvent(mDownEvent);
+    }
+
+    /**
+     * Test whether handlers with equal priorities are offered events in registration order.
+     */
+    public void testEqualPrioritiesKeepRegistrationOrder() {
+        mTouchEventArbiter.remove(mLowHandler);
+        mTouchEventArbiter.add(mLowHandler, 100);
+        when(mMiddleHandler.isInteracting()).thenReturn(true);
+        when(mLowHandler.isInteracting()).thenReturn(true);
+
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(mMiddleHandler));
+    }
+
+    /**
+     * Test whether adding a registered handler again updates its priority instead of registering it twice.
+     */
+    public void testAddUpdatesPriority() {
+        mTouchEventArbiter.add(mLowHandler, 300);
+        when(mHighHandler.isInteracting()).thenReturn(true);
+        when(mLowHandler.isInteracting()).thenReturn(true);
+
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(mLowHandler));
+        verify(mLowHandler, times(1)).onTouchEvent(mDownEvent);
+    }
+
+    /**
+     * Test whether a removed handler is no longer offered events.
+     */
+    public void testRemove() {
+        mTouchEventArbiter.remove(mHighHandler);
+        when(mHighHandler.isInteracting()).thenReturn(true);
+
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(nullValue()));
+        verify(mHighHandler, never()).onTouchEvent(mDownEvent);
+    }
+
+    /**
+     * Test whether a suppressed handler receives no events for the rest of the gesture, and is offered events again in the next gesture.
+     */
+    public void testSuppressForGesture() {
+        when(mHighHandler.isInteracting()).thenReturn(true);
+        mTouchEventArbiter.suppressForGesture(mHighHandler);
+
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(nullValue()));
+        verify(mHighHandler, never()).onTouchEvent(mDownEvent);
+
+        mTouchEventArbiter.beginGesture();
+
+        assertThat(mTouchEventArbiter.offer(mDownEvent), is(mHighHandler));
+        verify(mHighHandler).onTouchEvent(mDownEvent);
+    }
+
+    /**
+     * Test whether cancelOthers sends exactly one cancel event to each other non-suppressed handler, and none to the winner.
+     */
+    public void testCancelOthersDispatchesSingleCancel() {
+        when(mMiddleHandler.isInteracting()).thenReturn(true);
+        mTouchEventArbiter.suppressForGesture(mLowHandler);
+
+        TouchEventHandler winner = mTouchEventArbiter.offer(mDownEvent);
+        mTouchEventArbiter.cancelOthers(winner, mCancelEvent);
+
+        verify(mHighHandler, times(1)).onTouchEvent(mCancelEvent);
+        verify(mMiddleHandler, never()).onTouchEvent(mCancelEvent);
+        verify(mLowHandler, never()).onTouchEvent(mCancelEvent);
+    }
+}
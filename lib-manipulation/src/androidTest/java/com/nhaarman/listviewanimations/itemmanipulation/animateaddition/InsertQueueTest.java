@@ -210,4 +210,25 @@ public class InsertQueueTest extends TestCase {
         assertThat(indexValues.get(4), is(1));
         assertThat(itemValues.get(4), is(4));
     }
+
+    /**
+     * Test whether inserting an item immediately shifts the indexes of the pending items at or after its index, but not those before it.
+     */
+    public void testInsertImmediatelyShiftsPendingItems() {
+        mInsertQueue.insert(0, 0);
+        mInsertQueue.insert(1, 1);
+        mInsertQueue.insert(4, 2);
+
+        mInsertQueue.insertImmediately(2, 3);
+
+        List<Pair<Integer, Integer>> pendingItems = mInsertQueue.getPendingItemsToInsert();
+        assertThat(pendingItems.get(0).first, is(1));
+        assertThat(pendingItems.get(1).first, is(5));
+
+        mInsertQueue.clearActive();
+
+        verify(mInsertable).add(2, 3);
+        verify(mInsertable).add(1, 1);
+        verify(mInsertable).add(5, 2);
+    }
 }
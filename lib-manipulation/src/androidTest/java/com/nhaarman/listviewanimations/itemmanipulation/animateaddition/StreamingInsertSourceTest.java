@@ -0,0 +1,144 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.animateaddition;
+
+import android.util.Pair;
+
+import junit.framework.TestCase;
+
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StreamingInsertSourceTest extends TestCase {
+
+    private static final int CAPACITY = 3;
+
+    private StreamingInsertSource<Integer> mStreamingInsertSource;
+
+    @Mock
+    private AnimateAdditionAdapter<Integer> mAnimateAdditionAdapter;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        MockitoAnnotations.initMocks(this);
+
+        mStreamingInsertSource = new StreamingInsertSource<>(mAnimateAdditionAdapter, CAPACITY);
+    }
+
+    /**
+     * Test whether offered items are queued, and are not inserted before a drain.
+     */
+    public void testOfferQueuesItems() {
+        assertThat(mStreamingInsertSource.offer(0, 1), is(true));
+        assertThat(mStreamingInsertSource.offer(1, 2), is(true));
+
+        assertThat(mStreamingInsertSource.getQueueDepth(), is(2));
+        verify(mAnimateAdditionAdapter, never()).insert(anyInt(), anyInt());
+    }
+
+    /**
+     * Test whether a drain inserts all queued items in order, one by one, when not coalescing.
+     */
+    public void testDrainInsertsItemsInOrder() {
+        mStreamingInsertSource.setBackpressurePolicy(StreamingInsertSource.BACKPRESSURE_DROP_OLDEST);
+        mStreamingInsertSource.offer(0, 1);
+        mStreamingInsertSource.offer(1, 2);
+        mStreamingInsertSource.offer(2, 3);
+
+        mStreamingInsertSource.drain();
+
+        InOrder inOrder = inOrder(mAnimateAdditionAdapter);
+        inOrder.verify(mAnimateAdditionAdapter).insert(0, 1);
+        inOrder.verify(mAnimateAdditionAdapter).insert(1, 2);
+        inOrder.verify(mAnimateAdditionAdapter).insert(2, 3);
+        assertThat(mStreamingInsertSource.getQueueDepth(), is(0));
+    }
+
+    /**
+     * Test whether a drain inserts all queued items as a single batch when coalescing, with appended items following each other.
+     */
+    public void testDrainCoalescesItems() {
+        when(mAnimateAdditionAdapter.getCount()).thenReturn(5);
+        mStreamingInsertSource.offer(0, 1);
+        mStreamingInsertSource.offer(2);
+        mStreamingInsertSource.offer(3);
+
+        mStreamingInsertSource.drain();
+
+        List<Pair<Integer, Integer>> expected = Arrays.asList(new Pair<>(0, 1), new Pair<>(5, 2), new Pair<>(6, 3));
+        verify(mAnimateAdditionAdapter).insert(expected);
+        verify(mAnimateAdditionAdapter, never()).insert(anyInt(), anyInt());
+        assertThat(mStreamingInsertSource.getQueueDepth(), is(0));
+    }
+
+    /**
+     * Test whether items offered to a full queue are rejected when using the coalesce policy.
+     */
+    public void testFullQueueRejects() {
+        for (int i = 0; i < CAPACITY; i++) {
+            mStreamingInsertSource.offer(i, i);
+        }
+
+        assertThat(mStreamingInsertSource.offer(CAPACITY, CAPACITY), is(false));
+        assertThat(mStreamingInsertSource.getQueueDepth(), is(CAPACITY));
+        assertThat(mStreamingInsertSource.getRejectedCount(), is(1));
+    }
+
+    /**
+     * Test whether the oldest item is discarded when offering to a full queue using the drop oldest policy.
+     */
+    public void testFullQueueDropsOldest() {
+        mStreamingInsertSource.setBackpressurePolicy(StreamingInsertSource.BACKPRESSURE_DROP_OLDEST);
+        for (int i = 0; i < CAPACITY; i++) {
+            mStreamingInsertSource.offer(i, i);
+        }
+
+        assertThat(mStreamingInsertSource.offer(CAPACITY, CAPACITY), is(true));
+        assertThat(mStreamingInsertSource.getQueueDepth(), is(CAPACITY));
+        assertThat(mStreamingInsertSource.getDroppedCount(), is(1));
+
+        mStreamingInsertSource.drain();
+
+        verify(mAnimateAdditionAdapter, never()).insert(0, 0);
+        verify(mAnimateAdditionAdapter).insert(CAPACITY, CAPACITY);
+    }
+
+    /**
+     * Test whether an unknown backpressure policy is refused.
+     */
+    public void testUnknownPolicyThrows() {
+        try {
+            mStreamingInsertSource.setBackpressurePolicy(42);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.test.InstrumentationTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@SuppressWarnings("MagicNumber")
+public class DroppedFrameCounterTest extends InstrumentationTestCase {
+
+    private static final long FRAME_INTERVAL_60_HZ_NANOS = 16666667;
+
+    private static final long FRAME_INTERVAL_120_HZ_NANOS = 8333333;
+
+    private DroppedFrameCounter mDroppedFrameCounter;
+
+    private int mDroppedFrameCount;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mDroppedFrameCounter = new DroppedFrameCounter();
+    }
+
+    public void testNoDroppedFrames() {
+        runFrames(FRAME_INTERVAL_60_HZ_NANOS, 0, FRAME_INTERVAL_60_HZ_NANOS, 2 * FRAME_INTERVAL_60_HZ_NANOS);
+
+        assertThat(mDroppedFrameCount, is(0));
+    }
+
+    public void testDroppedFramesAt60Hz() {
+        runFrames(FRAME_INTERVAL_60_HZ_NANOS, 0, FRAME_INTERVAL_60_HZ_NANOS, 4 * FRAME_INTERVAL_60_HZ_NANOS);
+
+        assertThat(mDroppedFrameCount, is(2));
+    }
+
+    /**
+     * Test whether frames are counted against the given frame interval: a gap of one 60 Hz frame is a dropped frame on a 120 Hz display.
+     */
+    public void testDroppedFramesAt120Hz() {
+        runFrames(FRAME_INTERVAL_120_HZ_NANOS, 0, FRAME_INTERVAL_60_HZ_NANOS, 2 * FRAME_INTERVAL_60_HZ_NANOS);
+
+        assertThat(mDroppedFrameCount, is(2));
+    }
+
+    public void testJitterIsAbsorbed() {
+        runFrames(FRAME_INTERVAL_60_HZ_NANOS, 0, FRAME_INTERVAL_60_HZ_NANOS + 4000000, 2 * FRAME_INTERVAL_60_HZ_NANOS);
+
+        assertThat(mDroppedFrameCount, is(0));
+    }
+
+    public void testStartResetsCount() {
+        runFrames(FRAME_INTERVAL_60_HZ_NANOS, 0, 4 * FRAME_INTERVAL_60_HZ_NANOS);
+        runFrames(FRAME_INTERVAL_60_HZ_NANOS, 0, FRAME_INTERVAL_60_HZ_NANOS);
+
+        assertThat(mDroppedFrameCount, is(0));
+    }
+
+    /**
+     * Starts the counter with given frame interval, delivers frames at given times and stops it, all on the main thread.
+     */
+    private void runFrames(final long frameIntervalNanos, final long... frameTimesNanos) {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDroppedFrameCounter.start(frameIntervalNanos);
+                        for (long frameTimeNanos : frameTimesNanos) {
+                            mDroppedFrameCounter.onFrame(frameTimeNanos);
+                        }
+                        mDroppedFrameCount = mDroppedFrameCounter.stop();
+                    }
+                }
+        );
+    }
+}
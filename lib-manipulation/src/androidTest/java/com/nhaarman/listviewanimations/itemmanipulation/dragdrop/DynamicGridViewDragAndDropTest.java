@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.test.ActivityInstrumentationTestCase2;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import com.nhaarman.listviewanimations.BaseAdapterDecorator;
+import com.nhaarman.listviewanimations.itemmanipulation.DynamicGridView;
+import com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler;
+import com.nhaarman.listviewanimations.util.Swappable;
+
+import org.mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+
+public class DynamicGridViewDragAndDropTest extends ActivityInstrumentationTestCase2<DynamicGridViewTestActivity> {
+
+    private DynamicGridView mDynamicGridView;
+
+    @Mock
+    private OnItemMovedListener mOnItemMovedListener;
+
+    public DynamicGridViewDragAndDropTest() {
+        super(DynamicGridViewTestActivity.class);
+    }
+
+    @Override
+    public void setUp() throws Exception, InterruptedException {
+        super.setUp();
+
+        MockitoAnnotations.initMocks(this);
+
+        mDynamicGridView = getActivity().getDynamicGridView();
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDynamicGridView.enableDragAndDrop();
+                        mDynamicGridView.setDraggableManager(new MyDraggableManager());
+                        mDynamicGridView.setOnItemMovedListener(mOnItemMovedListener);
+                    }
+                }
+        );
+
+        getInstrumentation().waitForIdleSync();
+        Thread.sleep(5000);
+    }
+
+    public void testMoveToNextColumn() throws InterruptedException {
+        MotionEventUtils.dispatchGridDragMotionEvents(getInstrumentation(), mDynamicGridView, 0, 1);
+
+        verify(mOnItemMovedListener).onItemMoved(0, 1);
+        assertThat(getActivity().getAdapter().getItems().subList(0, 3), is(Arrays.asList(1, 0, 2)));
+    }
+
+    public void testMoveToNextRow() throws InterruptedException {
+        int to = DynamicGridViewTestActivity.COLUMN_COUNT + 1;
+        MotionEventUtils.dispatchGridDragMotionEvents(getInstrumentation(), mDynamicGridView, 0, to);
+
+        verify(mOnItemMovedListener).onItemMoved(0, to);
+        assertThat(getActivity().getAdapter().getItem(to), is(0));
+        assertThat(getActivity().getAdapter().getItem(0), is(1));
+    }
+
+    public void testMoveBackwards() throws InterruptedException {
+        int from = DynamicGridViewTestActivity.COLUMN_COUNT * 2 + 2;
+        MotionEventUtils.dispatchGridDragMotionEvents(getInstrumentation(), mDynamicGridView, from, 1);
+
+        verify(mOnItemMovedListener).onItemMoved(from, 1);
+        assertThat(getActivity().getAdapter().getItem(1), is(from));
+        assertThat(getActivity().getAdapter().getItem(2), is(1));
+        assertThat(getActivity().getAdapter().getItem(from), is(from - 1));
+    }
+
+    public void testDropOnSameCellDoesNotNotify() throws InterruptedException {
+        MotionEventUtils.dispatchGridDragMotionEvents(getInstrumentation(), mDynamicGridView, 4, 4);
+
+        verify(mOnItemMovedListener, never()).onItemMoved(anyInt(), anyInt());
+    }
+
+    public void testMoveWithDecoratedSwappableAdapter() throws Throwable {
+        final SwappableAdapter swappableAdapter = new SwappableAdapter(getActivity());
+        runTestOnUiThread(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDynamicGridView.setAdapter(new BaseAdapterDecorator(swappableAdapter) {
+                        });
+                    }
+                }
+        );
+        getInstrumentation().waitForIdleSync();
+        Thread.sleep(1000);
+
+        MotionEventUtils.dispatchGridDragMotionEvents(getInstrumentation(), mDynamicGridView, 0, 2);
+
+        verify(mOnItemMovedListener).onItemMoved(0, 2);
+        assertThat(swappableAdapter.mItems.subList(0, 3), is(Arrays.asList(1, 2, 0)));
+    }
+
+    public void testHigherPriorityTouchEventHandlerWins() throws Throwable {
+        final TouchEventHandler touchEventHandler = mock(TouchEventHandler.class);
+        when(touchEventHandler.isInteracting()).thenReturn(true);
+        runTestOnUiThread(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDynamicGridView.addTouchEventHandler(touchEventHandler, DynamicGridView.PRIORITY_DRAG_AND_DROP + 1);
+                    }
+                }
+        );
+
+        MotionEventUtils.dispatchGridDragMotionEvents(getInstrumentation(), mDynamicGridView, 0, 1);
+
+        verify(touchEventHandler, atLeastOnce()).onTouchEvent(any(MotionEvent.class));
+        verify(mOnItemMovedListener, never()).onItemMoved(anyInt(), anyInt());
+        assertThat(getActivity().getAdapter().getItem(0), is(0));
+    }
+
+    private static class MyDraggableManager implements DraggableManager {
+
+        @Override
+        public boolean isDraggable(@NonNull final View view, final int position, final float x, final float y) {
+            return true;
+        }
+    }
+
+    /**
+     * An adapter which implements {@link com.nhaarman.listviewanimations.util.Swappable}, but not {@link com.nhaarman.listviewanimations.util.Movable}.
+     */
+    private static class SwappableAdapter extends BaseAdapter implements Swappable {
+
+        private final Context mContext;
+
+        private final List<Integer> mItems = new ArrayList<>();
+
+        SwappableAdapter(final Context context) {
+            mContext = context;
+            for (int i = 0; i < 30; i++) {
+                mItems.add(i);
+            }
+        }
+
+        @Override
+        public int getCount() {
+            return mItems.size();
+        }
+
+        @Override
+        public Integer getItem(final int position) {
+            return mItems.get(position);
+        }
+
+        @Override
+        public long getItemId(final int position) {
+            return getItem(position).hashCode();
+        }
+
+        @Override
+        public boolean hasStableIds() {
+            return true;
+        }
+
+        @Override
+        public void swapItems(final int positionOne, final int positionTwo) {
+            mItems.set(positionOne, mItems.set(positionTwo, mItems.get(positionOne)));
+        }
+
+        @Override
+        public View getView(final int position, final View convertView, final ViewGroup parent) {
+            TextView view = (TextView) convertView;
+            if (view == null) {
+                view = new TextView(mContext);
+                view.setTextSize(30);
+                view.setMinHeight(150);
+            }
+
+            view.setText(String.valueOf(getItem(position)));
+            return view;
+        }
+    }
+}
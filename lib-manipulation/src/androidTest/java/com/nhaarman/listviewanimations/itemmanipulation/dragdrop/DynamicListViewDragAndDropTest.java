@@ -16,14 +16,29 @@
 
 package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
 
+import android.content.Context;
 import android.support.annotation.NonNull;
 import android.test.ActivityInstrumentationTestCase2;
+import android.view.MotionEvent;
 import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
 
+import com.nhaarman.listviewanimations.BaseAdapterDecorator;
 import com.nhaarman.listviewanimations.itemmanipulation.DynamicListView;
+import com.nhaarman.listviewanimations.util.Movable;
+import com.nhaarman.listviewanimations.util.Swappable;
 
 import org.mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 
 public class DynamicListViewDragAndDropTest extends ActivityInstrumentationTestCase2<DynamicListViewTestActivity> {
@@ -33,6 +48,8 @@ public class DynamicListViewDragAndDropTest extends ActivityInstrumentationTestC
     @Mock
     private OnItemMovedListener mOnItemMovedListener;
 
+    @Mock
+    private DragAndDropMetricsListener mDragAndDropMetricsListener;
 
     public DynamicListViewDragAndDropTest() {
         super(DynamicListViewTestActivity.class);
@@ -48,6 +65,7 @@ public class DynamicListViewDragAndDropTest extends ActivityInstrumentationTestC
         mDynamicListView.enableDragAndDrop();
         mDynamicListView.setDraggableManager(new MyDraggableManager());
         mDynamicListView.setOnItemMovedListener(mOnItemMovedListener);
+        mDynamicListView.setDragAndDropMetricsListener(mDragAndDropMetricsListener);
 
         getInstrumentation().waitForIdleSync();
         Thread.sleep(5000);
@@ -73,6 +91,178 @@ public class DynamicListViewDragAndDropTest extends ActivityInstrumentationTestC
         verify(mOnItemMovedListener).onItemMoved(1, 19);
     }
 
+    /**
+     * Tests whether the list keeps scrolling while the dragged item is held past the bottom edge, and stops once it is moved back.
+     */
+    public void testAutoScrollStartsAndStopsAtBottomEdge() throws InterruptedException {
+        float fromY = getCenterScreenY(1);
+        float edgeY = getListScreenTop() + mDynamicListView.getHeight() - 1;
+
+        dispatchHoldMotionEvents(fromY, edgeY, true);
+        Thread.sleep(1000);
+
+        assertThat(mDynamicListView.getFirstVisiblePosition(), is(greaterThan(0)));
+
+        dispatchHoldMotionEvents(edgeY, fromY, false);
+        Thread.sleep(500);
+        int firstVisiblePosition = mDynamicListView.getFirstVisiblePosition();
+        int firstChildTop = mDynamicListView.getChildAt(0).getTop();
+        Thread.sleep(1000);
+
+        assertThat(mDynamicListView.getFirstVisiblePosition(), is(firstVisiblePosition));
+        assertThat(mDynamicListView.getChildAt(0).getTop(), is(firstChildTop));
+
+        dispatchReleaseMotionEvent(fromY);
+
+        ArgumentCaptor<Integer> autoScrollDistanceCaptor = ArgumentCaptor.forClass(Integer.class);
+        verify(mDragAndDropMetricsListener).onDragFinished(anyInt(), autoScrollDistanceCaptor.capture(), anyInt());
+        assertThat(autoScrollDistanceCaptor.getValue(), is(greaterThan(0)));
+    }
+
+    /**
+     * Tests whether the list scrolls back up while the dragged item is held past the top edge, and stops at the top of the list.
+     */
+    public void testAutoScrollStopsAtTopOfList() throws InterruptedException {
+        float fromY = getCenterScreenY(1);
+        float bottomEdgeY = getListScreenTop() + mDynamicListView.getHeight() - 1;
+        float topEdgeY = getListScreenTop() + 1;
+
+        dispatchHoldMotionEvents(fromY, bottomEdgeY, true);
+        Thread.sleep(1000);
+        assertThat(mDynamicListView.getFirstVisiblePosition(), is(greaterThan(0)));
+
+        dispatchHoldMotionEvents(bottomEdgeY, topEdgeY, false);
+        Thread.sleep(5000);
+
+        assertThat(mDynamicListView.getFirstVisiblePosition(), is(0));
+        assertThat(mDynamicListView.getChildAt(0).getTop(), is(mDynamicListView.getPaddingTop()));
+
+        dispatchReleaseMotionEvent(topEdgeY);
+    }
+
+    /**
+     * Tests whether the list does not scroll when the dragged item is held past the top edge while the list is already at its top.
+     */
+    public void testNoAutoScrollPastTopOfList() throws InterruptedException {
+        float fromY = getCenterScreenY(2);
+        float edgeY = getListScreenTop() + 1;
+
+        dispatchHoldMotionEvents(fromY, edgeY, true);
+        Thread.sleep(1000);
+
+        assertThat(mDynamicListView.getFirstVisiblePosition(), is(0));
+
+        dispatchReleaseMotionEvent(edgeY);
+
+        verify(mDragAndDropMetricsListener).onDragFinished(anyInt(), eq(0), anyInt());
+    }
+
+    public void testFastJumpWithDecoratedSwappableAdapter() throws Throwable {
+        final SwappableAdapter swappableAdapter = new SwappableAdapter(getActivity());
+        runTestOnUiThread(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDynamicListView.setAdapter(new BaseAdapterDecorator(swappableAdapter) {
+                        });
+                        mDynamicListView.setFastJumpEnabled(true);
+                    }
+                }
+        );
+        getInstrumentation().waitForIdleSync();
+        Thread.sleep(1000);
+
+        MotionEventUtils.dispatchDragMotionEvents(getInstrumentation(), mDynamicListView, 0, 2);
+
+        verify(mOnItemMovedListener).onItemMoved(0, 2);
+        assertThat(swappableAdapter.mItems.subList(0, 3), is(Arrays.asList(1, 2, 0)));
+    }
+
+    /**
+     * Tests whether a drop in fast jump mode moves the item with a single {@link Movable#moveItem(int, int)} call, without any swaps while dragging.
+     */
+    public void testFastJumpDropMovesOnce() throws Throwable {
+        final MovableAdapter movableAdapter = new MovableAdapter(getActivity());
+        runTestOnUiThread(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mDynamicListView.setAdapter(movableAdapter);
+                        mDynamicListView.setFastJumpEnabled(true);
+                    }
+                }
+        );
+        getInstrumentation().waitForIdleSync();
+        Thread.sleep(1000);
+
+        MotionEventUtils.dispatchDragMotionEvents(getInstrumentation(), mDynamicListView, 0, 3);
+
+        assertThat(movableAdapter.mMoveItemCount, is(1));
+        assertThat(movableAdapter.mSwapItemsCount, is(0));
+        assertThat(movableAdapter.mItems.subList(0, 4), is(Arrays.asList(1, 2, 3, 0)));
+        verify(mOnItemMovedListener).onItemMoved(0, 3);
+        verify(mDragAndDropMetricsListener).onDragFinished(eq(1), anyInt(), anyInt());
+    }
+
+    /**
+     * Tests whether grabbing the dropped item again while its hover drawable is settling continues the drag, without reporting the interrupted settle.
+     */
+    public void testGrabDuringSettleDoesNotSettle() throws InterruptedException {
+        View targetView = mDynamicListView.getChildAt(1);
+        float fromY = getCenterScreenY(0);
+        float dropY = (int) (targetView.getY() + targetView.getHeight()) + getListScreenTop();
+
+        /* The hover drawable settles from half a row below the target view up to the target view, so it covers the target view's bottom edge throughout. */
+        float grabY = dropY - 1;
+
+        MotionEventUtils.dispatchMotionEvents(getInstrumentation(), MotionEventUtils.createMotionEvents(mDynamicListView, fromY, dropY), false);
+        dispatchGrabMotionEvent(grabY);
+        Thread.sleep(1000);
+
+        verify(mOnItemMovedListener).onItemMoved(0, 1);
+        verify(mDragAndDropMetricsListener, never()).onSettled(anyLong());
+
+        dispatchReleaseMotionEvent(grabY);
+
+        verify(mDragAndDropMetricsListener, times(2)).onDragFinished(anyInt(), anyInt(), anyInt());
+        verify(mDragAndDropMetricsListener, times(1)).onSettled(anyLong());
+    }
+
+    private int getListScreenTop() {
+        int[] location = new int[2];
+        mDynamicListView.getLocationOnScreen(location);
+        return location[1];
+    }
+
+    private float getCenterScreenY(final int childIndex) {
+        View view = mDynamicListView.getChildAt(childIndex);
+        return (int) (view.getY() + view.getHeight() / 2) + getListScreenTop();
+    }
+
+    /**
+     * Dispatches move events from given from to given to screen coordinate, without releasing the dragged item.
+     *
+     * @param startDrag whether to start the drag with a down event at the from coordinate.
+     */
+    private void dispatchHoldMotionEvents(final float fromY, final float toY, final boolean startDrag) throws InterruptedException {
+        List<MotionEvent> motionEvents = MotionEventUtils.createMotionEvents(mDynamicListView, fromY, toY);
+        motionEvents.remove(motionEvents.size() - 1);
+        if (!startDrag) {
+            motionEvents.remove(0);
+        }
+        MotionEventUtils.dispatchMotionEvents(getInstrumentation(), motionEvents, false);
+    }
+
+    private void dispatchGrabMotionEvent(final float y) throws InterruptedException {
+        List<MotionEvent> motionEvents = MotionEventUtils.createMotionEvents(mDynamicListView, y, y);
+        MotionEventUtils.dispatchMotionEvents(getInstrumentation(), motionEvents.subList(0, 1), false);
+    }
+
+    private void dispatchReleaseMotionEvent(final float y) throws InterruptedException {
+        List<MotionEvent> motionEvents = MotionEventUtils.createMotionEvents(mDynamicListView, y, y);
+        MotionEventUtils.dispatchMotionEvents(getInstrumentation(), motionEvents.subList(motionEvents.size() - 1, motionEvents.size()), true);
+    }
+
     private static class MyDraggableManager implements DraggableManager {
 
         @Override
@@ -80,4 +270,93 @@ public class DynamicListViewDragAndDropTest extends ActivityInstrumentationTestC
             return true;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * An adapter which implements {@link com.nhaarman.listviewanimations.util.Swappable}, but not {@link com.nhaarman.listviewanimations.util.Movable}.
+     */
+    private static class SwappableAdapter extends BaseAdapter implements Swappable {
+
+        private final Context mContext;
+
+        final List<Integer> mItems = new ArrayList<>();
+
+        SwappableAdapter(final Context context) {
+            mContext = context;
+            for (int i = 0; i < 20; i++) {
+                mItems.add(i);
+            }
+        }
+
+        @Override
+        public int getCount() {
+            return mItems.size();
+        }
+
+        @Override
+        public Integer getItem(final int position) {
+            return mItems.get(position);
+        }
+
+        @Override
+        public long getItemId(final int position) {
+            return getItem(position).hashCode();
+        }
+
+        @Override
+        public boolean hasStableIds() {
+            return true;
+        }
+
+        @Override
+        public void swapItems(final int positionOne, final int positionTwo) {
+            mItems.set(positionOne, mItems.set(positionTwo, mItems.get(positionOne)));
+        }
+
+        @Override
+        public View getView(final int position, final View convertView, final ViewGroup parent) {
+            TextView view = (TextView) convertView;
+            if (view == null) {
+                view = new TextView(mContext);
+                view.setTextSize(30);
+            }
+
+            view.setText("This is row number " + getItem(position));
+            return view;
+        }
+    }
+
+    /**
+     * A {@link SwappableAdapter} which also implements {@link Movable}, and counts the calls to {@link #swapItems(int, int)} and {@link #moveItem(int, int)}.
+     */
+    private static class MovableAdapter extends SwappableAdapter implements Movable {
+
+        private int mMoveItemCount;
+
+        private int mSwapItemsCount;
+
+        MovableAdapter(final Context context) {
+            super(context);
+        }
+
+        @Override
+        public void swapItems(final int positionOne, final int positionTwo) {
+            mSwapItemsCount++;
+            super.swapItems(positionOne, positionTwo);
+        }
+
+        @Override
+        public void moveItem(final int from, final int to) {
+            mMoveItemCount++;
+            mItems.add(to, mItems.remove(from));
+            notifyDataSetChanged();
+        }
+
+        @Override
+        public void moveItems(final int from, final int count, final int to) {
+            List<Integer> movedItems = new ArrayList<>(mItems.subList(from, from + count));
+            mItems.subList(from, from + count).clear();
+            mItems.addAll(to, movedItems);
+            notifyDataSetChanged();
+        }
+    }
+}
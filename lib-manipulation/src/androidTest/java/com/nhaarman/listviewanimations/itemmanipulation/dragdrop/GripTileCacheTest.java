@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.graphics.Color;
+import android.test.AndroidTestCase;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings("MagicNumber")
+public class GripTileCacheTest extends AndroidTestCase {
+
+    private static final float DOT_SIZE_RADIUS_PX = 3.5f;
+
+    private int mInitialTileCount;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mInitialTileCount = GripTileCache.getTileCount();
+    }
+
+    public void testAcquireSharesTileForSameKey() {
+        GripTileCache.Tile first = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+        GripTileCache.Tile second = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(first.getReferenceCount(), is(2));
+        assertThat(GripTileCache.getTileCount(), is(mInitialTileCount + 1));
+
+        GripTileCache.release(first);
+        GripTileCache.release(second);
+    }
+
+    public void testAcquireCreatesTilePerKey() {
+        GripTileCache.Tile tile = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+        GripTileCache.Tile otherColorTile = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.BLUE);
+        GripTileCache.Tile otherSizeTile = GripTileCache.acquire(DOT_SIZE_RADIUS_PX * 2, Color.RED);
+
+        assertThat(otherColorTile, is(not(sameInstance(tile))));
+        assertThat(otherSizeTile, is(not(sameInstance(tile))));
+        assertThat(otherSizeTile, is(not(sameInstance(otherColorTile))));
+        assertThat(tile.getReferenceCount(), is(1));
+        assertThat(GripTileCache.getTileCount(), is(mInitialTileCount + 3));
+
+        GripTileCache.release(tile);
+        GripTileCache.release(otherColorTile);
+        GripTileCache.release(otherSizeTile);
+    }
+
+    public void testReleaseKeepsTileWhileReferenced() {
+        GripTileCache.Tile first = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+        GripTileCache.Tile second = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+
+        GripTileCache.release(first);
+
+        assertThat(second.getReferenceCount(), is(1));
+        assertThat(second.isRecycled(), is(false));
+        assertThat(GripTileCache.getTileCount(), is(mInitialTileCount + 1));
+
+        GripTileCache.release(second);
+    }
+
+    public void testReleaseRecyclesTileWhenUnreferenced() {
+        GripTileCache.Tile first = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+        GripTileCache.Tile second = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+
+        GripTileCache.release(first);
+        GripTileCache.release(second);
+
+        assertThat(first.getReferenceCount(), is(0));
+        assertThat(first.isRecycled(), is(true));
+        assertThat(GripTileCache.getTileCount(), is(mInitialTileCount));
+    }
+
+    public void testAcquireAfterRecycleCreatesNewTile() {
+        GripTileCache.Tile recycled = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+        GripTileCache.release(recycled);
+
+        GripTileCache.Tile tile = GripTileCache.acquire(DOT_SIZE_RADIUS_PX, Color.RED);
+
+        assertThat(tile, is(not(sameInstance(recycled))));
+        assertThat(tile.isRecycled(), is(false));
+        assertThat(tile.getReferenceCount(), is(1));
+
+        GripTileCache.release(tile);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.test.AndroidTestCase;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings("MagicNumber")
+public class GripViewTest extends AndroidTestCase {
+
+    private static final int SIZE_PX = 100;
+
+    private GripView mGripView;
+
+    private GripView mOtherGripView;
+
+    private Canvas mCanvas;
+
+    private int mInitialTileCount;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        mInitialTileCount = GripTileCache.getTileCount();
+        mCanvas = new Canvas(Bitmap.createBitmap(SIZE_PX, SIZE_PX, Bitmap.Config.ARGB_8888));
+
+        mGripView = createGripView();
+        mOtherGripView = createGripView();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mGripView.onDetachedFromWindow();
+        mOtherGripView.onDetachedFromWindow();
+
+        assertThat(GripTileCache.getTileCount(), is(mInitialTileCount));
+
+        super.tearDown();
+    }
+
+    public void testNoTileWhenTileRenderingDisabled() {
+        mGripView.setTileRenderingEnabled(false);
+        mGripView.draw(mCanvas);
+
+        assertThat(mGripView.getTile(), is(nullValue()));
+        assertThat(GripTileCache.getTileCount(), is(mInitialTileCount));
+    }
+
+    public void testDrawAcquiresTileOnce() {
+        mGripView.draw(mCanvas);
+        GripTileCache.Tile tile = mGripView.getTile();
+        mGripView.draw(mCanvas);
+
+        assertThat(tile, is(notNullValue()));
+        assertThat(mGripView.getTile(), is(sameInstance(tile)));
+        assertThat(tile.getReferenceCount(), is(1));
+    }
+
+    public void testGripViewsShareTile() {
+        mGripView.draw(mCanvas);
+        mOtherGripView.draw(mCanvas);
+
+        GripTileCache.Tile tile = mGripView.getTile();
+        assertThat(mOtherGripView.getTile(), is(sameInstance(tile)));
+        assertThat(tile.getReferenceCount(), is(2));
+    }
+
+    public void testDetachReleasesTile() {
+        mGripView.draw(mCanvas);
+        mOtherGripView.draw(mCanvas);
+        GripTileCache.Tile tile = mGripView.getTile();
+
+        mGripView.onDetachedFromWindow();
+
+        assertThat(mGripView.getTile(), is(nullValue()));
+        assertThat(tile.getReferenceCount(), is(1));
+        assertThat(tile.isRecycled(), is(false));
+
+        mOtherGripView.onDetachedFromWindow();
+
+        assertThat(mOtherGripView.getTile(), is(nullValue()));
+        assertThat(tile.isRecycled(), is(true));
+    }
+
+    public void testDetachTwiceReleasesTileOnce() {
+        mGripView.draw(mCanvas);
+        mOtherGripView.draw(mCanvas);
+        GripTileCache.Tile tile = mGripView.getTile();
+
+        mGripView.onDetachedFromWindow();
+        mGripView.onDetachedFromWindow();
+
+        assertThat(tile.getReferenceCount(), is(1));
+        assertThat(tile.isRecycled(), is(false));
+    }
+
+    public void testDrawAfterDetachAcquiresNewTile() {
+        mGripView.draw(mCanvas);
+        GripTileCache.Tile tile = mGripView.getTile();
+        mGripView.onDetachedFromWindow();
+
+        mGripView.draw(mCanvas);
+
+        assertThat(mGripView.getTile(), is(not(sameInstance(tile))));
+        assertThat(mGripView.getTile().isRecycled(), is(false));
+    }
+
+    public void testDisablingTileRenderingReleasesTile() {
+        mGripView.draw(mCanvas);
+        GripTileCache.Tile tile = mGripView.getTile();
+
+        mGripView.setTileRenderingEnabled(false);
+
+        assertThat(mGripView.getTile(), is(nullValue()));
+        assertThat(tile.isRecycled(), is(true));
+    }
+
+    public void testSetColorReKeysTile() {
+        mGripView.draw(mCanvas);
+        mOtherGripView.draw(mCanvas);
+        GripTileCache.Tile sharedTile = mGripView.getTile();
+
+        mGripView.setColor(android.R.color.black);
+
+        assertThat(mGripView.getTile(), is(nullValue()));
+        assertThat(sharedTile.getReferenceCount(), is(1));
+        assertThat(sharedTile.isRecycled(), is(false));
+
+        mGripView.draw(mCanvas);
+
+        assertThat(mGripView.getTile(), is(not(sameInstance(sharedTile))));
+        assertThat(mGripView.getTile().getReferenceCount(), is(1));
+        assertThat(mOtherGripView.getTile(), is(sameInstance(sharedTile)));
+    }
+
+    public void testSetDotSizeReKeysTile() {
+        mGripView.draw(mCanvas);
+        GripTileCache.Tile tile = mGripView.getTile();
+
+        mGripView.setDotSizeRadiusPx(5);
+
+        assertThat(mGripView.getTile(), is(nullValue()));
+        assertThat(tile.isRecycled(), is(true));
+
+        mGripView.draw(mCanvas);
+
+        assertThat(mGripView.getTile(), is(not(sameInstance(tile))));
+        assertThat(mGripView.getTile().isRecycled(), is(false));
+    }
+
+    private GripView createGripView() {
+        GripView gripView = new GripView(getContext());
+        gripView.setDotSizeRadiusPx(3);
+        gripView.setTileRenderingEnabled(true);
+        gripView.layout(0, 0, SIZE_PX, SIZE_PX);
+        return gripView;
+    }
+}
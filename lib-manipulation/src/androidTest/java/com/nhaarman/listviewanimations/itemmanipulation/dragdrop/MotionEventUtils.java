@@ -24,6 +24,7 @@ import android.view.View;
 import android.widget.AbsListView;
 
 
+import com.nhaarman.listviewanimations.itemmanipulation.DynamicGridView;
 import com.nhaarman.listviewanimations.itemmanipulation.DynamicListView;
 
 import java.util.ArrayList;
@@ -71,6 +72,41 @@ public class MotionEventUtils {
         dispatchMotionEvents(instrumentation, Arrays.asList(upEvent), true);
     }
 
+    public static void dispatchGridDragMotionEvents(final Instrumentation instrumentation, final DynamicGridView dynamicGridView, final int fromPosition,
+                                                    final int toPosition) throws InterruptedException {
+        int[] location = new int[2];
+        dynamicGridView.getLocationOnScreen(location);
+
+        View view = dynamicGridView.getChildAt(fromPosition);
+        float fromX = (int) (view.getX() + view.getWidth() / 2) + location[0];
+        float fromY = (int) (view.getY() + view.getHeight() / 2) + location[1];
+
+        View toView = dynamicGridView.getChildAt(toPosition);
+        float toX = (int) (toView.getX() + toView.getWidth() / 2) + location[0];
+        float toY = (int) (toView.getY() + toView.getHeight() / 2) + location[1];
+
+        List<MotionEvent> motionEvents = createMotionEvents(fromX, fromY, toX, toY);
+        dispatchMotionEvents(instrumentation, motionEvents, true);
+    }
+
+    public static List<MotionEvent> createMotionEvents(final float fromX, final float fromY, final float toX, final float toY) {
+        List<MotionEvent> results = new ArrayList<>();
+        results.add(MotionEvent.obtain(SystemClock.uptimeMillis(), SystemClock.uptimeMillis(), MotionEvent.ACTION_DOWN, fromX, fromY, 0));
+
+        float diffX = (toX - fromX) / 25;
+        float diffY = (toY - fromY) / 25;
+        float x = fromX;
+        float y = fromY;
+        for (int i = 0; i < 25; i++) {
+            x += diffX;
+            y += diffY;
+            results.add(MotionEvent.obtain(SystemClock.uptimeMillis(), SystemClock.uptimeMillis(), MotionEvent.ACTION_MOVE, x, y, 0));
+        }
+        results.add(MotionEvent.obtain(SystemClock.uptimeMillis(), SystemClock.uptimeMillis(), MotionEvent.ACTION_UP, toX, toY, 0));
+
+        return results;
+    }
+
     public static List<MotionEvent> createMotionEvents(final AbsListView absListView, final float fromY, final float toY) {
         int x = (int) (absListView.getX() + absListView.getWidth() / 2);
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+
+import com.nhaarman.listviewanimations.BaseAdapterDecorator;
+import com.nhaarman.listviewanimations.util.Movable;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings({"AnonymousInnerClass", "EmptyClass"})
+public class MovableUtilsTest extends TestCase {
+
+    public void testNullAdapter() {
+        assertThat(MovableUtils.getMovable(null), is(nullValue()));
+    }
+
+    public void testDecoratorIsNotMovable() {
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(new TestBaseAdapter()) {
+        };
+
+        assertThat(decorator, is(not(instanceOf(Movable.class))));
+        assertThat(MovableUtils.getMovable(decorator), is(nullValue()));
+    }
+
+    public void testMovableRootAdapterIsFoundThroughDecorators() {
+        MovableTestBaseAdapter rootAdapter = new MovableTestBaseAdapter();
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(new BaseAdapterDecorator(rootAdapter) {
+        }) {
+        };
+
+        assertThat(MovableUtils.getMovable(decorator), is((Movable) rootAdapter));
+    }
+
+    public void testMovableDecoratorIsFoundFirst() {
+        MovableTestBaseAdapterDecorator movableDecorator = new MovableTestBaseAdapterDecorator(new MovableTestBaseAdapter());
+        BaseAdapterDecorator decorator = new BaseAdapterDecorator(movableDecorator) {
+        };
+
+        assertThat(MovableUtils.getMovable(decorator), is((Movable) movableDecorator));
+    }
+
+    private static class TestBaseAdapter extends BaseAdapter {
+
+        @Override
+        public int getCount() {
+            return 0;
+        }
+
+        @Override
+        public Object getItem(final int position) {
+            return null;
+        }
+
+        @Override
+        public long getItemId(final int position) {
+            return position;
+        }
+
+        @Override
+        public View getView(final int position, final View convertView, final ViewGroup parent) {
+            return null;
+        }
+    }
+
+    private static class MovableTestBaseAdapter extends TestBaseAdapter implements Movable {
+
+        @Override
+        public void moveItem(final int from, final int to) {
+        }
+
+        @Override
+        public void moveItems(final int from, final int count, final int to) {
+        }
+    }
+
+    private static class MovableTestBaseAdapterDecorator extends BaseAdapterDecorator implements Movable {
+
+        MovableTestBaseAdapterDecorator(final BaseAdapter baseAdapter) {
+            super(baseAdapter);
+        }
+
+        @Override
+        public void moveItem(final int from, final int to) {
+        }
+
+        @Override
+        public void moveItems(final int from, final int count, final int to) {
+        }
+    }
+}
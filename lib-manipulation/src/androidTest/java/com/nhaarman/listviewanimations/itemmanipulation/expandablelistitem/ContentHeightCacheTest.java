@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.expandablelistitem;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ContentHeightCacheTest extends TestCase {
+
+    private ContentHeightCache mContentHeightCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mContentHeightCache = new ContentHeightCache();
+    }
+
+    /**
+     * Test whether ids put in random order are kept sorted, also after the cache grows.
+     */
+    public void testPutKeepsIdsSorted() {
+        long[] ids = {42, 7, 19, 3, 100, 55, 8, 1, 64, 23};
+        for (long id : ids) {
+            mContentHeightCache.put(id, 480, (int) id * 10);
+        }
+
+        assertThat(mContentHeightCache.getIds(), is(new long[]{1, 3, 7, 8, 19, 23, 42, 55, 64, 100}));
+        assertThat(mContentHeightCache.getHeights(), is(new int[]{10, 30, 70, 80, 190, 230, 420, 550, 640, 1000}));
+        for (long id : ids) {
+            assertThat(mContentHeightCache.get(id, 480), is((int) id * 10));
+        }
+    }
+
+    /**
+     * Test whether putting an existing id replaces its width and height without adding an entry.
+     */
+    public void testPutReplacesExistingId() {
+        mContentHeightCache.put(1, 480, 100);
+        mContentHeightCache.put(2, 480, 200);
+        mContentHeightCache.put(3, 480, 300);
+
+        mContentHeightCache.put(2, 720, 150);
+
+        assertThat(mContentHeightCache.getIds(), is(new long[]{1, 2, 3}));
+        assertThat(mContentHeightCache.getWidths(), is(new int[]{480, 720, 480}));
+        assertThat(mContentHeightCache.getHeights(), is(new int[]{100, 150, 300}));
+        assertThat(mContentHeightCache.get(2, 720), is(150));
+    }
+
+    /**
+     * Test whether a height measured for another width is not returned.
+     */
+    public void testGetWithWidthMismatch() {
+        mContentHeightCache.put(1, 480, 100);
+
+        assertThat(mContentHeightCache.get(1, 480), is(100));
+        assertThat(mContentHeightCache.get(1, 720), is(ContentHeightCache.NO_HEIGHT));
+    }
+
+    /**
+     * Test whether get returns NO_HEIGHT for unknown ids, and after clearing.
+     */
+    public void testGetUnknownId() {
+        mContentHeightCache.put(1, 480, 100);
+
+        assertThat(mContentHeightCache.get(2, 480), is(ContentHeightCache.NO_HEIGHT));
+
+        mContentHeightCache.clear();
+
+        assertThat(mContentHeightCache.get(1, 480), is(ContentHeightCache.NO_HEIGHT));
+        assertThat(mContentHeightCache.getIds().length, is(0));
+    }
+}
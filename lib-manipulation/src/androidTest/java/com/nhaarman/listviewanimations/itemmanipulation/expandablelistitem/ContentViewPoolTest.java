@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.expandablelistitem;
+
+import android.view.View;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ContentViewPoolTest extends TestCase {
+
+    private ContentViewPool mContentViewPool;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mContentViewPool = new ContentViewPool();
+    }
+
+    /**
+     * Test whether a released view is acquired again for the same type only.
+     */
+    public void testAcquireReturnsViewOfSameType() {
+        View view = mock(View.class);
+        mContentViewPool.release(0, view);
+
+        assertThat(mContentViewPool.acquire(1), is(nullValue()));
+        assertThat(mContentViewPool.acquire(0), is(sameInstance(view)));
+        assertThat(mContentViewPool.acquire(0), is(nullValue()));
+    }
+
+    /**
+     * Test whether no more than MAX_POOLED_VIEWS views are kept per type.
+     */
+    public void testReleaseCapsViewsPerType() {
+        for (int i = 0; i < ContentViewPool.MAX_POOLED_VIEWS; i++) {
+            assertThat(mContentViewPool.release(0, mock(View.class)), is(true));
+        }
+
+        View overflowView = mock(View.class);
+        assertThat(mContentViewPool.release(0, overflowView), is(false));
+        assertThat(mContentViewPool.size(0), is(ContentViewPool.MAX_POOLED_VIEWS));
+
+        for (int i = 0; i < ContentViewPool.MAX_POOLED_VIEWS; i++) {
+            assertThat(mContentViewPool.acquire(0), is(not(sameInstance(overflowView))));
+        }
+        assertThat(mContentViewPool.acquire(0), is(nullValue()));
+    }
+
+    /**
+     * Test whether the cap applies to each type separately.
+     */
+    public void testCapIsPerType() {
+        for (int i = 0; i < ContentViewPool.MAX_POOLED_VIEWS; i++) {
+            mContentViewPool.release(0, mock(View.class));
+        }
+
+        assertThat(mContentViewPool.release(1, mock(View.class)), is(true));
+        assertThat(mContentViewPool.size(0), is(ContentViewPool.MAX_POOLED_VIEWS));
+        assertThat(mContentViewPool.size(1), is(1));
+    }
+
+    /**
+     * Test whether clear drops all pooled views.
+     */
+    public void testClear() {
+        mContentViewPool.release(0, mock(View.class));
+        mContentViewPool.release(1, mock(View.class));
+
+        mContentViewPool.clear();
+
+        assertThat(mContentViewPool.size(0), is(0));
+        assertThat(mContentViewPool.acquire(1), is(nullValue()));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.itemmanipulation.expandablelistitem;
+
+import com.nhaarman.listviewanimations.util.LongHashSet;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ExpandedIdStoreTest extends TestCase {
+
+    private ExpandedIdStore mExpandedIdStore;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mExpandedIdStore = new ExpandedIdStore();
+    }
+
+    /**
+     * Test whether ids are kept in the order they were added, and adding an existing id does not change that order.
+     */
+    public void testAddKeepsExpansionOrder() {
+        mExpandedIdStore.add(3);
+        mExpandedIdStore.add(1);
+        mExpandedIdStore.add(2);
+        mExpandedIdStore.add(3);
+
+        assertThat(mExpandedIdStore.size(), is(3));
+        assertThat(mExpandedIdStore.toArray(), is(new long[]{3, 1, 2}));
+        assertThat(mExpandedIdStore.getOldest(), is(3L));
+    }
+
+    /**
+     * Test whether the order is kept when the ring buffer wraps around, and when it grows while wrapped.
+     */
+    public void testRingWrapAround() {
+        for (long id = 0; id < 8; id++) {
+            mExpandedIdStore.add(id);
+        }
+        /* Evict the oldest ids, so new ids wrap around to the start of the ring. */
+        mExpandedIdStore.remove(mExpandedIdStore.getOldest());
+        mExpandedIdStore.remove(mExpandedIdStore.getOldest());
+        mExpandedIdStore.add(8);
+        mExpandedIdStore.add(9);
+
+        assertThat(mExpandedIdStore.toArray(), is(new long[]{2, 3, 4, 5, 6, 7, 8, 9}));
+
+        /* Grow the ring while wrapped. */
+        mExpandedIdStore.add(10);
+
+        assertThat(mExpandedIdStore.toArray(), is(new long[]{2, 3, 4, 5, 6, 7, 8, 9, 10}));
+        assertThat(mExpandedIdStore.getOldest(), is(2L));
+    }
+
+    /**
+     * Test whether removing an id from the middle keeps the order of the other ids, also when wrapped.
+     */
+    public void testRemoveFromMiddle() {
+        for (long id = 0; id < 8; id++) {
+            mExpandedIdStore.add(id);
+        }
+        mExpandedIdStore.remove(0);
+        mExpandedIdStore.add(8);
+
+        assertThat(mExpandedIdStore.remove(5), is(true));
+        assertThat(mExpandedIdStore.remove(5), is(false));
+
+        assertThat(mExpandedIdStore.contains(5), is(false));
+        assertThat(mExpandedIdStore.toArray(), is(new long[]{1, 2, 3, 4, 6, 7, 8}));
+
+        mExpandedIdStore.add(9);
+        assertThat(mExpandedIdStore.toArray(), is(new long[]{1, 2, 3, 4, 6, 7, 8, 9}));
+    }
+
+    /**
+     * Test whether retainAll removes the ids that are not present, and keeps the order of the others.
+     */
+    public void testRetainAll() {
+        for (long id = 0; id < 6; id++) {
+            mExpandedIdStore.add(id);
+        }
+        LongHashSet present = new LongHashSet();
+        present.add(1);
+        present.add(4);
+        present.add(5);
+        present.add(42);
+
+        mExpandedIdStore.retainAll(present);
+
+        assertThat(mExpandedIdStore.size(), is(3));
+        assertThat(mExpandedIdStore.contains(0), is(false));
+        assertThat(mExpandedIdStore.contains(42), is(false));
+        assertThat(mExpandedIdStore.toArray(), is(new long[]{1, 4, 5}));
+        assertThat(mExpandedIdStore.getOldest(), is(1L));
+    }
+
+    /**
+     * Test whether getOldest throws when the store is empty.
+     */
+    public void testGetOldestWhenEmpty() {
+        mExpandedIdStore.add(1);
+        mExpandedIdStore.clear();
+
+        try {
+            mExpandedIdStore.getOldest();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+}
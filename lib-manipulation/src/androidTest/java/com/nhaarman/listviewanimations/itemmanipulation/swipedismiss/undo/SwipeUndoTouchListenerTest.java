@@ -177,4 +177,51 @@ public class SwipeUndoTouchListenerTest extends ActivityInstrumentationTestCase2
         /* Then I should be notified of dismissing the last item. */
         verify(mUndoCallback).onDismiss(any(View.class), eq(lastPosition));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests whether a restored item that has not been laid out is dismissed by dimissPending.
+     */
+    public void testDismissPendingRestoredItemWithoutView() {
+        /* Given a restored item in the undo state, which is not laid out */
+        int lastPosition = mAbsListView.getAdapter().getCount() - 1;
+        mSwipeUndoTouchListener.restoreUndoPositions(new int[]{lastPosition});
+
+        /* When dismissing pending items */
+        dimissPendingOnMainThread();
+
+        /* Then the item should be dismissed, and no longer be pending */
+        verify(mUndoCallback).onDismiss(eq(mAbsListView), aryEq(new int[]{lastPosition}));
+        assertFalse(mSwipeUndoTouchListener.hasPendingItems());
+    }
+
+    /**
+     * Tests whether dimissPending dismisses restored items with and without a View together.
+     */
+    public void testDismissPendingRestoredItemsWithAndWithoutView() throws InterruptedException {
+        /* Given two restored items in the undo state, of which only the first is laid out */
+        int lastPosition = mAbsListView.getAdapter().getCount() - 1;
+        mSwipeUndoTouchListener.restoreUndoPositions(new int[]{0, lastPosition});
+        mSwipeUndoTouchListener.onUndoViewBound(0, mAbsListView.getChildAt(0));
+
+        /* When dismissing pending items */
+        dimissPendingOnMainThread();
+        Thread.sleep(mSwipeUndoTouchListener.getDismissAnimationTime() + 500);
+        getInstrumentation().waitForIdleSync();
+
+        /* Then both items should be dismissed at once, and no longer be pending */
+        verify(mUndoCallback).onDismiss(any(View.class), eq(0));
+        verify(mUndoCallback).onDismiss(eq(mAbsListView), aryEq(new int[]{lastPosition, 0}));
+        assertFalse(mSwipeUndoTouchListener.hasPendingItems());
+    }
+
+    private void dimissPendingOnMainThread() {
+        getInstrumentation().runOnMainSync(
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        mSwipeUndoTouchListener.dimissPending();
+                    }
+                }
+        );
+    }
+}
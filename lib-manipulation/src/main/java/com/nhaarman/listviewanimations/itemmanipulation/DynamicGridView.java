@@ -0,0 +1,309 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Canvas;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.widget.AbsListView;
+import android.widget.GridView;
+import android.widget.ListAdapter;
+
+import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DraggableManager;
+import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.GridDragAndDropHandler;
+import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.OnItemMovedListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * A {@link android.widget.GridView} implementation which provides drag and drop functionality.
+ * Dragged items can be moved in both directions, and the other items shift along the grid to make room.
+ */
+public class DynamicGridView extends GridView {
+
+    /**
+     * The priority with which the drag and drop functionality receives touch events.
+     */
+    public static final int PRIORITY_DRAG_AND_DROP = DynamicListView.PRIORITY_DRAG_AND_DROP;
+
+    @NonNull
+    private final MyOnScrollListener mMyOnScrollListener;
+
+    /**
+     * The {@link TouchEventArbiter} that decides which {@link TouchEventHandler} consumes a gesture.
+     */
+    @NonNull
+    private final TouchEventArbiter mTouchEventArbiter = new TouchEventArbiter();
+
+    /**
+     * The {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.GridDragAndDropHandler}
+     * that will handle drag and drop functionality, if set.
+     */
+    @Nullable
+    private GridDragAndDropHandler mDragAndDropHandler;
+
+    /**
+     * The {@link com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler}
+     * that is currently actively consuming {@code MotionEvent}s.
+     */
+    @Nullable
+    private TouchEventHandler mCurrentHandlingTouchEventHandler;
+
+    public DynamicGridView(@NonNull final Context context) {
+        this(context, null);
+    }
+
+    public DynamicGridView(@NonNull final Context context, @Nullable final AttributeSet attrs) {
+        //noinspection HardCodedStringLiteral
+        this(context, attrs, Resources.getSystem().getIdentifier("gridViewStyle", "attr", "android"));
+    }
+
+    public DynamicGridView(@NonNull final Context context, @Nullable final AttributeSet attrs, final int defStyle) {
+        super(context, attrs, defStyle);
+
+        mMyOnScrollListener = new MyOnScrollListener();
+        super.setOnScrollListener(mMyOnScrollListener);
+    }
+
+    @Override
+    public void setOnScrollListener(final OnScrollListener onScrollListener) {
+        mMyOnScrollListener.addOnScrollListener(onScrollListener);
+    }
+
+    /**
+     * Enables the drag and drop functionality for this {@code DynamicGridView}.
+     * <p/>
+     * <b>NOTE: This method can only be called on devices running ICS (14) and above, otherwise an exception will be thrown.</b>
+     *
+     * @throws java.lang.UnsupportedOperationException if the device uses an older API than 14.
+     */
+    public void enableDragAndDrop() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            throw new UnsupportedOperationException("Drag and drop is only supported API levels 14 and up!");
+        }
+
+        setDragAndDropHandler(new GridDragAndDropHandler(this));
+    }
+
+    /**
+     * Disables the drag and drop functionality.
+     */
+    public void disableDragAndDrop() {
+        setDragAndDropHandler(null);
+    }
+
+    /**
+     * Registers a {@link com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler} that is offered {@code MotionEvent}s alongside the drag and drop
+     * functionality. Until one of the handlers reports it is interacting, events are offered in order of descending priority. The first handler to interact
+     * consumes the rest of the gesture, and the other handlers receive a cancel event.
+     *
+     * @param touchEventHandler the {@code TouchEventHandler} to register.
+     * @param priority          the priority of the handler. Compare with {@link #PRIORITY_DRAG_AND_DROP}.
+     */
+    public void addTouchEventHandler(@NonNull final TouchEventHandler touchEventHandler, final int priority) {
+        mTouchEventArbiter.add(touchEventHandler, priority);
+    }
+
+    /**
+     * Unregisters a {@link com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler} registered using {@link #addTouchEventHandler(TouchEventHandler, int)}.
+     */
+    public void removeTouchEventHandler(@NonNull final TouchEventHandler touchEventHandler) {
+        mTouchEventArbiter.remove(touchEventHandler);
+        if (mCurrentHandlingTouchEventHandler == touchEventHandler) {
+            mCurrentHandlingTouchEventHandler = null;
+        }
+    }
+
+    private void setDragAndDropHandler(@Nullable final GridDragAndDropHandler dragAndDropHandler) {
+        if (mDragAndDropHandler != null) {
+            removeTouchEventHandler(mDragAndDropHandler);
+        }
+        mDragAndDropHandler = dragAndDropHandler;
+        if (dragAndDropHandler != null) {
+            mTouchEventArbiter.add(dragAndDropHandler, PRIORITY_DRAG_AND_DROP);
+        }
+    }
+
+    /**
+     * Sets the {@link ListAdapter} for this {@code DynamicGridView}.
+     * If the drag and drop functionality is or will be enabled, the adapter should have stable ids,
+     * and should implement {@link com.nhaarman.listviewanimations.util.Swappable}.
+     *
+     * @param adapter the adapter.
+     *
+     * @throws java.lang.IllegalStateException    if the drag and drop functionality is enabled
+     *                                            and the adapter does not have stable ids.
+     * @throws java.lang.IllegalArgumentException if the drag and drop functionality is enabled
+     *                                            and the adapter does not implement {@link com.nhaarman.listviewanimations.util.Swappable}.
+     */
+    @Override
+    public void setAdapter(final ListAdapter adapter) {
+        super.setAdapter(adapter);
+
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.setAdapter(adapter);
+        }
+    }
+
+    @Override
+    public boolean dispatchTouchEvent(@NonNull final MotionEvent ev) {
+        if (mCurrentHandlingTouchEventHandler == null) {
+            /* None of the TouchEventHandlers are actively consuming events yet. */
+            if (ev.getActionMasked() == MotionEvent.ACTION_DOWN) {
+                mTouchEventArbiter.beginGesture();
+            }
+
+            mCurrentHandlingTouchEventHandler = mTouchEventArbiter.offer(ev);
+            boolean firstTimeInteracting = mCurrentHandlingTouchEventHandler != null;
+
+            if (firstTimeInteracting) {
+                /* One of the TouchEventHandlers is now taking over control.
+                   Cancel touch event handling on the other handlers and this DynamicGridView */
+                MotionEvent cancelEvent = MotionEvent.obtain(ev);
+                cancelEvent.setAction(MotionEvent.ACTION_CANCEL);
+                mTouchEventArbiter.cancelOthers(mCurrentHandlingTouchEventHandler, cancelEvent);
+                super.onTouchEvent(cancelEvent);
+                cancelEvent.recycle();
+            }
+
+            return firstTimeInteracting || super.dispatchTouchEvent(ev);
+        } else {
+            return onTouchEvent(ev);
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(@NonNull final MotionEvent ev) {
+        if (mCurrentHandlingTouchEventHandler != null) {
+            mCurrentHandlingTouchEventHandler.onTouchEvent(ev);
+        }
+
+        if (ev.getActionMasked() == MotionEvent.ACTION_UP || ev.getActionMasked() == MotionEvent.ACTION_CANCEL) {
+            /* Gesture is finished, reset the active TouchEventHandler */
+            mCurrentHandlingTouchEventHandler = null;
+        }
+
+        return mCurrentHandlingTouchEventHandler != null || super.onTouchEvent(ev);
+    }
+
+    @Override
+    protected void dispatchDraw(@NonNull final Canvas canvas) {
+        super.dispatchDraw(canvas);
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.dispatchDraw(canvas);
+        }
+    }
+
+    @Override
+    public int computeVerticalScrollOffset() {
+        return super.computeVerticalScrollOffset();
+    }
+
+    @Override
+    public int computeVerticalScrollExtent() {
+        return super.computeVerticalScrollExtent();
+    }
+
+    @Override
+    public int computeVerticalScrollRange() {
+        return super.computeVerticalScrollRange();
+    }
+
+    /* Proxy methods below */
+
+    /**
+     * Sets the {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DraggableManager} to be used
+     * for determining whether an item should be dragged when the user issues a down {@code MotionEvent}.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     */
+    public void setDraggableManager(@NonNull final DraggableManager draggableManager) {
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.setDraggableManager(draggableManager);
+        }
+    }
+
+    /**
+     * Sets the {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.OnItemMovedListener}
+     * that is notified when user has dropped a dragging item.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     */
+    public void setOnItemMovedListener(@Nullable final OnItemMovedListener onItemMovedListener) {
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.setOnItemMovedListener(onItemMovedListener);
+        }
+    }
+
+    /**
+     * Starts dragging the item at given position. User must be touching this {@code DynamicGridView}.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     *
+     * @param position the position of the item in the adapter to start dragging.
+     *
+     * @throws java.lang.IllegalStateException if the user is not touching this {@code DynamicGridView},
+     *                                         or if there is no adapter set.
+     */
+    public void startDragging(final int position) {
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.startDragging(position);
+        }
+    }
+
+    /**
+     * Sets the scroll speed when dragging an item. Defaults to {@code 1.0f}.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     *
+     * @param speed {@code <1.0f} to slow down scrolling, {@code >1.0f} to speed up scrolling.
+     */
+    public void setScrollSpeed(final float speed) {
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.setScrollSpeed(speed);
+        }
+    }
+
+    private static class MyOnScrollListener implements OnScrollListener {
+
+        private final Collection<OnScrollListener> mOnScrollListeners = new HashSet<>();
+
+        @Override
+        public void onScrollStateChanged(final AbsListView view, final int scrollState) {
+            for (OnScrollListener onScrollListener : mOnScrollListeners) {
+                onScrollListener.onScrollStateChanged(view, scrollState);
+            }
+        }
+
+        @Override
+        public void onScroll(final AbsListView view, final int firstVisibleItem, final int visibleItemCount, final int totalItemCount) {
+            for (OnScrollListener onScrollListener : mOnScrollListeners) {
+                onScrollListener.onScroll(view, firstVisibleItem, visibleItemCount, totalItemCount);
+            }
+        }
+
+        public void addOnScrollListener(final OnScrollListener onScrollListener) {
+            mOnScrollListeners.add(onScrollListener);
+        }
+    }
+}
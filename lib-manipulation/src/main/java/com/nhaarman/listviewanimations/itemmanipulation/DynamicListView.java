@@ -34,6 +34,7 @@ import android.widget.ListView;
 import com.nhaarman.listviewanimations.BaseAdapterDecorator;
 import com.nhaarman.listviewanimations.itemmanipulation.animateaddition.AnimateAdditionAdapter;
 import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DragAndDropHandler;
+import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DragAndDropMetricsListener;
 import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DraggableManager;
 import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DynamicListViewWrapper;
 import com.nhaarman.listviewanimations.itemmanipulation.dragdrop.OnItemMovedListener;
@@ -60,9 +61,25 @@ import java.util.HashSet;
  */
 public class DynamicListView extends ListView {
 
+    /**
+     * The priority with which the drag and drop functionality receives touch events.
+     */
+    public static final int PRIORITY_DRAG_AND_DROP = 200;
+
+    /**
+     * The priority with which the swipe functionality receives touch events.
+     */
+    public static final int PRIORITY_SWIPE = 100;
+
     @NonNull
     private final MyOnScrollListener mMyOnScrollListener;
 
+    /**
+     * The {@link TouchEventArbiter} that decides which {@link TouchEventHandler} consumes a gesture.
+     */
+    @NonNull
+    private final TouchEventArbiter mTouchEventArbiter = new TouchEventArbiter();
+
     /**
      * The {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DragAndDropHandler}
      * that will handle drag and drop functionality, if set.
@@ -136,14 +153,14 @@ public class DynamicListView extends ListView {
             throw new UnsupportedOperationException("Drag and drop is only supported API levels 14 and up!");
         }
 
-        mDragAndDropHandler = new DragAndDropHandler(this);
+        setDragAndDropHandler(new DragAndDropHandler(this));
     }
 
     /**
      * Disables the drag and drop functionality.
      */
     public void disableDragAndDrop() {
-        mDragAndDropHandler = null;
+        setDragAndDropHandler(null);
     }
 
     /**
@@ -153,7 +170,7 @@ public class DynamicListView extends ListView {
      *                          that is notified of dismissals.
      */
     public void enableSwipeToDismiss(@NonNull final OnDismissCallback onDismissCallback) {
-        mSwipeTouchListener = new SwipeDismissTouchListener(new DynamicListViewWrapper(this), onDismissCallback);
+        setSwipeTouchListener(new SwipeDismissTouchListener(new DynamicListViewWrapper(this), onDismissCallback));
     }
 
     /**
@@ -163,7 +180,7 @@ public class DynamicListView extends ListView {
      *                     that is used.
      */
     public void enableSwipeUndo(@NonNull final UndoCallback undoCallback) {
-        mSwipeTouchListener = new SwipeUndoTouchListener(new DynamicListViewWrapper(this), undoCallback);
+        setSwipeTouchListener(new SwipeUndoTouchListener(new DynamicListViewWrapper(this), undoCallback));
     }
 
     /**
@@ -178,8 +195,9 @@ public class DynamicListView extends ListView {
             throw new IllegalStateException("enableSimpleSwipeUndo requires a SwipeUndoAdapter to be set as an adapter");
         }
 
-        mSwipeTouchListener = new SwipeUndoTouchListener(new DynamicListViewWrapper(this), mSwipeUndoAdapter.getUndoCallback());
-        mSwipeUndoAdapter.setSwipeUndoTouchListener((SwipeUndoTouchListener) mSwipeTouchListener);
+        SwipeUndoTouchListener swipeUndoTouchListener = new SwipeUndoTouchListener(new DynamicListViewWrapper(this), mSwipeUndoAdapter.getUndoCallback());
+        setSwipeTouchListener(swipeUndoTouchListener);
+        mSwipeUndoAdapter.setSwipeUndoTouchListener(swipeUndoTouchListener);
     }
 
     /**
@@ -187,7 +205,56 @@ public class DynamicListView extends ListView {
      * {@link #enableSwipeUndo(com.nhaarman.listviewanimations.itemmanipulation.swipedismiss.undo.UndoCallback)} or {@link #enableSimpleSwipeUndo()}.
      */
     public void disableSwipeToDismiss() {
-        mSwipeTouchListener = null;
+        setSwipeTouchListener(null);
+    }
+
+    /**
+     * Registers a {@link com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler} that is offered {@code MotionEvent}s alongside the drag and drop and swipe
+     * functionality. Until one of the handlers reports it is interacting, events are offered in order of descending priority. The first handler to interact
+     * consumes the rest of the gesture, and the other handlers receive a cancel event.
+     *
+     * @param touchEventHandler the {@code TouchEventHandler} to register.
+     * @param priority          the priority of the handler. Compare with {@link #PRIORITY_DRAG_AND_DROP} and {@link #PRIORITY_SWIPE}.
+     */
+    public void addTouchEventHandler(@NonNull final TouchEventHandler touchEventHandler, final int priority) {
+        mTouchEventArbiter.add(touchEventHandler, priority);
+    }
+
+    /**
+     * Unregisters a {@link com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler} registered using {@link #addTouchEventHandler(TouchEventHandler, int)}.
+     */
+    public void removeTouchEventHandler(@NonNull final TouchEventHandler touchEventHandler) {
+        mTouchEventArbiter.remove(touchEventHandler);
+        if (mCurrentHandlingTouchEventHandler == touchEventHandler) {
+            mCurrentHandlingTouchEventHandler = null;
+        }
+    }
+
+    private void setDragAndDropHandler(@Nullable final DragAndDropHandler dragAndDropHandler) {
+        if (mDragAndDropHandler != null) {
+            removeTouchEventHandler(mDragAndDropHandler);
+        }
+        mDragAndDropHandler = dragAndDropHandler;
+        if (dragAndDropHandler != null) {
+            mTouchEventArbiter.add(dragAndDropHandler, PRIORITY_DRAG_AND_DROP);
+        }
+    }
+
+    private void setSwipeTouchListener(@Nullable final SwipeTouchListener swipeTouchListener) {
+        if (mSwipeTouchListener != null) {
+            removeTouchEventHandler(mSwipeTouchListener);
+        }
+        mSwipeTouchListener = swipeTouchListener;
+        if (swipeTouchListener != null) {
+            mTouchEventArbiter.add(swipeTouchListener, PRIORITY_SWIPE);
+        }
+    }
+
+    /**
+     * Returns whether there are items in the undo state, in which case dragging is not supported.
+     */
+    private boolean hasPendingUndoItems() {
+        return mSwipeTouchListener instanceof SwipeUndoTouchListener && ((SwipeUndoTouchListener) mSwipeTouchListener).hasPendingItems();
     }
 
     /**
@@ -234,37 +301,26 @@ public class DynamicListView extends ListView {
     public boolean dispatchTouchEvent(@NonNull final MotionEvent ev) {
         if (mCurrentHandlingTouchEventHandler == null) {
             /* None of the TouchEventHandlers are actively consuming events yet. */
-            boolean firstTimeInteracting = false;
-
-            /* We don't support dragging items when there are items in the undo state. */
-            if (!(mSwipeTouchListener instanceof SwipeUndoTouchListener) || !((SwipeUndoTouchListener) mSwipeTouchListener).hasPendingItems()) {
-                /* Offer the event to the DragAndDropHandler */
-                if (mDragAndDropHandler != null) {
-                    mDragAndDropHandler.onTouchEvent(ev);
-                    firstTimeInteracting = mDragAndDropHandler.isInteracting();
-                    if (firstTimeInteracting) {
-                        mCurrentHandlingTouchEventHandler = mDragAndDropHandler;
-                        sendCancelEvent(mSwipeTouchListener, ev);
-                    }
-                }
-            }
+            if (ev.getActionMasked() == MotionEvent.ACTION_DOWN) {
+                mTouchEventArbiter.beginGesture();
 
-            /* If not handled, offer the event to the SwipeDismissTouchListener */
-            if (mCurrentHandlingTouchEventHandler == null && mSwipeTouchListener != null) {
-                mSwipeTouchListener.onTouchEvent(ev);
-                firstTimeInteracting = mSwipeTouchListener.isInteracting();
-                if (firstTimeInteracting) {
-                    mCurrentHandlingTouchEventHandler = mSwipeTouchListener;
-                    sendCancelEvent(mDragAndDropHandler, ev);
+                /* We don't support dragging items when there are items in the undo state. */
+                if (hasPendingUndoItems()) {
+                    mTouchEventArbiter.suppressForGesture(mDragAndDropHandler);
                 }
             }
 
+            mCurrentHandlingTouchEventHandler = mTouchEventArbiter.offer(ev);
+            boolean firstTimeInteracting = mCurrentHandlingTouchEventHandler != null;
+
             if (firstTimeInteracting) {
                 /* One of the TouchEventHandlers is now taking over control.
-                   Cancel touch event handling on this DynamicListView */
+                   Cancel touch event handling on the other handlers and this DynamicListView */
                 MotionEvent cancelEvent = MotionEvent.obtain(ev);
                 cancelEvent.setAction(MotionEvent.ACTION_CANCEL);
+                mTouchEventArbiter.cancelOthers(mCurrentHandlingTouchEventHandler, cancelEvent);
                 super.onTouchEvent(cancelEvent);
+                cancelEvent.recycle();
             }
 
             return firstTimeInteracting || super.dispatchTouchEvent(ev);
@@ -287,20 +343,6 @@ public class DynamicListView extends ListView {
         return mCurrentHandlingTouchEventHandler != null || super.onTouchEvent(ev);
     }
 
-    /**
-     * Sends a cancel event to given {@link com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler}.
-     *
-     * @param touchEventHandler the {@code TouchEventHandler} to send the event to.
-     * @param motionEvent       the {@link MotionEvent} to base the cancel event on.
-     */
-    private void sendCancelEvent(@Nullable final TouchEventHandler touchEventHandler, @NonNull final MotionEvent motionEvent) {
-        if (touchEventHandler != null) {
-            MotionEvent cancelEvent = MotionEvent.obtain(motionEvent);
-            cancelEvent.setAction(MotionEvent.ACTION_CANCEL);
-            touchEventHandler.onTouchEvent(cancelEvent);
-        }
-    }
-
     @Override
     protected void dispatchDraw(@NonNull final Canvas canvas) {
         super.dispatchDraw(canvas);
@@ -424,7 +466,7 @@ public class DynamicListView extends ListView {
      */
     public void startDragging(final int position) {
         /* We don't support dragging items when items are in the undo state. */
-        if (mSwipeTouchListener instanceof SwipeUndoTouchListener && ((SwipeUndoTouchListener) mSwipeTouchListener).hasPendingItems()) {
+        if (hasPendingUndoItems()) {
             return;
         }
 
@@ -433,6 +475,53 @@ public class DynamicListView extends ListView {
         }
     }
 
+    /**
+     * Starts dragging the {@code count} items starting at given position as a single block. User must be touching this {@code DynamicListView}.
+     * All items in the block must be visible. The block is moved as a unit when it is dropped.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     *
+     * @param position the position of the first item in the adapter to start dragging. Be sure to subtract any header views.
+     * @param count    the number of items to drag.
+     *
+     * @throws java.lang.IllegalStateException if the user is not touching this {@code DynamicListView},
+     *                                         or if there is no adapter set.
+     */
+    public void startDragging(final int position, final int count) {
+        /* We don't support dragging items when items are in the undo state. */
+        if (hasPendingUndoItems()) {
+            return;
+        }
+
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.startDragging(position, count);
+        }
+    }
+
+    /**
+     * Sets the {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DragAndDropMetricsListener} that is notified of timing and count metrics of drag gestures.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     */
+    public void setDragAndDropMetricsListener(@Nullable final DragAndDropMetricsListener dragAndDropMetricsListener) {
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.setDragAndDropMetricsListener(dragAndDropMetricsListener);
+        }
+    }
+
+    /**
+     * Sets whether dragging an item that is checked, when using {@link #CHOICE_MODE_MULTIPLE}, drags the contiguous block of visible checked items around it as well.
+     * The block is moved as a unit when it is dropped, and reported to an
+     * {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.OnItemsMovedListener} if one is set. Defaults to {@code false}.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     */
+    public void setMultiItemDragEnabled(final boolean multiItemDragEnabled) {
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.setMultiItemDragEnabled(multiItemDragEnabled);
+        }
+    }
+
     /**
      * Sets the scroll speed when dragging an item. Defaults to {@code 1.0f}.
      * <p/>
@@ -446,6 +535,18 @@ public class DynamicListView extends ListView {
         }
     }
 
+    /**
+     * Sets whether dragging should use fast jump mode: instead of switching items while dragging across them, the dragged item is moved once when dropped.
+     * Recommended for long lists. Defaults to {@code false}.
+     * <p/>
+     * This method does nothing if the drag and drop functionality is not enabled.
+     */
+    public void setFastJumpEnabled(final boolean fastJumpEnabled) {
+        if (mDragAndDropHandler != null) {
+            mDragAndDropHandler.setFastJumpEnabled(fastJumpEnabled);
+        }
+    }
+
     /**
      * Sets the {@link com.nhaarman.listviewanimations.itemmanipulation.swipedismiss.DismissableManager} to specify which views can or cannot be swiped.
      * <p/>
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.MotionEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decides which of a number of {@link TouchEventHandler}s gets to consume a gesture.
+ * <p/>
+ * Until one of the handlers starts interacting, events are offered to all handlers in order of descending priority. The first handler that reports it
+ * is interacting wins the gesture; the others receive a single cancel event. After that, the owner should send the remaining events of the gesture
+ * directly to the winning handler.
+ */
+class TouchEventArbiter {
+
+    /**
+     * The registered handlers, ordered by descending priority. Handlers with equal priorities keep their registration order.
+     */
+    @NonNull
+    private final List<Entry> mEntries = new ArrayList<>();
+
+    /**
+     * Registers given {@link TouchEventHandler} with given priority. If the handler was already registered, its priority is updated.
+     */
+    void add(@NonNull final TouchEventHandler touchEventHandler, final int priority) {
+        remove(touchEventHandler);
+
+        int index = 0;
+        while (index < mEntries.size() && mEntries.get(index).priority >= priority) {
+            index++;
+        }
+        mEntries.add(index, new Entry(touchEventHandler, priority));
+    }
+
+    /**
+     * Unregisters given {@link TouchEventHandler}.
+     */
+    void remove(@Nullable final TouchEventHandler touchEventHandler) {
+        for (int i = 0; i < mEntries.size(); i++) {
+            if (mEntries.get(i).handler == touchEventHandler) {
+                mEntries.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Resets per-gesture state. Should be called on {@link MotionEvent#ACTION_DOWN}.
+     */
+    void beginGesture() {
+        for (int i = 0; i < mEntries.size(); i++) {
+            mEntries.get(i).suppressed = false;
+        }
+    }
+
+    /**
+     * Prevents given {@link TouchEventHandler} from receiving events for the rest of the current gesture.
+     */
+    void suppressForGesture(@Nullable final TouchEventHandler touchEventHandler) {
+        for (int i = 0; i < mEntries.size(); i++) {
+            Entry entry = mEntries.get(i);
+            if (entry.handler == touchEventHandler) {
+                entry.suppressed = true;
+            }
+        }
+    }
+
+    /**
+     * Offers given {@link MotionEvent} to the handlers in order of priority, until one of them starts interacting.
+     *
+     * @return the handler that started interacting, or {@code null} if none did.
+     */
+    @Nullable
+    TouchEventHandler offer(@NonNull final MotionEvent event) {
+        for (int i = 0; i < mEntries.size(); i++) {
+            Entry entry = mEntries.get(i);
+            if (!entry.suppressed) {
+                entry.handler.onTouchEvent(event);
+                if (entry.handler.isInteracting()) {
+                    return entry.handler;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends given cancel event to all non-suppressed handlers except given one.
+     */
+    void cancelOthers(@NonNull final TouchEventHandler activeHandler, @NonNull final MotionEvent cancelEvent) {
+        for (int i = 0; i < mEntries.size(); i++) {
+            Entry entry = mEntries.get(i);
+            if (entry.handler != activeHandler && !entry.suppressed) {
+                entry.handler.onTouchEvent(cancelEvent);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        @NonNull
+        final TouchEventHandler handler;
+
+        final int priority;
+
+        /**
+         * Whether this handler is excluded from the current gesture.
+         */
+        boolean suppressed;
+
+        Entry(@NonNull final TouchEventHandler handler, final int priority) {
+            this.handler = handler;
+            this.priority = priority;
+        }
+    }
+}
@@ -21,38 +21,52 @@ import android.support.annotation.Nullable;
 import android.util.Pair;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.AbsListView;
 import android.widget.AdapterView;
 import android.widget.BaseAdapter;
 import android.widget.ListView;
 
 import com.nhaarman.listviewanimations.BaseAdapterDecorator;
+import com.nhaarman.listviewanimations.StateSnapshot;
+import com.nhaarman.listviewanimations.StateSnapshotParticipant;
 import com.nhaarman.listviewanimations.util.AbsListViewWrapper;
+import com.nhaarman.listviewanimations.util.AdapterViewUtil;
+import com.nhaarman.listviewanimations.util.AnimationBackend;
 import com.nhaarman.listviewanimations.util.Insertable;
+import com.nhaarman.listviewanimations.util.ListViewWrapper;
+import com.nhaarman.listviewanimations.util.PropertyAnimation;
+import com.nhaarman.listviewanimations.util.ScrollAnchor;
 import com.nineoldandroids.animation.Animator;
 import com.nineoldandroids.animation.AnimatorListenerAdapter;
 import com.nineoldandroids.animation.AnimatorSet;
 import com.nineoldandroids.animation.ObjectAnimator;
 import com.nineoldandroids.animation.ValueAnimator;
-import com.nineoldandroids.view.ViewHelper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 
 /**
- * An adapter for inserting rows into the {@link android.widget.ListView} with an animation. The root {@link android.widget.BaseAdapter} should implement {@link Insertable},
- * otherwise an {@link IllegalArgumentException} is thrown. This class only works with an instance of {@code ListView}!
+ * An adapter for inserting rows into a list with an animation. The root {@link android.widget.BaseAdapter} should implement {@link Insertable},
+ * otherwise an {@link IllegalArgumentException} is thrown.
  * <p/>
  * Usage:<br>
  * - Wrap a new instance of this class around a {@link android.widget.BaseAdapter}. <br>
- * - Set a {@code ListView} to this class using {@link #setListView(android.widget.ListView)}.<br>
+ * - Set a {@code ListView} to this class using {@link #setListView(android.widget.ListView)}, or any other list using {@link #setAbsListView(android.widget.AbsListView)}
+ * or {@link #setListViewWrapper(com.nhaarman.listviewanimations.util.ListViewWrapper)}.<br>
  * - Call {@link AnimateAdditionAdapter#insert(int, Object)} to animate the addition of an item.
  * <p/>
+ * In a single column list, new items expand their height. When the items are laid out in multiple columns, such as in a {@link android.widget.GridView},
+ * new items scale up instead, since their row height is determined by the other items in the row.
+ * <p/>
+ * The scroll position is restored by a {@link ScrollAnchor} after items have been inserted above the first visible item. When no items are inserted above
+ * the first visible item, the {@code ScrollAnchor} is not called and the scroll position is left untouched. The default {@code ScrollAnchor}
+ * supports {@link android.widget.AbsListView}s; set a custom one using {@link #setScrollAnchor(ScrollAnchor)} for other list implementations,
+ * such as the {@code StickyListHeadersScrollAnchor} for a {@code StickyListHeadersListView}.
+ * <p/>
  * Extend this class and override {@link AnimateAdditionAdapter#getAdditionalAnimators(android.view.View,
  * android.view.ViewGroup)} to provide extra {@link com.nineoldandroids.animation.Animator}s.
  */
-public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
+public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator implements StateSnapshotParticipant {
 
     private static final long DEFAULT_SCROLLDOWN_ANIMATION_MS = 300;
 
@@ -64,6 +78,10 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
 
     private static final String ALPHA = "alpha";
 
+    private static final String SCALE_X = "scaleX";
+
+    private static final String SCALE_Y = "scaleY";
+
     @NonNull
     private final Insertable<T> mInsertable;
 
@@ -75,6 +93,17 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
      */
     private boolean mShouldAnimateDown = true;
 
+    /**
+     * The {@link ScrollAnchor} that restores the scroll position after items have been inserted above the first visible item.
+     */
+    @NonNull
+    private ScrollAnchor mScrollAnchor = new DefaultScrollAnchor();
+
+    /**
+     * The number of columns the list had at the time of the last insertion.
+     */
+    private int mColumnCount = 1;
+
     /**
      * Create a new {@code AnimateAdditionAdapter} with given {@link android.widget.BaseAdapter}.
      *
@@ -94,23 +123,19 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
     }
 
     /**
-     * @deprecated use {@link #setListView(android.widget.ListView)} instead.
+     * Sets the {@link android.widget.ListView} that is used for this {@code AnimateAdditionAdapter}.
      */
-    @Override
-    @Deprecated
-    public void setAbsListView(@NonNull final AbsListView absListView) {
-        if (absListView instanceof ListView) {
-            setListView((ListView) absListView);
-        } else {
-            throw new IllegalArgumentException("AnimateAdditionAdapter requires a ListView!");
-        }
+    public void setListView(@NonNull final ListView listView) {
+        setListViewWrapper(new AbsListViewWrapper(listView));
     }
 
     /**
-     * Sets the {@link android.widget.ListView} that is used for this {@code AnimateAdditionAdapter}.
+     * Sets the {@link ScrollAnchor} that restores the scroll position after items have been inserted above the first visible item.
+     * Defaults to an implementation which supports {@link android.widget.AbsListView}s.
      */
-    public void setListView(@NonNull final ListView listView) {
-        setListViewWrapper(new AbsListViewWrapper(listView));
+    @SuppressWarnings("UnusedDeclaration")
+    public void setScrollAnchor(@NonNull final ScrollAnchor scrollAnchor) {
+        mScrollAnchor = scrollAnchor;
     }
 
     /**
@@ -186,10 +211,13 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
      * @param indexItemPairs the index-item pairs to insert. The first argument of the {@code Pair} is the index, the second argument is the item.
      */
     public void insert(@NonNull final Iterable<Pair<Integer, T>> indexItemPairs) {
-        if (getListViewWrapper() == null) {
+        ListViewWrapper listViewWrapper = getListViewWrapper();
+        if (listViewWrapper == null) {
             throw new IllegalStateException("Call setListView on this AnimateAdditionAdapter!");
         }
 
+        mColumnCount = AdapterViewUtil.getColumnCount(listViewWrapper);
+
         Collection<Pair<Integer, T>> visibleViews = new ArrayList<>();
         Collection<Integer> insertedPositions = new ArrayList<>();
         Collection<Integer> insertedBelowPositions = new ArrayList<>();
@@ -198,7 +226,7 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
         int numInsertedAbove = 0;
 
         for (Pair<Integer, T> pair : indexItemPairs) {
-            if (getListViewWrapper().getFirstVisiblePosition() > pair.first) {
+            if (listViewWrapper.getFirstVisiblePosition() > pair.first) {
                 /* Inserting an item above the first visible position */
                 int index = pair.first;
 
@@ -213,12 +241,13 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
                 insertedPositions.add(index);
                 numInsertedAbove++;
 
-                if (mShouldAnimateDown) {
-                    View view = getView(pair.first, null, getListViewWrapper().getListView());
+                /* In a grid, the visible items only move down a row for every full row of inserted items. */
+                if (mShouldAnimateDown && numInsertedAbove % mColumnCount == 0) {
+                    View view = getView(pair.first, null, listViewWrapper.getListView());
                     view.measure(View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED), View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
                     scrollDistance -= view.getMeasuredHeight();
                 }
-            } else if (getListViewWrapper().getLastVisiblePosition() >= pair.first || getListViewWrapper().getLastVisiblePosition() == AdapterView.INVALID_POSITION ||
+            } else if (listViewWrapper.getLastVisiblePosition() >= pair.first || listViewWrapper.getLastVisiblePosition() == AdapterView.INVALID_POSITION ||
                     !childrenFillAbsListView()) {
                 /* Inserting an item that becomes visible on screen */
                 int index = pair.first;
@@ -255,33 +284,62 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
         }
 
         if (mShouldAnimateDown) {
-            ((AbsListView) getListViewWrapper().getListView()).smoothScrollBy(scrollDistance, (int) (mScrolldownAnimationDurationMs * numInsertedAbove));
+            listViewWrapper.smoothScrollBy(scrollDistance, (int) (mScrolldownAnimationDurationMs * numInsertedAbove));
         }
 
         mInsertQueue.insert(visibleViews);
 
-        int firstVisiblePosition = getListViewWrapper().getFirstVisiblePosition();
-        View firstChild = getListViewWrapper().getChildAt(0);
-        int childTop = firstChild == null ? 0 : firstChild.getTop();
-        ((ListView) getListViewWrapper().getListView()).setSelectionFromTop(firstVisiblePosition + numInsertedAbove, childTop);
+        /* Only re-anchor when items were inserted above the first visible item: otherwise the first visible item keeps its position and offset. */
+        if (numInsertedAbove > 0) {
+            int firstVisiblePosition = listViewWrapper.getFirstVisiblePosition();
+            View firstChild = listViewWrapper.getChildAt(0);
+            int childTop = firstChild == null ? 0 : firstChild.getTop();
+            mScrollAnchor.anchor(listViewWrapper, firstVisiblePosition + numInsertedAbove, childTop);
+        }
+    }
+
+    /**
+     * Inserts an item at given index without showing an entrance animation or adjusting the scroll position.
+     * Will also call {@link Insertable#add(int, Object)} of the root {@link android.widget.BaseAdapter}.
+     *
+     * @param index the index the new item should be inserted at.
+     * @param item  the item to insert.
+     */
+    void insertWithoutAnimation(final int index, @NonNull final T item) {
+        mInsertQueue.insertImmediately(index, item);
+    }
+
+    /**
+     * Returns the number of items that have been requested to be inserted, but are waiting for active insertion animations to finish.
+     */
+    int getPendingInsertCount() {
+        return mInsertQueue.getPendingItemsToInsert().size();
+    }
+
+    /**
+     * Does nothing: pending inserts are not saved. Items that are waiting for active insertion animations to finish are not part of the data set of the root
+     * {@link android.widget.BaseAdapter} yet, and cannot be written to a {@link com.nhaarman.listviewanimations.StateSnapshot}. They are lost if the
+     * adapter is recreated before they are inserted.
+     */
+    @Override
+    public void onSaveStateSnapshot(@NonNull final StateSnapshot.Section section) {
+    }
+
+    @Override
+    public void onRestoreStateSnapshot(@NonNull final StateSnapshot.Section section) {
     }
 
     /**
      * @return true if the children completely fill up the AbsListView.
      */
     private boolean childrenFillAbsListView() {
-        if (getListViewWrapper() == null) {
+        ListViewWrapper listViewWrapper = getListViewWrapper();
+        if (listViewWrapper == null) {
             throw new IllegalStateException("Call setListView on this AnimateAdditionAdapter first!");
         }
 
-        int childrenHeight = 0;
-        for (int i = 0; i < getListViewWrapper().getCount(); i++) {
-            View child = getListViewWrapper().getChildAt(i);
-            if (child != null) {
-                childrenHeight += child.getHeight();
-            }
-        }
-        return getListViewWrapper().getListView().getHeight() <= childrenHeight;
+        View lastChild = listViewWrapper.getChildAt(listViewWrapper.getChildCount() - 1);
+        return lastChild != null && lastChild.getBottom() >= listViewWrapper.getListView().getHeight();
     }
 
     @Override
@@ -290,24 +348,22 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
         final View view = super.getView(position, convertView, parent);
 
         if (mInsertQueue.getActiveIndexes().contains(position)) {
-            int widthMeasureSpec = View.MeasureSpec.makeMeasureSpec(ViewGroup.LayoutParams.MATCH_PARENT, View.MeasureSpec.AT_MOST);
-            int heightMeasureSpec = View.MeasureSpec.makeMeasureSpec(ViewGroup.LayoutParams.WRAP_CONTENT, View.MeasureSpec.UNSPECIFIED);
-            view.measure(widthMeasureSpec, heightMeasureSpec);
-
-            int originalHeight = view.getMeasuredHeight();
-
-            ValueAnimator heightAnimator = ValueAnimator.ofInt(1, originalHeight);
-            heightAnimator.addUpdateListener(new HeightUpdater(view));
-
             Animator[] customAnimators = getAdditionalAnimators(view, parent);
+            if (customAnimators.length == 0) {
+                /* Without custom nineoldandroids Animators to play along, the animation can run on the AnimationBackend. */
+                startEntranceAnimation(view, position);
+                return view;
+            }
+
+            Animator entranceAnimator = mColumnCount > 1 ? createScaleAnimator(view) : createHeightAnimator(view);
             Animator[] animators = new Animator[customAnimators.length + 1];
-            animators[0] = heightAnimator;
+            animators[0] = entranceAnimator;
             System.arraycopy(customAnimators, 0, animators, 1, customAnimators.length);
 
             AnimatorSet animatorSet = new AnimatorSet();
             animatorSet.playTogether(animators);
 
-            ViewHelper.setAlpha(view, 0);
+            AnimationBackend.getInstance().setAlpha(view, 0);
             ObjectAnimator alphaAnimator = ObjectAnimator.ofFloat(view, ALPHA, 0, 1);
 
             AnimatorSet allAnimatorsSet = new AnimatorSet();
@@ -321,8 +377,62 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
         return view;
     }
 
+    /**
+     * Starts the default entrance animation for given {@link View} using {@link PropertyAnimation}s: a height or scale animation, followed by an alpha
+     * animation.
+     */
+    private void startEntranceAnimation(@NonNull final View view, final int position) {
+        PropertyAnimation entranceAnimation = new PropertyAnimation();
+        if (mColumnCount > 1) {
+            AnimationBackend.getInstance().setScaleX(view, 0);
+            AnimationBackend.getInstance().setScaleY(view, 0);
+            entranceAnimation.animate(view, PropertyAnimation.SCALE_X, 0, 1).animate(view, PropertyAnimation.SCALE_Y, 0, 1);
+        } else {
+            entranceAnimation.animate(view, PropertyAnimation.HEIGHT, 1, measureHeight(view));
+        }
+
+        AnimationBackend.getInstance().setAlpha(view, 0);
+        entranceAnimation.setDuration(mInsertionAnimationDurationMs)
+                .setEndAction(new FadeInAction(view, position))
+                .start();
+    }
+
+    /**
+     * Measures given {@link View}, and returns its measured height.
+     */
+    private static int measureHeight(@NonNull final View view) {
+        int widthMeasureSpec = View.MeasureSpec.makeMeasureSpec(ViewGroup.LayoutParams.MATCH_PARENT, View.MeasureSpec.AT_MOST);
+        int heightMeasureSpec = View.MeasureSpec.makeMeasureSpec(ViewGroup.LayoutParams.WRAP_CONTENT, View.MeasureSpec.UNSPECIFIED);
+        view.measure(widthMeasureSpec, heightMeasureSpec);
+        return view.getMeasuredHeight();
+    }
+
+    /**
+     * Creates an {@link Animator} which expands the height of given {@link View} from 1 to its measured height.
+     */
+    @NonNull
+    private static Animator createHeightAnimator(@NonNull final View view) {
+        ValueAnimator heightAnimator = ValueAnimator.ofInt(1, measureHeight(view));
+        heightAnimator.addUpdateListener(new HeightUpdater(view));
+        return heightAnimator;
+    }
+
+    /**
+     * Creates an {@link Animator} which scales given {@link View} up from its center. Used for items in a multi-column list.
+     */
+    @NonNull
+    private static Animator createScaleAnimator(@NonNull final View view) {
+        AnimationBackend.getInstance().setScaleX(view, 0);
+        AnimationBackend.getInstance().setScaleY(view, 0);
+
+        AnimatorSet scaleAnimator = new AnimatorSet();
+        scaleAnimator.playTogether(ObjectAnimator.ofFloat(view, SCALE_X, 0, 1), ObjectAnimator.ofFloat(view, SCALE_Y, 0, 1));
+        return scaleAnimator;
+    }
+
     /**
      * Override this method to provide additional animators on top of the default height and alpha animation.
+     * If this returns an empty array, the default animation runs on the native animation framework where available.
      *
      * @param view   The {@link android.view.View} that will get animated.
      * @param parent The parent that this view will eventually be attached to.
@@ -370,4 +480,46 @@ public class AnimateAdditionAdapter<T> extends BaseAdapterDecorator {
             mInsertQueue.removeActiveIndex(mPosition);
         }
     }
+
+    /**
+     * A {@link Runnable} which fades in a {@code View} after its entrance animation, and then removes the active index from the {@code InsertQueue}.
+     */
+    private class FadeInAction implements Runnable {
+
+        @NonNull
+        private final View mView;
+
+        private final int mPosition;
+
+        FadeInAction(@NonNull final View view, final int position) {
+            mView = view;
+            mPosition = position;
+        }
+
+        @Override
+        public void run() {
+            new PropertyAnimation()
+                    .animate(mView, PropertyAnimation.ALPHA, 0, 1)
+                    .setDuration(mInsertionAnimationDurationMs)
+                    .setEndAction(new RemoveActiveIndexAction(mPosition))
+                    .start();
+        }
+    }
+
+    /**
+     * A {@link Runnable} which removes the active index from the {@code InsertQueue}.
+     */
+    private class RemoveActiveIndexAction implements Runnable {
+
+        private final int mPosition;
+
+        RemoveActiveIndexAction(final int position) {
+            mPosition = position;
+        }
+
+        @Override
+        public void run() {
+            mInsertQueue.removeActiveIndex(mPosition);
+        }
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.itemmanipulation.animateaddition;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.util.Log;
+import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
+import android.widget.AbsListView;
+import android.widget.ListView;
+
+import com.nhaarman.listviewanimations.util.ListViewWrapper;
+import com.nhaarman.listviewanimations.util.ScrollAnchor;
+
+/**
+ * The default {@link ScrollAnchor}, which supports {@link android.widget.ListView}s and other {@link android.widget.AbsListView}s.
+ * <p/>
+ * A {@code ListView} is anchored exactly using {@link ListView#setSelectionFromTop(int, int)}. Other {@code AbsListView}s, such as a
+ * {@link android.widget.GridView}, have no such method: the row containing the position is selected using {@link AbsListView#setSelection(int)}, after which
+ * the top offset is restored using {@link AbsListView#scrollListBy(int)} once the list has been laid out. Since {@code scrollListBy} is only available on
+ * KitKat and above, the offset is dropped on earlier versions, and the row containing the position is aligned to the top of the list.
+ */
+class DefaultScrollAnchor implements ScrollAnchor {
+
+    /**
+     * Whether the warning for unsupported list implementations has been logged.
+     */
+    private boolean mHasWarned;
+
+    @Override
+    public void anchor(@NonNull final ListViewWrapper listViewWrapper, final int position, final int top) {
+        ViewGroup listView = listViewWrapper.getListView();
+        if (listView instanceof ListView) {
+            ((ListView) listView).setSelectionFromTop(position, top);
+        } else if (listView instanceof AbsListView) {
+            /* setSelection aligns the row containing the position to the top; restore the offset once the list has been laid out. */
+            ((AbsListView) listView).setSelection(position);
+            if (top != 0 && Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+                listView.getViewTreeObserver().addOnPreDrawListener(new OffsetOnPreDrawListener((AbsListView) listView, top));
+            }
+        } else if (!mHasWarned) {
+            mHasWarned = true;
+            Log.w("ListViewAnimations", "Warning: cannot restore the scroll position of " + listView.getClass().getName() + ", set a ScrollAnchor on the AnimateAdditionAdapter!");
+        }
+    }
+
+    /**
+     * A {@link android.view.ViewTreeObserver.OnPreDrawListener} which immediately scrolls the list by the top offset after the layout caused by
+     * {@code setSelection}, and then removes itself.
+     */
+    @TargetApi(Build.VERSION_CODES.KITKAT)
+    private static class OffsetOnPreDrawListener implements ViewTreeObserver.OnPreDrawListener {
+
+        @NonNull
+        private final AbsListView mAbsListView;
+
+        private final int mTop;
+
+        OffsetOnPreDrawListener(@NonNull final AbsListView absListView, final int top) {
+            mAbsListView = absListView;
+            mTop = top;
+        }
+
+        @Override
+        public boolean onPreDraw() {
+            mAbsListView.getViewTreeObserver().removeOnPreDrawListener(this);
+            mAbsListView.scrollListBy(-mTop);
+            return true;
+        }
+    }
+}
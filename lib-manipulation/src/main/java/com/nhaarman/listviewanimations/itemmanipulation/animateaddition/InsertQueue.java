@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -88,6 +89,28 @@ public class InsertQueue<T> {
         }
     }
 
+    /**
+     * Inserts an item at given index directly, bypassing the queue. The item will not be marked as active.
+     * Active indexes and the indexes of pending pairs at or after given index are shifted accordingly.
+     *
+     * @param index the index at which the item should be inserted.
+     * @param item  the item to insert.
+     */
+    public void insertImmediately(final int index, @NonNull final T item) {
+        for (AtomicInteger existing : mActiveIndexes) {
+            if (existing.intValue() >= index) {
+                existing.incrementAndGet();
+            }
+        }
+        for (ListIterator<Pair<Integer, T>> iterator = mPendingItemsToInsert.listIterator(); iterator.hasNext(); ) {
+            Pair<Integer, T> pending = iterator.next();
+            if (pending.first >= index) {
+                iterator.set(new Pair<>(pending.first + 1, pending.second));
+            }
+        }
+        mInsertable.add(index, item);
+    }
+
     /**
      * Clears the active states and inserts any pending pairs if applicable.
      */
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.animateaddition;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Pair;
+
+import com.nhaarman.listviewanimations.util.FrameCallbackScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded source of items to be inserted into an {@link AnimateAdditionAdapter}, which can be fed from any thread.
+ * <p/>
+ * Items offered to this class are kept in a lock-free queue, and are drained into the {@code AnimateAdditionAdapter} on the main thread,
+ * at most once per frame. When the queue is full, or when a burst of items arrives, the configured backpressure policy decides what happens:
+ * <ul>
+ * <li>{@link #BACKPRESSURE_COALESCE}: all items queued since the previous drain are inserted as a single batch, so they share one insertion pass and
+ * animate together. New items are rejected while the queue is full.</li>
+ * <li>{@link #BACKPRESSURE_DROP_OLDEST}: items are inserted one by one, so their animations follow each other.
+ * The oldest queued item is discarded to make room for a new item when the queue is full.</li>
+ * <li>{@link #BACKPRESSURE_SKIP_ANIMATION}: when more than {@link #setSkipAnimationThreshold(int)} items are drained at once, they are inserted without
+ * animation. New items are rejected while the queue is full.</li>
+ * </ul>
+ *
+ * @param <T> the type of the items.
+ */
+public class StreamingInsertSource<T> {
+
+    /**
+     * Backpressure policy which inserts all queued items of a drain as a single batch, and rejects new items when the queue is full.
+     */
+    public static final int BACKPRESSURE_COALESCE = 0;
+
+    /**
+     * Backpressure policy which discards the oldest queued item when a new item is offered to a full queue.
+     */
+    public static final int BACKPRESSURE_DROP_OLDEST = 1;
+
+    /**
+     * Backpressure policy which inserts items without animation when the number of items in a drain exceeds the threshold.
+     */
+    public static final int BACKPRESSURE_SKIP_ANIMATION = 2;
+
+    /**
+     * The default maximum number of queued items.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The default number of items in a single drain above which items are inserted without animation.
+     */
+    public static final int DEFAULT_SKIP_ANIMATION_THRESHOLD = 8;
+
+    /**
+     * The index value indicating an item should be appended to the end of the list.
+     */
+    private static final int INDEX_APPEND = -1;
+
+    @NonNull
+    private final AnimateAdditionAdapter<T> mAnimateAdditionAdapter;
+
+    private final int mCapacity;
+
+    /**
+     * The queued entries. Producers add to the tail, the main thread polls from the head.
+     */
+    @NonNull
+    private final Queue<Entry<T>> mQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of entries in {@link #mQueue}, used to enforce {@link #mCapacity} without locking.
+     */
+    @NonNull
+    private final AtomicInteger mDepth = new AtomicInteger();
+
+    /**
+     * The number of entries that were discarded due to {@link #BACKPRESSURE_DROP_OLDEST}.
+     */
+    @NonNull
+    private final AtomicInteger mDroppedCount = new AtomicInteger();
+
+    /**
+     * The number of entries that were rejected because the queue was full.
+     */
+    @NonNull
+    private final AtomicInteger mRejectedCount = new AtomicInteger();
+
+    /**
+     * Whether a drain has been requested, but has not started yet.
+     */
+    @NonNull
+    private final AtomicBoolean mDrainRequested = new AtomicBoolean();
+
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    @NonNull
+    private final Runnable mScheduleDrainRunnable = new ScheduleDrainRunnable();
+
+    @NonNull
+    private final FrameCallbackScheduler mFrameCallbackScheduler;
+
+    private volatile int mBackpressurePolicy = BACKPRESSURE_COALESCE;
+
+    private volatile int mSkipAnimationThreshold = DEFAULT_SKIP_ANIMATION_THRESHOLD;
+
+    /**
+     * The time in nanoseconds the oldest item of the last drain spent in the queue.
+     */
+    private long mLastDrainLatencyNanos;
+
+    @Nullable
+    private OnDrainListener mOnDrainListener;
+
+    /**
+     * Creates a new {@code StreamingInsertSource} with a capacity of {@value #DEFAULT_CAPACITY} items.
+     *
+     * @param animateAdditionAdapter the {@link AnimateAdditionAdapter} to insert items into.
+     */
+    public StreamingInsertSource(@NonNull final AnimateAdditionAdapter<T> animateAdditionAdapter) {
+        this(animateAdditionAdapter, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@code StreamingInsertSource}.
+     *
+     * @param animateAdditionAdapter the {@link AnimateAdditionAdapter} to insert items into.
+     * @param capacity               the maximum number of queued items. Must be positive.
+     */
+    public StreamingInsertSource(@NonNull final AnimateAdditionAdapter<T> animateAdditionAdapter, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive!");
+        }
+
+        mAnimateAdditionAdapter = animateAdditionAdapter;
+        mCapacity = capacity;
+        mFrameCallbackScheduler = new FrameCallbackScheduler(new DrainCallback());
+    }
+
+    /**
+     * Sets the backpressure policy. Defaults to {@link #BACKPRESSURE_COALESCE}.
+     *
+     * @param backpressurePolicy one of {@link #BACKPRESSURE_COALESCE}, {@link #BACKPRESSURE_DROP_OLDEST} or {@link #BACKPRESSURE_SKIP_ANIMATION}.
+     */
+    public void setBackpressurePolicy(final int backpressurePolicy) {
+        if (backpressurePolicy != BACKPRESSURE_COALESCE && backpressurePolicy != BACKPRESSURE_DROP_OLDEST && backpressurePolicy != BACKPRESSURE_SKIP_ANIMATION) {
+            throw new IllegalArgumentException("Unknown backpressure policy: " + backpressurePolicy);
+        }
+        mBackpressurePolicy = backpressurePolicy;
+    }
+
+    /**
+     * Sets the number of items in a single drain above which items are inserted without animation, when using {@link #BACKPRESSURE_SKIP_ANIMATION}.
+     * Defaults to {@value #DEFAULT_SKIP_ANIMATION_THRESHOLD}.
+     */
+    public void setSkipAnimationThreshold(final int skipAnimationThreshold) {
+        mSkipAnimationThreshold = skipAnimationThreshold;
+    }
+
+    /**
+     * Sets the {@link OnDrainListener} that is notified after each drain. The listener is called on the main thread.
+     */
+    public void setOnDrainListener(@Nullable final OnDrainListener onDrainListener) {
+        mOnDrainListener = onDrainListener;
+    }
+
+    /**
+     * Offers an item to be appended to the end of the list. May be called from any thread.
+     *
+     * @param item the item to append.
+     *
+     * @return {@code true} if the item was queued, {@code false} if it was rejected because the queue is full.
+     */
+    public boolean offer(@NonNull final T item) {
+        return offer(INDEX_APPEND, item);
+    }
+
+    /**
+     * Offers an item to be inserted at given index. May be called from any thread.
+     * The index is interpreted at the time the item is drained.
+     *
+     * @param index the index the item should be inserted at.
+     * @param item  the item to insert.
+     *
+     * @return {@code true} if the item was queued, {@code false} if it was rejected because the queue is full.
+     */
+    public boolean offer(final int index, @NonNull final T item) {
+        Entry<T> entry = new Entry<>(index, item, System.nanoTime());
+
+        boolean queued = false;
+        while (!queued) {
+            int depth = mDepth.get();
+            if (depth < mCapacity) {
+                if (mDepth.compareAndSet(depth, depth + 1)) {
+                    mQueue.offer(entry);
+                    queued = true;
+                }
+            } else if (mBackpressurePolicy == BACKPRESSURE_DROP_OLDEST) {
+                /* Take over the slot of the oldest entry. If the queue was drained in the meantime, try again. */
+                if (mQueue.poll() != null) {
+                    mDroppedCount.incrementAndGet();
+                    mQueue.offer(entry);
+                    queued = true;
+                }
+            } else {
+                mRejectedCount.incrementAndGet();
+                return false;
+            }
+        }
+
+        requestDrain();
+        return true;
+    }
+
+    /**
+     * Returns the number of items currently waiting to be drained.
+     */
+    public int getQueueDepth() {
+        return mDepth.get();
+    }
+
+    /**
+     * Returns the number of items that were discarded because of {@link #BACKPRESSURE_DROP_OLDEST}.
+     */
+    public int getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    /**
+     * Returns the number of items that were rejected because the queue was full.
+     */
+    public int getRejectedCount() {
+        return mRejectedCount.get();
+    }
+
+    /**
+     * Returns the time in nanoseconds the oldest item of the last drain spent in the queue. Should be called on the main thread.
+     */
+    public long getLastDrainLatencyNanos() {
+        return mLastDrainLatencyNanos;
+    }
+
+    /**
+     * Requests a drain on the next frame, if it was not requested already.
+     */
+    private void requestDrain() {
+        if (mDrainRequested.compareAndSet(false, true)) {
+            mMainHandler.post(mScheduleDrainRunnable);
+        }
+    }
+
+    /**
+     * Inserts the queued items into the {@link AnimateAdditionAdapter}. Should be called on the main thread.
+     * Items that are offered while draining are left for the next drain.
+     */
+    void drain() {
+        mDrainRequested.set(false);
+
+        int count = mDepth.get();
+        if (count == 0) {
+            return;
+        }
+
+        boolean animate = mBackpressurePolicy != BACKPRESSURE_SKIP_ANIMATION || count <= mSkipAnimationThreshold;
+        List<Pair<Integer, T>> batch = mBackpressurePolicy == BACKPRESSURE_COALESCE ? new ArrayList<Pair<Integer, T>>(count) : null;
+        long oldestEnqueueTimeNanos = -1;
+        int insertedCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            Entry<T> entry = mQueue.poll();
+            if (entry == null) {
+                break;
+            }
+            mDepth.decrementAndGet();
+
+            if (oldestEnqueueTimeNanos == -1) {
+                oldestEnqueueTimeNanos = entry.enqueueTimeNanos;
+            }
+
+            if (batch != null) {
+                /* The items of a batch are inserted in order, so appended items go after the earlier items of the batch. */
+                int index = entry.index == INDEX_APPEND ? mAnimateAdditionAdapter.getCount() + mAnimateAdditionAdapter.getPendingInsertCount() + batch.size() : entry.index;
+                batch.add(new Pair<>(index, entry.item));
+            } else {
+                int index = entry.index == INDEX_APPEND ? mAnimateAdditionAdapter.getCount() + mAnimateAdditionAdapter.getPendingInsertCount() : entry.index;
+                if (animate) {
+                    mAnimateAdditionAdapter.insert(index, entry.item);
+                } else {
+                    mAnimateAdditionAdapter.insertWithoutAnimation(index, entry.item);
+                }
+            }
+            insertedCount++;
+        }
+
+        if (batch != null && !batch.isEmpty()) {
+            mAnimateAdditionAdapter.insert(batch);
+        }
+
+        if (insertedCount > 0) {
+            mLastDrainLatencyNanos = System.nanoTime() - oldestEnqueueTimeNanos;
+            if (mOnDrainListener != null) {
+                mOnDrainListener.onDrained(insertedCount, mDepth.get(), mLastDrainLatencyNanos, animate);
+            }
+        }
+
+        if (mDepth.get() > 0) {
+            requestDrain();
+        }
+    }
+
+    /**
+     * A listener which is notified when queued items have been inserted.
+     */
+    public interface OnDrainListener {
+
+        /**
+         * Called on the main thread after a drain.
+         *
+         * @param insertedCount  the number of items that were inserted.
+         * @param remainingDepth the number of items still waiting in the queue.
+         * @param latencyNanos   the time in nanoseconds the oldest inserted item spent in the queue.
+         * @param animated       whether the items were inserted with an animation.
+         */
+        void onDrained(int insertedCount, int remainingDepth, long latencyNanos, boolean animated);
+    }
+
+    private static class Entry<T> {
+
+        final int index;
+
+        @NonNull
+        final T item;
+
+        final long enqueueTimeNanos;
+
+        Entry(final int index, @NonNull final T item, final long enqueueTimeNanos) {
+            this.index = index;
+            this.item = item;
+            this.enqueueTimeNanos = enqueueTimeNanos;
+        }
+    }
+
+    /**
+     * A {@link Runnable} which schedules the drain on the next frame. Posted to the main thread.
+     */
+    private class ScheduleDrainRunnable implements Runnable {
+
+        @Override
+        public void run() {
+            mFrameCallbackScheduler.scheduleFrame();
+        }
+    }
+
+    private class DrainCallback implements FrameCallbackScheduler.Callback {
+
+        @Override
+        public void onFrame(final long frameTimeNanos) {
+            drain();
+        }
+    }
+}
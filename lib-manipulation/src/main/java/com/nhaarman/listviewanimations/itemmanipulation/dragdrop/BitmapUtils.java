@@ -21,6 +21,8 @@ import android.graphics.Canvas;
 import android.support.annotation.NonNull;
 import android.view.View;
 
+import java.util.List;
+
 class BitmapUtils {
 
     private BitmapUtils() {
@@ -37,4 +39,24 @@ class BitmapUtils {
         return bitmap;
     }
 
+    /**
+     * Returns a bitmap showing a screenshot of the views passed in, at their positions relative to the first view.
+     * The views should be ordered from top to bottom.
+     */
+    @NonNull
+    static Bitmap getBitmapFromViews(@NonNull final List<View> views) {
+        View first = views.get(0);
+        View last = views.get(views.size() - 1);
+
+        Bitmap bitmap = Bitmap.createBitmap(first.getMeasuredWidth(), last.getBottom() - first.getTop(), Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        for (View v : views) {
+            int saveCount = canvas.save();
+            canvas.translate(v.getLeft() - first.getLeft(), v.getTop() - first.getTop());
+            v.draw(canvas);
+            canvas.restoreToCount(saveCount);
+        }
+        return bitmap;
+    }
+
 }
@@ -4,13 +4,13 @@ import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
 import android.animation.ValueAnimator;
 import android.annotation.TargetApi;
-import android.content.res.Resources;
 import android.graphics.Canvas;
+import android.graphics.Paint;
 import android.graphics.Rect;
 import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
-import android.util.TypedValue;
+import android.util.SparseBooleanArray;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewConfiguration;
@@ -23,8 +23,13 @@ import android.widget.WrapperListAdapter;
 
 import com.nhaarman.listviewanimations.itemmanipulation.DynamicListView;
 import com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler;
+import com.nhaarman.listviewanimations.util.DisplayUtil;
+import com.nhaarman.listviewanimations.util.Movable;
 import com.nhaarman.listviewanimations.util.Swappable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A class which handles drag and drop functionality for listview implementations backed up by a
  * {@link com.nhaarman.listviewanimations.util.Swappable} {@link ListAdapter}.
@@ -37,6 +42,16 @@ public class DragAndDropHandler implements TouchEventHandler {
 
     private static final int INVALID_ID = -1;
 
+    /**
+     * The height in dp of the marker that indicates where the dragged item will be dropped in fast jump mode.
+     */
+    private static final int INSERTION_MARKER_HEIGHT_DP = 3;
+
+    /**
+     * The color of the marker that indicates where the dragged item will be dropped in fast jump mode.
+     */
+    private static final int INSERTION_MARKER_COLOR = 0x80000000;
+
     @NonNull
     private final DragAndDropListViewWrapper mWrapper;
 
@@ -122,6 +137,81 @@ public class DragAndDropHandler implements TouchEventHandler {
      */
     private boolean mIsSettlingHoverDrawable;
 
+    /**
+     * The listener of the running settle animation, if any. Used to cancel the settle animation when the user grabs the hover drawable again.
+     */
+    @Nullable
+    private SettleHoverDrawableAnimatorListener mSettleAnimatorListener;
+
+    /**
+     * The {@link DragAndDropMetricsListener} that is notified of drag metrics, if any. No measurements are taken if this is {@code null}.
+     */
+    @Nullable
+    private DragAndDropMetricsListener mMetricsListener;
+
+    /**
+     * The {@link DroppedFrameCounter} that counts dropped frames during a drag. Not {@code null} if {@link #mMetricsListener} is not {@code null}.
+     */
+    @Nullable
+    private DroppedFrameCounter mDroppedFrameCounter;
+
+    /**
+     * The number of adapter operations done to move items during the current drag.
+     */
+    private int mSwapCount;
+
+    /**
+     * The time in nanoseconds the dragged items were dropped. Only measured if {@link #mMetricsListener} is not {@code null}.
+     */
+    private long mDropTimeNanos;
+
+    /**
+     * Whether new drags should use fast jump mode.
+     */
+    private boolean mFastJumpEnabled;
+
+    /**
+     * Whether the current drag uses fast jump mode: items are not switched while dragging, and the item is moved once when dropped.
+     */
+    private boolean mIsFastJumping;
+
+    /**
+     * The position the dragged item will be moved to when dropped in fast jump mode.
+     */
+    private int mTargetPosition = AdapterView.INVALID_POSITION;
+
+    /**
+     * The {@link Paint} used to draw the insertion marker in fast jump mode.
+     */
+    @NonNull
+    private final Paint mInsertionMarkerPaint;
+
+    /**
+     * The height in pixels of the insertion marker.
+     */
+    private final int mInsertionMarkerHeight;
+
+    /**
+     * Whether dragging a checked item drags the contiguous block of checked items around it.
+     */
+    private boolean mMultiItemDragEnabled;
+
+    /**
+     * The number of items that are being dragged, starting at {@link #mOriginalMobileItemPosition}.
+     */
+    private int mDragCount = 1;
+
+    /**
+     * The height in pixels of the first item that is being dragged. Used to determine which item the dragged item or block is above.
+     */
+    private int mDragRowHeight;
+
+    /**
+     * The {@code View}s of the dragged items other than {@link #mMobileView}, which are hidden while dragging a block.
+     */
+    @NonNull
+    private final List<View> mHiddenBlockViews = new ArrayList<>();
+
     /**
      * Creates a new {@code DragAndDropHandler} for given {@link com.nhaarman.listviewanimations.itemmanipulation.DynamicListView}.
      *
@@ -158,6 +248,11 @@ public class DragAndDropHandler implements TouchEventHandler {
 
         ViewConfiguration vc = ViewConfiguration.get(dragAndDropListViewWrapper.getListView().getContext());
         mSlop = vc.getScaledTouchSlop();
+
+        mInsertionMarkerPaint = new Paint();
+        mInsertionMarkerPaint.setColor(INSERTION_MARKER_COLOR);
+        float density = dragAndDropListViewWrapper.getListView().getResources().getDisplayMetrics().density;
+        mInsertionMarkerHeight = Math.max(1, (int) (INSERTION_MARKER_HEIGHT_DP * density));
     }
 
 
@@ -199,6 +294,41 @@ public class DragAndDropHandler implements TouchEventHandler {
         mScrollHandler.setScrollSpeed(speed);
     }
 
+    /**
+     * Sets whether dragging should use fast jump mode. Defaults to {@code false}.
+     * <p/>
+     * In fast jump mode, items are not switched while the user drags across them. Instead, only the position the item will be dropped at is tracked
+     * and indicated by a marker, and the item is moved once when it is dropped. This is considerably cheaper when dragging across many items
+     * in long lists. Changing this value does not affect a drag that is in progress.
+     */
+    public void setFastJumpEnabled(final boolean fastJumpEnabled) {
+        mFastJumpEnabled = fastJumpEnabled;
+    }
+
+    /**
+     * Sets the {@link DragAndDropMetricsListener} that is notified of timing and count metrics of drag gestures.
+     * Defaults to {@code null}, in which case no measurements are taken.
+     */
+    public void setDragAndDropMetricsListener(@Nullable final DragAndDropMetricsListener dragAndDropMetricsListener) {
+        mMetricsListener = dragAndDropMetricsListener;
+        if (dragAndDropMetricsListener != null && mDroppedFrameCounter == null) {
+            mDroppedFrameCounter = new DroppedFrameCounter();
+        } else if (dragAndDropMetricsListener == null && mDroppedFrameCounter != null) {
+            /* Stop listening to frames if the listener is removed during a drag. */
+            mDroppedFrameCounter.stop();
+        }
+    }
+
+    /**
+     * Sets whether dragging an item that is checked in a {@link android.widget.AbsListView#CHOICE_MODE_MULTIPLE} list drags the contiguous block
+     * of visible checked items around it as well. The block is moved as a unit when it is dropped. Defaults to {@code false}.
+     *
+     * @see #startDragging(int, int)
+     */
+    public void setMultiItemDragEnabled(final boolean multiItemDragEnabled) {
+        mMultiItemDragEnabled = multiItemDragEnabled;
+    }
+
     /**
      * Starts dragging the item at given position. User must be touching this {@code DynamicListView}.
      *
@@ -208,6 +338,21 @@ public class DragAndDropHandler implements TouchEventHandler {
      *                                         or if there is no adapter set.
      */
     public void startDragging(final int position) {
+        startDragging(position, 1);
+    }
+
+    /**
+     * Starts dragging the {@code count} items starting at given position as a single block. User must be touching this {@code DynamicListView}.
+     * All items in the block must be visible. Items are not switched while the block is dragged; instead, the block is moved as a unit
+     * when it is dropped, as in fast jump mode.
+     *
+     * @param position the position of the first item in the adapter to start dragging. Be sure to subtract any header views.
+     * @param count    the number of items to drag.
+     *
+     * @throws java.lang.IllegalStateException if the user is not touching this {@code DynamicListView},
+     *                                         or if there is no adapter set.
+     */
+    public void startDragging(final int position, final int count) {
         if (mMobileItemId != INVALID_ID) {
             /* We are already dragging */
             return;
@@ -221,19 +366,69 @@ public class DragAndDropHandler implements TouchEventHandler {
             throw new IllegalStateException("This DynamicListView has no adapter set!");
         }
 
-        if (position < 0 || position >= mAdapter.getCount()) {
+        if (count < 1 || position < 0 || position + count > mAdapter.getCount()) {
             /* Out of bounds */
             return;
         }
 
+        List<View> views = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            View view = getViewForPosition(position + i);
+            if (view == null) {
+                /* Not all items are visible */
+                return;
+            }
+            views.add(view);
+        }
+
+        mMobileView = views.get(0);
+        mOriginalMobileItemPosition = position;
+        mMobileItemId = mAdapter.getItemId(position);
+        mDragCount = count;
+        mDragRowHeight = mMobileView.getHeight();
 
-        mMobileView = mWrapper.getChildAt(position - mWrapper.getFirstVisiblePosition() + mWrapper.getHeaderViewsCount());
-        if (mMobileView != null) {
-            mOriginalMobileItemPosition = position;
-            mMobileItemId = mAdapter.getItemId(position);
-            mHoverDrawable = new HoverDrawable(mMobileView, mLastMotionEventY);
-            mMobileView.setVisibility(View.INVISIBLE);
+        long captureStartNanos = mMetricsListener == null ? 0 : System.nanoTime();
+        mHoverDrawable = count == 1 ? new HoverDrawable(mMobileView, mLastMotionEventY) : new HoverDrawable(views, mLastMotionEventY);
+        if (mMetricsListener != null) {
+            mMetricsListener.onDragStarted(position, count, System.nanoTime() - captureStartNanos);
+        }
+        startMetrics();
+
+        for (View view : views) {
+            view.setVisibility(View.INVISIBLE);
+        }
+        mHiddenBlockViews.addAll(views.subList(1, count));
+
+        /* Blocks are always moved at once when dropped. */
+        mIsFastJumping = mFastJumpEnabled || count > 1;
+        mTargetPosition = position;
+    }
+
+    /**
+     * Starts dragging the item at given position, or the block of checked items around it if multi item drag is enabled.
+     *
+     * @param position the position of the item in the adapter that should be dragged.
+     */
+    private void startDraggingAt(final int position) {
+        int start = position;
+        int end = position + 1;
+
+        if (mMultiItemDragEnabled && mAdapter != null && mWrapper.getListView() instanceof AbsListView) {
+            SparseBooleanArray checkedItemPositions = ((AbsListView) mWrapper.getListView()).getCheckedItemPositions();
+            int headerViewsCount = mWrapper.getHeaderViewsCount();
+            if (checkedItemPositions != null && checkedItemPositions.get(position + headerViewsCount)) {
+                int firstVisible = Math.max(0, mWrapper.getFirstVisiblePosition() - headerViewsCount);
+                int lastVisible = Math.min(mAdapter.getCount() - 1, mWrapper.getLastVisiblePosition() - headerViewsCount);
+                while (start > firstVisible && checkedItemPositions.get(start - 1 + headerViewsCount)) {
+                    start--;
+                }
+                while (end <= lastVisible && checkedItemPositions.get(end + headerViewsCount)) {
+                    end++;
+                }
+            }
         }
+
+        startDragging(start, end - start);
     }
 
     /**
@@ -266,6 +461,10 @@ public class DragAndDropHandler implements TouchEventHandler {
     public boolean onTouchEvent(@NonNull final MotionEvent event) {
         boolean handled = false;
 
+        if (mIsSettlingHoverDrawable && event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            resumeSettlingDragIfTouched(event);
+        }
+
         /* We are in the process of animating the hover drawable back, do not start a new drag yet. */
         if (!mIsSettlingHoverDrawable) {
             switch (event.getAction() & MotionEvent.ACTION_MASK) {
@@ -293,6 +492,31 @@ public class DragAndDropHandler implements TouchEventHandler {
         return handled;
     }
 
+    /**
+     * Cancels the running settle animation and continues the drag with the existing hover drawable, if given down event touches the hover drawable.
+     * The item is treated as if it was picked up at its current position.
+     */
+    private void resumeSettlingDragIfTouched(@NonNull final MotionEvent event) {
+        if (mSettleAnimatorListener == null || mHoverDrawable == null || mMobileView == null) {
+            return;
+        }
+
+        if (!mHoverDrawable.getBounds().contains((int) event.getX(), (int) event.getY())) {
+            return;
+        }
+
+        int position = mWrapper.getPositionForView(mMobileView) - mWrapper.getHeaderViewsCount();
+        if (position < 0) {
+            return;
+        }
+
+        mSettleAnimatorListener.cancelForRedrag();
+        mHoverDrawable.reanchor(event.getY());
+        mOriginalMobileItemPosition = position;
+        mTargetPosition = position;
+        startMetrics();
+    }
+
     /**
      * Handles the down event.
      * <p/>
@@ -323,6 +547,16 @@ public class DragAndDropHandler implements TouchEventHandler {
         }
     }
 
+    /**
+     * Retrieves the {@code View} for the item at given adapter position.
+     *
+     * @return the {@code View}, or {@code null} if the item is not visible.
+     */
+    @Nullable
+    private View getViewForPosition(final int position) {
+        return mWrapper.getChildAt(position + mWrapper.getHeaderViewsCount() - mWrapper.getFirstVisiblePosition());
+    }
+
     /**
      * Retrieves the {@code View} in the list corresponding to itemId.
      *
@@ -371,16 +605,26 @@ public class DragAndDropHandler implements TouchEventHandler {
                 View downView = mWrapper.getChildAt(position - mWrapper.getFirstVisiblePosition());
                 assert downView != null;
                 if (mDraggableManager.isDraggable(downView, position - mWrapper.getHeaderViewsCount(), event.getX() - downView.getX(), event.getY() - downView.getY())) {
-                    startDragging(position - mWrapper.getHeaderViewsCount());
+                    startDraggingAt(position - mWrapper.getHeaderViewsCount());
                     handled = true;
                 }
             }
         } else if (mHoverDrawable != null) {
+            long startNanos = mMetricsListener == null ? 0 : System.nanoTime();
             mHoverDrawable.handleMoveEvent(event);
 
-            switchIfNecessary();
+            if (mIsFastJumping) {
+                updateTargetPosition();
+                mScrollHandler.handleMobileCellScroll();
+            } else {
+                switchIfNecessary();
+            }
             mWrapper.getListView().invalidate();
             handled = true;
+
+            if (mMetricsListener != null) {
+                mMetricsListener.onMoveHandled(System.nanoTime() - startNanos);
+            }
         }
 
         return handled;
@@ -413,6 +657,141 @@ public class DragAndDropHandler implements TouchEventHandler {
         mWrapper.getListView().invalidate();
     }
 
+    /**
+     * Updates the position the dragged item will be dropped at in fast jump mode, based on the item under the center of the first dragged row of the hover drawable.
+     * Keeps the previous target if the center is not above an item, for example when it is above a divider.
+     * When dragging a block, the target is the position the first item of the block will end up at.
+     */
+    private void updateTargetPosition() {
+        if (mHoverDrawable == null || mAdapter == null) {
+            return;
+        }
+
+        Rect bounds = mHoverDrawable.getBounds();
+        int probeY = bounds.top + mDragRowHeight / 2;
+        int position = mWrapper.pointToPosition(bounds.centerX(), probeY);
+        if (position == AdapterView.INVALID_POSITION && mWrapper.getChildCount() > 0) {
+            View firstChild = mWrapper.getChildAt(0);
+            View lastChild = mWrapper.getChildAt(mWrapper.getChildCount() - 1);
+            if (firstChild != null && probeY < firstChild.getTop()) {
+                position = mWrapper.getFirstVisiblePosition();
+            } else if (lastChild != null && probeY > lastChild.getBottom()) {
+                position = mWrapper.getLastVisiblePosition();
+            }
+        }
+
+        if (position != AdapterView.INVALID_POSITION) {
+            int adapterPosition = position - mWrapper.getHeaderViewsCount();
+            int targetPosition = Math.max(0, Math.min(mAdapter.getCount() - 1, adapterPosition));
+            if (targetPosition >= mOriginalMobileItemPosition + mDragCount) {
+                /* The block is inserted below the target item. */
+                targetPosition = targetPosition - mDragCount + 1;
+            } else if (targetPosition > mOriginalMobileItemPosition) {
+                /* Still above the block itself. */
+                targetPosition = mOriginalMobileItemPosition;
+            }
+            mTargetPosition = targetPosition;
+        }
+    }
+
+    /**
+     * Makes sure the {@code View} currently representing the dragged item in fast jump mode is invisible, and that a recycled {@code View} that no longer represents it is visible.
+     */
+    private void updateMobileView() {
+        View mobileView = getViewForId(mMobileItemId);
+        if (mobileView != mMobileView) {
+            if (mMobileView != null) {
+                mMobileView.setVisibility(View.VISIBLE);
+            }
+            mMobileView = mobileView;
+            if (mMobileView != null) {
+                mMobileView.setVisibility(View.INVISIBLE);
+            }
+        }
+
+        if (mDragCount > 1) {
+            showBlockViews();
+            hideBlockViews(mOriginalMobileItemPosition);
+        }
+    }
+
+    /**
+     * Hides the {@code View}s of the dragged block other than the first one, assuming the block starts at given position.
+     */
+    private void hideBlockViews(final int blockPosition) {
+        for (int i = 1; i < mDragCount; i++) {
+            View view = getViewForPosition(blockPosition + i);
+            if (view != null) {
+                view.setVisibility(View.INVISIBLE);
+                mHiddenBlockViews.add(view);
+            }
+        }
+    }
+
+    /**
+     * Shows the {@code View}s hidden by {@link #hideBlockViews(int)} again, unless they now represent the first dragged item.
+     */
+    private void showBlockViews() {
+        for (View view : mHiddenBlockViews) {
+            if (view != mMobileView) {
+                view.setVisibility(View.VISIBLE);
+            }
+        }
+        mHiddenBlockViews.clear();
+    }
+
+    /**
+     * Moves the item at position {@code from} to position {@code to} in the adapter, shifting the items in between.
+     * Uses {@link Movable#moveItem(int, int)} if the adapter supports it, and adjacent swaps otherwise.
+     */
+    private void moveItem(final int from, final int to) {
+        assert mAdapter != null;
+
+        Movable movable = MovableUtils.getMovable(mAdapter);
+        if (movable != null) {
+            movable.moveItem(from, to);
+            mSwapCount++;
+            return;
+        }
+
+        Swappable swappable = (Swappable) mAdapter;
+        if (from < to) {
+            for (int i = from; i < to; i++) {
+                swappable.swapItems(i, i + 1);
+            }
+        } else {
+            for (int i = from; i > to; i--) {
+                swappable.swapItems(i, i - 1);
+            }
+        }
+        mSwapCount += Math.abs(to - from);
+        ((BaseAdapter) mAdapter).notifyDataSetChanged();
+    }
+
+    /**
+     * Moves the {@code count} items starting at position {@code from} as a block, so that the first ends up at position {@code to}.
+     * Uses {@link Movable#moveItems(int, int, int)} if the adapter supports it, and single item moves otherwise.
+     */
+    private void moveItems(final int from, final int count, final int to) {
+        assert mAdapter != null;
+
+        Movable movable = MovableUtils.getMovable(mAdapter);
+        if (count == 1) {
+            moveItem(from, to);
+        } else if (movable != null) {
+            movable.moveItems(from, count, to);
+            mSwapCount++;
+        } else if (from < to) {
+            for (int i = count - 1; i >= 0; i--) {
+                moveItem(from + i, to + i);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                moveItem(from + i, to + i);
+            }
+        }
+    }
+
     /**
      * Switches the item that is currently being dragged with the item belonging to given id,
      * by notifying the adapter to swap positions and that the data set has changed.
@@ -432,6 +811,7 @@ public class DragAndDropHandler implements TouchEventHandler {
 
         ((Swappable) mAdapter).swapItems(switchViewPosition - mWrapper.getHeaderViewsCount(), mobileViewPosition - mWrapper.getHeaderViewsCount());
         ((BaseAdapter) mAdapter).notifyDataSetChanged();
+        mSwapCount++;
 
         mHoverDrawable.shift(switchView.getHeight());
         mSwitchViewAnimator.animateSwitchView(switchId, translationY);
@@ -446,25 +826,111 @@ public class DragAndDropHandler implements TouchEventHandler {
      * @return {@code true} if the event was handled, {@code false} otherwise.
      */
     private boolean handleUpEvent() {
+        if (mIsFastJumping) {
+            return handleFastJumpUpEvent();
+        }
+
         if (mMobileView == null) {
             return false;
         }
         assert mHoverDrawable != null;
 
-        ValueAnimator valueAnimator = ValueAnimator.ofInt(mHoverDrawable.getTop(), (int) mMobileView.getY());
-        SettleHoverDrawableAnimatorListener listener = new SettleHoverDrawableAnimatorListener(mHoverDrawable, mMobileView);
-        valueAnimator.addUpdateListener(listener);
-        valueAnimator.addListener(listener);
-        valueAnimator.start();
+        mScrollHandler.stopMobileCellScroll();
+
+        settle(mHoverDrawable, mMobileView, (int) mMobileView.getY());
 
         int newPosition = getPositionForId(mMobileItemId) - mWrapper.getHeaderViewsCount();
         if (mOriginalMobileItemPosition != newPosition && mOnItemMovedListener != null) {
             mOnItemMovedListener.onItemMoved(mOriginalMobileItemPosition, newPosition);
         }
 
+        reportDragFinished();
+
         return true;
     }
 
+    /**
+     * Handles the up event in fast jump mode.
+     * <p/>
+     * Moves the dragged item to the target position, and animates the hover drawable to the item's new position after the list has been laid out.
+     * Will also notify the {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.OnItemMovedListener} set if applicable.
+     *
+     * @return {@code true} if the event was handled, {@code false} otherwise.
+     */
+    private boolean handleFastJumpUpEvent() {
+        if (mHoverDrawable == null || mAdapter == null) {
+            return false;
+        }
+
+        mScrollHandler.stopMobileCellScroll();
+        mIsSettlingHoverDrawable = true;
+
+        if (mMobileView != null) {
+            mMobileView.setVisibility(View.VISIBLE);
+            mMobileView = null;
+        }
+        showBlockViews();
+
+        int from = mOriginalMobileItemPosition;
+        int to = mTargetPosition;
+        if (from != to) {
+            moveItems(from, mDragCount, to);
+        }
+
+        mWrapper.getListView().getViewTreeObserver().addOnPreDrawListener(new SettleFastJumpOnPreDrawListener(mHoverDrawable));
+
+        if (from != to && mOnItemMovedListener != null) {
+            if (mDragCount > 1 && mOnItemMovedListener instanceof OnItemsMovedListener) {
+                ((OnItemsMovedListener) mOnItemMovedListener).onItemsMoved(from, mDragCount, to);
+            } else {
+                mOnItemMovedListener.onItemMoved(from, to);
+            }
+        }
+
+        reportDragFinished();
+        return true;
+    }
+
+    /**
+     * Resets the drag metrics, and starts counting dropped frames if a {@link DragAndDropMetricsListener} is set.
+     */
+    private void startMetrics() {
+        mSwapCount = 0;
+        if (mMetricsListener != null) {
+            assert mDroppedFrameCounter != null;
+            mDroppedFrameCounter.start(DisplayUtil.getFrameIntervalNanos(mWrapper.getListView().getContext()));
+        }
+    }
+
+    /**
+     * Notifies the {@link DragAndDropMetricsListener}, if any, that the dragged items have been dropped.
+     */
+    private void reportDragFinished() {
+        if (mMetricsListener == null) {
+            return;
+        }
+
+        assert mDroppedFrameCounter != null;
+        mDropTimeNanos = System.nanoTime();
+        mMetricsListener.onDragFinished(mSwapCount, mScrollHandler.getLastAutoScrollDistance(), mDroppedFrameCounter.stop());
+    }
+
+    /**
+     * Animates given {@link HoverDrawable} to given top coordinate, after which the drag properties are reset.
+     *
+     * @param hoverDrawable the {@code HoverDrawable} to animate.
+     * @param mobileView    the {@code View} to make visible when the animation has finished, if any.
+     * @param targetTop     the top coordinate to animate to.
+     */
+    private void settle(@NonNull final HoverDrawable hoverDrawable, @Nullable final View mobileView, final int targetTop) {
+        ValueAnimator valueAnimator = ValueAnimator.ofFloat(0, 1);
+        SettleHoverDrawableAnimatorListener listener = new SettleHoverDrawableAnimatorListener(valueAnimator, hoverDrawable, mobileView, targetTop);
+        valueAnimator.addUpdateListener(listener);
+        valueAnimator.addListener(listener);
+        mSettleAnimatorListener = listener;
+        valueAnimator.start();
+    }
+
     /**
      * Handles the cancel event.
      *
@@ -475,11 +941,35 @@ public class DragAndDropHandler implements TouchEventHandler {
     }
 
     public void dispatchDraw(@NonNull final Canvas canvas) {
+        if (mIsFastJumping && !mIsSettlingHoverDrawable) {
+            drawInsertionMarker(canvas);
+        }
+
         if (mHoverDrawable != null) {
             mHoverDrawable.draw(canvas);
         }
     }
 
+    /**
+     * Draws a marker at the edge of the target item where the dragged item will be inserted in fast jump mode.
+     */
+    private void drawInsertionMarker(@NonNull final Canvas canvas) {
+        if (mTargetPosition == mOriginalMobileItemPosition || mTargetPosition == AdapterView.INVALID_POSITION) {
+            return;
+        }
+
+        /* When moving down, the marker goes below the item the last item of the block will replace. */
+        boolean isMovingDown = mTargetPosition > mOriginalMobileItemPosition;
+        View targetView = getViewForPosition(isMovingDown ? mTargetPosition + mDragCount - 1 : mTargetPosition);
+        if (targetView == null) {
+            return;
+        }
+
+        int y = isMovingDown ? targetView.getBottom() : targetView.getTop();
+        int halfHeight = mInsertionMarkerHeight / 2;
+        canvas.drawRect(targetView.getLeft(), y - halfHeight, targetView.getRight(), y - halfHeight + mInsertionMarkerHeight, mInsertionMarkerPaint);
+    }
+
     /**
      * An interface for animating the switch views.
      * A distinction is made between API levels because {@link android.widget.AbsListView.OnScrollListener#onScroll(android.widget.AbsListView, int, int,
@@ -596,22 +1086,17 @@ public class DragAndDropHandler implements TouchEventHandler {
      * A class which handles scrolling for this {@code DynamicListView} when dragging an item.
      * <p/>
      * The {@link #handleMobileCellScroll()} method initiates the scroll and should typically be called on a move {@code MotionEvent}.
+     * The {@link DragAutoScroller} then keeps scrolling every frame for as long as the hover drawable is past an edge.
      * <p/>
      * The {@link #onScroll(android.widget.AbsListView, int, int, int)} method then takes over the functionality {@link #handleMoveEvent(android.view.MotionEvent)} provides.
      */
-    private class ScrollHandler implements AbsListView.OnScrollListener {
-
-        private static final int SMOOTH_SCROLL_DP = 3;
-
-        /**
-         * The default scroll amount in pixels.
-         */
-        private final int mSmoothScrollPx;
+    private class ScrollHandler implements AbsListView.OnScrollListener, DragAutoScroller.HoverBoundsProvider {
 
         /**
-         * The factor to multiply {@link #mSmoothScrollPx} with for scrolling.
+         * The {@link DragAutoScroller} that scrolls the list while the hover drawable is past an edge.
          */
-        private float mScrollSpeedFactor = 1.0f;
+        @NonNull
+        private final DragAutoScroller mDragAutoScroller;
 
         /**
          * The previous first visible item before checking if we should switch.
@@ -633,9 +1118,13 @@ public class DragAndDropHandler implements TouchEventHandler {
          */
         private int mCurrentLastVisibleItem;
 
+        /**
+         * The number of pixels that were scrolled automatically before scrolling was last stopped.
+         */
+        private int mLastAutoScrollDistance;
+
         ScrollHandler() {
-            Resources r = mWrapper.getListView().getResources();
-            mSmoothScrollPx = (int) TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, SMOOTH_SCROLL_DP, r.getDisplayMetrics());
+            mDragAutoScroller = new DragAutoScroller(mWrapper, this);
         }
 
         /**
@@ -644,31 +1133,42 @@ public class DragAndDropHandler implements TouchEventHandler {
          * @param scrollSpeedFactor {@code <1.0f} to slow down scrolling, {@code >1.0f} to speed up scrolling.
          */
         void setScrollSpeed(final float scrollSpeedFactor) {
-            mScrollSpeedFactor = scrollSpeedFactor;
+            mDragAutoScroller.setScrollSpeed(scrollSpeedFactor);
         }
 
         /**
-         * Scrolls the {@code DynamicListView} if the hover drawable is above or below the bounds of the {@code ListView}.
+         * Starts scrolling the {@code DynamicListView} if the hover drawable is above or below the bounds of the {@code ListView}.
          */
         void handleMobileCellScroll() {
             if (mHoverDrawable == null || mIsSettlingHoverDrawable) {
                 return;
             }
 
-            Rect r = mHoverDrawable.getBounds();
-            int offset = mWrapper.computeVerticalScrollOffset();
-            int height = mWrapper.getListView().getHeight();
-            int extent = mWrapper.computeVerticalScrollExtent();
-            int range = mWrapper.computeVerticalScrollRange();
-            int hoverViewTop = r.top;
-            int hoverHeight = r.height();
+            mDragAutoScroller.update();
+        }
 
-            int scrollPx = (int) Math.max(1, mSmoothScrollPx * mScrollSpeedFactor);
-            if (hoverViewTop <= 0 && offset > 0) {
-                mWrapper.smoothScrollBy(-scrollPx, 0);
-            } else if (hoverViewTop + hoverHeight >= height && offset + extent < range) {
-                mWrapper.smoothScrollBy(scrollPx, 0);
+        /**
+         * Stops any scrolling initiated by {@link #handleMobileCellScroll()}.
+         */
+        void stopMobileCellScroll() {
+            mLastAutoScrollDistance = mDragAutoScroller.getTotalScrollDistance();
+            mDragAutoScroller.stop();
+        }
+
+        /**
+         * Returns the number of pixels that were scrolled automatically before the last call to {@link #stopMobileCellScroll()}.
+         */
+        int getLastAutoScrollDistance() {
+            return mLastAutoScrollDistance;
+        }
+
+        @Nullable
+        @Override
+        public Rect getHoverBounds() {
+            if (mHoverDrawable == null || mIsSettlingHoverDrawable) {
+                return null;
             }
+            return mHoverDrawable.getBounds();
         }
 
         @Override
@@ -679,13 +1179,15 @@ public class DragAndDropHandler implements TouchEventHandler {
             mPreviousFirstVisibleItem = mPreviousFirstVisibleItem == -1 ? mCurrentFirstVisibleItem : mPreviousFirstVisibleItem;
             mPreviousLastVisibleItem = mPreviousLastVisibleItem == -1 ? mCurrentLastVisibleItem : mPreviousLastVisibleItem;
 
-            if (mHoverDrawable != null) {
-                assert mMobileView != null;
+            if (mHoverDrawable != null && mIsFastJumping && !mIsSettlingHoverDrawable) {
+                updateMobileView();
+                updateTargetPosition();
+            } else if (mHoverDrawable != null && mMobileView != null) {
                 float y = mMobileView.getY();
                 mHoverDrawable.onScroll(y);
             }
 
-            if (!mIsSettlingHoverDrawable) {
+            if (!mIsSettlingHoverDrawable && !mIsFastJumping) {
                 checkAndHandleFirstVisibleCellChange();
                 checkAndHandleLastVisibleCellChange();
             }
@@ -747,20 +1249,53 @@ public class DragAndDropHandler implements TouchEventHandler {
     }
 
     /**
-     * Updates the hover drawable's bounds with the animated values.
-     * When the animation has finished, it will reset all the drag properties.
+     * Updates the hover drawable's bounds by interpolating between its start and target top coordinates,
+     * and invalidates only the area covered by its old and new bounds.
+     * When the animation has finished, it will reset all the drag properties, unless it was cancelled by {@link #cancelForRedrag()}.
      */
     private class SettleHoverDrawableAnimatorListener extends AnimatorListenerAdapter implements ValueAnimator.AnimatorUpdateListener {
 
         @NonNull
-        private final HoverDrawable mAnimatingHoverDrawable;
+        private final ValueAnimator mAnimator;
 
         @NonNull
+        private final HoverDrawable mAnimatingHoverDrawable;
+
+        @Nullable
         private final View mAnimatingMobileView;
 
-        private SettleHoverDrawableAnimatorListener(@NonNull final HoverDrawable animatingHoverDrawable, @NonNull final View animatingMobileView) {
+        private final int mStartTop;
+
+        private final int mTargetTop;
+
+        /**
+         * The area to invalidate, reused for every frame.
+         */
+        @NonNull
+        private final Rect mDirtyRect = new Rect();
+
+        /**
+         * Whether the animation was cancelled because the user grabbed the hover drawable again.
+         */
+        private boolean mIsCancelledForRedrag;
+
+        private SettleHoverDrawableAnimatorListener(@NonNull final ValueAnimator animator, @NonNull final HoverDrawable animatingHoverDrawable,
+                                                    @Nullable final View animatingMobileView, final int targetTop) {
+            mAnimator = animator;
             mAnimatingHoverDrawable = animatingHoverDrawable;
             mAnimatingMobileView = animatingMobileView;
+            mStartTop = animatingHoverDrawable.getTop();
+            mTargetTop = targetTop;
+        }
+
+        /**
+         * Cancels the animation, leaving the drag properties intact so that dragging can continue.
+         */
+        void cancelForRedrag() {
+            mIsCancelledForRedrag = true;
+            mAnimator.cancel();
+            mIsSettlingHoverDrawable = false;
+            mSettleAnimatorListener = null;
         }
 
         @Override
@@ -770,20 +1305,75 @@ public class DragAndDropHandler implements TouchEventHandler {
 
         @Override
         public void onAnimationUpdate(final ValueAnimator animation) {
-            mAnimatingHoverDrawable.setTop((Integer) animation.getAnimatedValue());
-            mWrapper.getListView().postInvalidate();
+            int top = mStartTop + Math.round((mTargetTop - mStartTop) * animation.getAnimatedFraction());
+
+            mDirtyRect.set(mAnimatingHoverDrawable.getBounds());
+            mAnimatingHoverDrawable.setTop(top);
+            mDirtyRect.union(mAnimatingHoverDrawable.getBounds());
+            mWrapper.getListView().invalidate(mDirtyRect);
         }
 
         @Override
         public void onAnimationEnd(final Animator animation) {
-            mAnimatingMobileView.setVisibility(View.VISIBLE);
+            if (mIsCancelledForRedrag) {
+                return;
+            }
+
+            if (mAnimatingMobileView != null) {
+                mAnimatingMobileView.setVisibility(View.VISIBLE);
+            }
+
+            showBlockViews();
 
             mHoverDrawable = null;
             mMobileView = null;
             mMobileItemId = INVALID_ID;
             mOriginalMobileItemPosition = AdapterView.INVALID_POSITION;
+            mTargetPosition = AdapterView.INVALID_POSITION;
+            mIsFastJumping = false;
+            mDragCount = 1;
 
+            mSettleAnimatorListener = null;
             mIsSettlingHoverDrawable = false;
+
+            if (mMetricsListener != null) {
+                mMetricsListener.onSettled(System.nanoTime() - mDropTimeNanos);
+            }
+        }
+    }
+
+    /**
+     * Animates the hover drawable towards the new position of the dropped item in fast jump mode, once the list has been laid out after the move.
+     * If the item is not visible, the hover drawable slides off the nearest edge of the list.
+     */
+    private class SettleFastJumpOnPreDrawListener implements ViewTreeObserver.OnPreDrawListener {
+
+        @NonNull
+        private final HoverDrawable mSettlingHoverDrawable;
+
+        SettleFastJumpOnPreDrawListener(@NonNull final HoverDrawable settlingHoverDrawable) {
+            mSettlingHoverDrawable = settlingHoverDrawable;
+        }
+
+        @Override
+        public boolean onPreDraw() {
+            mWrapper.getListView().getViewTreeObserver().removeOnPreDrawListener(this);
+
+            View mobileView = getViewForId(mMobileItemId);
+            int targetTop;
+            if (mobileView != null) {
+                mobileView.setVisibility(View.INVISIBLE);
+                hideBlockViews(mWrapper.getPositionForView(mobileView) - mWrapper.getHeaderViewsCount());
+                targetTop = mobileView.getTop();
+            } else if (mSettlingHoverDrawable.getBounds().centerY() < mWrapper.getListView().getHeight() / 2) {
+                targetTop = -mSettlingHoverDrawable.getIntrinsicHeight();
+            } else {
+                targetTop = mWrapper.getListView().getHeight();
+            }
+            mMobileView = mobileView;
+
+            settle(mSettlingHoverDrawable, mobileView, targetTop);
+            return true;
         }
     }
 }
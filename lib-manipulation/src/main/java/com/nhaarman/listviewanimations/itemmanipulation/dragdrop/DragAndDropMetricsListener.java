@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+/**
+ * A listener which receives timing and count metrics of drag and drop gestures, for example to forward them to performance telemetry.
+ * Set it using {@link DragAndDropHandler#setDragAndDropMetricsListener(DragAndDropMetricsListener)}.
+ * When no listener is set, no measurements are taken at all.
+ * <p/>
+ * All methods are called on the main thread, during the gesture. Implementations should return quickly.
+ */
+public interface DragAndDropMetricsListener {
+
+    /**
+     * Called when a drag has started and the dragged items have been captured into a bitmap.
+     *
+     * @param position         the position of the first dragged item.
+     * @param itemCount        the number of dragged items.
+     * @param captureTimeNanos the time in nanoseconds it took to capture the dragged items.
+     */
+    void onDragStarted(int position, int itemCount, long captureTimeNanos);
+
+    /**
+     * Called after a move event during a drag has been handled.
+     *
+     * @param latencyNanos the time in nanoseconds it took to handle the move event, including any item switches.
+     */
+    void onMoveHandled(long latencyNanos);
+
+    /**
+     * Called when the dragged items have been dropped.
+     *
+     * @param swapCount          the number of adapter operations that were done to move the items: swaps while dragging, or moves when dropped in fast jump mode.
+     * @param autoScrollDistance the number of pixels the list has been scrolled automatically during the drag.
+     * @param droppedFrameCount  the estimated number of display frames that were dropped during the drag.
+     */
+    void onDragFinished(int swapCount, int autoScrollDistance, int droppedFrameCount);
+
+    /**
+     * Called when the hover drawable has settled after the drop, and the drag has been completed.
+     * Not called if the user grabbed the hover drawable again while it was settling.
+     *
+     * @param settleDurationNanos the time in nanoseconds between the drop and the end of the settle animation.
+     */
+    void onSettled(long settleDurationNanos);
+}
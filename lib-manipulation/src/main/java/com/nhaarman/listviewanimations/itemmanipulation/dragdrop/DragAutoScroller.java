@@ -0,0 +1,226 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.graphics.Rect;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.DisplayMetrics;
+
+import com.nhaarman.listviewanimations.util.FrameCallbackScheduler;
+
+/**
+ * Scrolls the list while a dragged item is held past its top or bottom edge.
+ * <p/>
+ * Scrolling is driven by display frames rather than touch events, so it continues while the finger rests at the edge.
+ * Each frame scrolls by the current velocity times the elapsed frame time. The velocity grows with how far the hover drawable sits past the edge,
+ * and keeps accelerating the longer it stays there.
+ */
+class DragAutoScroller implements FrameCallbackScheduler.Callback {
+
+    /**
+     * The scroll velocity in dp per second when the hover drawable just touches the edge.
+     */
+    private static final float MIN_VELOCITY_DP = 200;
+
+    /**
+     * The scroll velocity in dp per second when the hover drawable sits its full height past the edge.
+     */
+    private static final float MAX_VELOCITY_DP = 2000;
+
+    /**
+     * The factor the velocity grows with per second spent at the edge.
+     */
+    private static final float DWELL_ACCELERATION = 1.5f;
+
+    /**
+     * The maximum number of seconds spent at the edge that contribute to acceleration.
+     */
+    private static final float MAX_DWELL_SECONDS = 2;
+
+    private static final float NANOS_PER_SECOND = 1000000000f;
+
+    /**
+     * Provides the current position of the hover drawable.
+     */
+    interface HoverBoundsProvider {
+
+        /**
+         * Returns the current bounds of the hover drawable, or {@code null} if there is nothing being dragged.
+         */
+        @Nullable
+        Rect getHoverBounds();
+    }
+
+    @NonNull
+    private final DragAndDropListViewWrapper mWrapper;
+
+    @NonNull
+    private final HoverBoundsProvider mHoverBoundsProvider;
+
+    @NonNull
+    private final FrameCallbackScheduler mFrameCallbackScheduler;
+
+    /**
+     * The screen density, to convert the velocities to pixels.
+     */
+    private final float mDensity;
+
+    /**
+     * The factor to multiply the velocity with.
+     */
+    private float mScrollSpeedFactor = 1.0f;
+
+    /**
+     * The time in nanoseconds of the previous frame, or {@code -1} if not scrolling.
+     */
+    private long mLastFrameTimeNanos = -1;
+
+    /**
+     * The time in nanoseconds at which the hover drawable reached the edge, or {@code -1} if not scrolling.
+     */
+    private long mEdgeReachedTimeNanos = -1;
+
+    /**
+     * The fraction of a pixel that was not scrolled in the previous frame.
+     */
+    private float mRemainder;
+
+    /**
+     * The total number of pixels scrolled since the last call to {@link #stop()}.
+     */
+    private int mTotalScrollDistance;
+
+    DragAutoScroller(@NonNull final DragAndDropListViewWrapper wrapper, @NonNull final HoverBoundsProvider hoverBoundsProvider) {
+        mWrapper = wrapper;
+        mHoverBoundsProvider = hoverBoundsProvider;
+        mFrameCallbackScheduler = new FrameCallbackScheduler(this);
+
+        DisplayMetrics displayMetrics = wrapper.getListView().getResources().getDisplayMetrics();
+        mDensity = displayMetrics.density;
+    }
+
+    /**
+     * Sets the factor to multiply the scroll velocity with. Defaults to {@code 1.0f}.
+     */
+    void setScrollSpeed(final float scrollSpeedFactor) {
+        mScrollSpeedFactor = scrollSpeedFactor;
+    }
+
+    /**
+     * Starts scrolling if the hover drawable is past an edge of the list. Should be called whenever the hover drawable moved.
+     */
+    void update() {
+        if (!mFrameCallbackScheduler.isScheduled() && getDirection() != 0) {
+            mFrameCallbackScheduler.scheduleFrame();
+        }
+    }
+
+    /**
+     * Stops scrolling.
+     */
+    void stop() {
+        mFrameCallbackScheduler.cancel();
+        mLastFrameTimeNanos = -1;
+        mEdgeReachedTimeNanos = -1;
+        mRemainder = 0;
+        mTotalScrollDistance = 0;
+    }
+
+    /**
+     * Returns whether the list is currently being scrolled.
+     */
+    boolean isScrolling() {
+        return mFrameCallbackScheduler.isScheduled();
+    }
+
+    /**
+     * Returns the total number of pixels scrolled since scrolling last stopped.
+     */
+    int getTotalScrollDistance() {
+        return mTotalScrollDistance;
+    }
+
+    @Override
+    public void onFrame(final long frameTimeNanos) {
+        int direction = getDirection();
+        if (direction == 0) {
+            mLastFrameTimeNanos = -1;
+            mEdgeReachedTimeNanos = -1;
+            mRemainder = 0;
+            return;
+        }
+
+        if (mLastFrameTimeNanos == -1) {
+            /* The first frame only establishes the time base. */
+            mLastFrameTimeNanos = frameTimeNanos;
+            mEdgeReachedTimeNanos = frameTimeNanos;
+            mFrameCallbackScheduler.scheduleFrame();
+            return;
+        }
+
+        float elapsedSeconds = (frameTimeNanos - mLastFrameTimeNanos) / NANOS_PER_SECOND;
+        float dwellSeconds = Math.min(MAX_DWELL_SECONDS, (frameTimeNanos - mEdgeReachedTimeNanos) / NANOS_PER_SECOND);
+        mLastFrameTimeNanos = frameTimeNanos;
+
+        float distance = getVelocity() * (1 + dwellSeconds * DWELL_ACCELERATION) * elapsedSeconds + mRemainder;
+        int scrollDistance = (int) distance;
+        mRemainder = distance - scrollDistance;
+
+        if (scrollDistance != 0) {
+            mWrapper.smoothScrollBy(direction * scrollDistance, 0);
+            mTotalScrollDistance += scrollDistance;
+        }
+
+        mFrameCallbackScheduler.scheduleFrame();
+    }
+
+    /**
+     * Returns {@code -1} if the list should scroll up, {@code 1} if it should scroll down, or {@code 0} if it should not scroll.
+     */
+    private int getDirection() {
+        Rect bounds = mHoverBoundsProvider.getHoverBounds();
+        if (bounds == null) {
+            return 0;
+        }
+
+        int offset = mWrapper.computeVerticalScrollOffset();
+        int extent = mWrapper.computeVerticalScrollExtent();
+        int range = mWrapper.computeVerticalScrollRange();
+
+        if (bounds.top <= 0 && offset > 0) {
+            return -1;
+        }
+        if (bounds.bottom >= mWrapper.getListView().getHeight() && offset + extent < range) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the velocity in pixels per second, based on how far the hover drawable is past the edge.
+     */
+    private float getVelocity() {
+        Rect bounds = mHoverBoundsProvider.getHoverBounds();
+        if (bounds == null || bounds.height() == 0) {
+            return 0;
+        }
+
+        int overshoot = Math.max(-bounds.top, bounds.bottom - mWrapper.getListView().getHeight());
+        float fraction = Math.max(0, Math.min(1, (float) overshoot / bounds.height()));
+        return (MIN_VELOCITY_DP + (MAX_VELOCITY_DP - MIN_VELOCITY_DP) * fraction) * mDensity * mScrollSpeedFactor;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.support.annotation.NonNull;
+
+import com.nhaarman.listviewanimations.util.DisplayUtil;
+import com.nhaarman.listviewanimations.util.FrameCallbackScheduler;
+
+/**
+ * Estimates the number of dropped display frames by listening to every frame, and counting how many frame intervals were skipped between two consecutive frames.
+ */
+class DroppedFrameCounter implements FrameCallbackScheduler.Callback {
+
+    @NonNull
+    private final FrameCallbackScheduler mFrameCallbackScheduler = new FrameCallbackScheduler(this);
+
+    /**
+     * The time in nanoseconds of the previous frame, or {@code -1} if no frame has been received yet.
+     */
+    private long mLastFrameTimeNanos = -1;
+
+    private int mDroppedFrameCount;
+
+    /**
+     * The expected time in nanoseconds between two frames.
+     */
+    private long mFrameIntervalNanos = DisplayUtil.DEFAULT_FRAME_INTERVAL_NANOS;
+
+    /**
+     * Starts counting from zero.
+     *
+     * @param frameIntervalNanos the expected time in nanoseconds between two frames on the display, see {@link DisplayUtil#getFrameIntervalNanos(android.content.Context)}.
+     */
+    void start(final long frameIntervalNanos) {
+        mFrameIntervalNanos = frameIntervalNanos;
+        mLastFrameTimeNanos = -1;
+        mDroppedFrameCount = 0;
+        mFrameCallbackScheduler.scheduleFrame();
+    }
+
+    /**
+     * Stops counting.
+     *
+     * @return the number of frames dropped since {@link #start(long)}.
+     */
+    int stop() {
+        mFrameCallbackScheduler.cancel();
+        return mDroppedFrameCount;
+    }
+
+    @Override
+    public void onFrame(final long frameTimeNanos) {
+        if (mLastFrameTimeNanos != -1) {
+            /* Rounding to the nearest interval absorbs jitter in the frame times. */
+            long skippedIntervals = (frameTimeNanos - mLastFrameTimeNanos + mFrameIntervalNanos / 2) / mFrameIntervalNanos - 1;
+            if (skippedIntervals > 0) {
+                mDroppedFrameCount += skippedIntervals;
+            }
+        }
+        mLastFrameTimeNanos = frameTimeNanos;
+        mFrameCallbackScheduler.scheduleFrame();
+    }
+}
@@ -0,0 +1,100 @@
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.View;
+import android.widget.AbsListView;
+import android.widget.ListAdapter;
+
+import com.nhaarman.listviewanimations.itemmanipulation.DynamicGridView;
+
+public class DynamicGridViewWrapper implements DragAndDropListViewWrapper {
+
+    @NonNull
+    private final DynamicGridView mDynamicGridView;
+
+    public DynamicGridViewWrapper(@NonNull final DynamicGridView dynamicGridView) {
+        mDynamicGridView = dynamicGridView;
+    }
+
+    @NonNull
+    @Override
+    public DynamicGridView getListView() {
+        return mDynamicGridView;
+    }
+
+    @Nullable
+    @Override
+    public View getChildAt(final int index) {
+        return mDynamicGridView.getChildAt(index);
+    }
+
+    @Override
+    public int getFirstVisiblePosition() {
+        return mDynamicGridView.getFirstVisiblePosition();
+    }
+
+    @Override
+    public int getLastVisiblePosition() {
+        return mDynamicGridView.getLastVisiblePosition();
+    }
+
+    @Override
+    public int getCount() {
+        return mDynamicGridView.getCount();
+    }
+
+    @Override
+    public int getChildCount() {
+        return mDynamicGridView.getChildCount();
+    }
+
+    /**
+     * Returns {@code 0}, since a {@code GridView} does not support header views.
+     */
+    @Override
+    public int getHeaderViewsCount() {
+        return 0;
+    }
+
+    @Override
+    public int getPositionForView(@NonNull final View view) {
+        return mDynamicGridView.getPositionForView(view);
+    }
+
+    @Nullable
+    @Override
+    public ListAdapter getAdapter() {
+        return mDynamicGridView.getAdapter();
+    }
+
+    @Override
+    public void smoothScrollBy(final int distance, final int duration) {
+        mDynamicGridView.smoothScrollBy(distance, duration);
+    }
+
+    @Override
+    public void setOnScrollListener(final AbsListView.OnScrollListener onScrollListener) {
+        mDynamicGridView.setOnScrollListener(onScrollListener);
+    }
+
+    @Override
+    public int pointToPosition(final int x, final int y) {
+        return mDynamicGridView.pointToPosition(x, y);
+    }
+
+    @Override
+    public int computeVerticalScrollOffset() {
+        return mDynamicGridView.computeVerticalScrollOffset();
+    }
+
+    @Override
+    public int computeVerticalScrollExtent() {
+        return mDynamicGridView.computeVerticalScrollExtent();
+    }
+
+    @Override
+    public int computeVerticalScrollRange() {
+        return mDynamicGridView.computeVerticalScrollRange();
+    }
+}
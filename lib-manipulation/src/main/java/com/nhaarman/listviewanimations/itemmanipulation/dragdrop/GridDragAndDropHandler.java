@@ -0,0 +1,731 @@
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.ViewTreeObserver;
+import android.widget.AbsListView;
+import android.widget.AdapterView;
+import android.widget.BaseAdapter;
+import android.widget.ListAdapter;
+import android.widget.WrapperListAdapter;
+
+import com.nhaarman.listviewanimations.itemmanipulation.DynamicGridView;
+import com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler;
+import com.nhaarman.listviewanimations.util.AdapterViewUtil;
+import com.nhaarman.listviewanimations.util.Movable;
+import com.nhaarman.listviewanimations.util.Swappable;
+
+/**
+ * A class which handles drag and drop functionality for grid implementations backed up by a
+ * {@link com.nhaarman.listviewanimations.util.Swappable} {@link ListAdapter}.
+ * This class only works properly on API levels 14 and higher.
+ * <p/>
+ * Unlike {@link DragAndDropHandler}, which only switches vertical neighbours, the dragged item follows the touch point in both directions.
+ * The cell under the center of the dragged item is found in constant time from the grid's column and row pitch. When the dragged item enters
+ * another cell, it is moved there in a single adapter operation, and all cells in between slide to their new positions in one batch.
+ * <p/>
+ * Users of this class must call {@link #onTouchEvent(android.view.MotionEvent)} and {@link #dispatchDraw(android.graphics.Canvas)} on the right moments.
+ */
+@TargetApi(14)
+public class GridDragAndDropHandler implements TouchEventHandler {
+
+    private static final int INVALID_ID = -1;
+
+    @NonNull
+    private final DragAndDropListViewWrapper mWrapper;
+
+    /**
+     * The {@link ScrollHandler} that handles scrolling when dragging an item.
+     */
+    @NonNull
+    private final ScrollHandler mScrollHandler;
+
+    /**
+     * The minimum distance in pixels that should be moved before starting item movement.
+     */
+    private final int mSlop;
+
+    /**
+     * The {@link android.widget.ListAdapter} that is assigned. Also implements {@link com.nhaarman.listviewanimations.util.Swappable}.
+     */
+    @Nullable
+    private ListAdapter mAdapter;
+
+    /**
+     * The Drawable that is drawn when the user is dragging an item.
+     * This value is null if and only if the user is not dragging.
+     */
+    @Nullable
+    private HoverDrawable mHoverDrawable;
+
+    /**
+     * The View that currently represents the dragged item.
+     * When this value is not null, the View should be invisible.
+     */
+    @Nullable
+    private View mMobileView;
+
+    /**
+     * The id of the item that is being dragged.
+     * This value is {@value #INVALID_ID} if and only if the user is not dragging.
+     */
+    private long mMobileItemId = INVALID_ID;
+
+    /**
+     * The original position of the item that is being dragged.
+     * This value is {@value android.widget.AdapterView#INVALID_POSITION} if and only if the user is not dragging.
+     */
+    private int mOriginalMobileItemPosition = AdapterView.INVALID_POSITION;
+
+    /**
+     * The current position in the adapter of the item that is being dragged.
+     */
+    private int mMobileItemPosition = AdapterView.INVALID_POSITION;
+
+    /**
+     * The x coordinate of the last non-final {@code MotionEvent}.
+     */
+    private float mLastMotionEventX = -1;
+
+    /**
+     * The y coordinate of the last non-final {@code MotionEvent}.
+     */
+    private float mLastMotionEventY = -1;
+
+    /**
+     * The raw x coordinate of the down event.
+     */
+    private float mDownX;
+
+    /**
+     * The raw y coordinate of the down event.
+     */
+    private float mDownY;
+
+    /**
+     * The {@link DraggableManager} responsible for deciding if an item can be dragged.
+     */
+    @NonNull
+    private DraggableManager mDraggableManager;
+
+    /**
+     * The {@link OnItemMovedListener} that is notified of moved items.
+     */
+    @Nullable
+    private OnItemMovedListener mOnItemMovedListener;
+
+    /**
+     * Specifies whether or not the hover drawable is currently being animated as result of an up / cancel event.
+     */
+    private boolean mIsSettlingHoverDrawable;
+
+    /**
+     * Whether the dragged item has been moved in the adapter, but the grid has not been laid out yet.
+     * No new moves are made in the meantime, since the child {@code View}s do not reflect the adapter yet.
+     */
+    private boolean mIsAwaitingLayout;
+
+    /**
+     * Creates a new {@code GridDragAndDropHandler} for given {@link com.nhaarman.listviewanimations.itemmanipulation.DynamicGridView}.
+     *
+     * @param dynamicGridView the {@code DynamicGridView} to use.
+     */
+    public GridDragAndDropHandler(@NonNull final DynamicGridView dynamicGridView) {
+        this(new DynamicGridViewWrapper(dynamicGridView));
+    }
+
+    /**
+     * Creates a new {@code GridDragAndDropHandler} for the grid implementation
+     * in given {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DragAndDropListViewWrapper}
+     *
+     * @param dragAndDropListViewWrapper the {@code DragAndDropListViewWrapper} which wraps the grid implementation to use.
+     */
+    public GridDragAndDropHandler(@NonNull final DragAndDropListViewWrapper dragAndDropListViewWrapper) {
+        mWrapper = dragAndDropListViewWrapper;
+        if (mWrapper.getAdapter() != null) {
+            setAdapterInternal(mWrapper.getAdapter());
+        }
+
+        mScrollHandler = new ScrollHandler();
+        mWrapper.setOnScrollListener(mScrollHandler);
+
+        mDraggableManager = new DefaultDraggableManager();
+
+        ViewConfiguration vc = ViewConfiguration.get(dragAndDropListViewWrapper.getListView().getContext());
+        mSlop = vc.getScaledTouchSlop();
+    }
+
+    /**
+     * @throws java.lang.IllegalStateException    if the adapter does not have stable ids.
+     * @throws java.lang.IllegalArgumentException if the adapter does not implement {@link com.nhaarman.listviewanimations.util.Swappable}.
+     */
+    public void setAdapter(@NonNull final ListAdapter adapter) {
+        setAdapterInternal(adapter);
+    }
+
+    /**
+     * @throws java.lang.IllegalStateException    if the adapter does not have stable ids.
+     * @throws java.lang.IllegalArgumentException if the adapter does not implement {@link com.nhaarman.listviewanimations.util.Swappable}.
+     */
+    private void setAdapterInternal(@NonNull final ListAdapter adapter) {
+        ListAdapter actualAdapter = adapter;
+        if (actualAdapter instanceof WrapperListAdapter) {
+            actualAdapter = ((WrapperListAdapter) actualAdapter).getWrappedAdapter();
+        }
+
+        if (!actualAdapter.hasStableIds()) {
+            throw new IllegalStateException("Adapter doesn't have stable ids! Make sure your adapter has stable ids, and override hasStableIds() to return true.");
+        }
+
+        if (!(actualAdapter instanceof Swappable)) {
+            throw new IllegalArgumentException("Adapter should implement Swappable!");
+        }
+
+        mAdapter = actualAdapter;
+    }
+
+    /**
+     * Sets the scroll speed when dragging an item. Defaults to {@code 1.0f}.
+     *
+     * @param speed {@code <1.0f} to slow down scrolling, {@code >1.0f} to speed up scrolling.
+     */
+    public void setScrollSpeed(final float speed) {
+        mScrollHandler.setScrollSpeed(speed);
+    }
+
+    /**
+     * Sets the {@link DraggableManager} to be used for determining whether an item should be dragged when the user issues a down {@code MotionEvent}.
+     */
+    public void setDraggableManager(@NonNull final DraggableManager draggableManager) {
+        mDraggableManager = draggableManager;
+    }
+
+    /**
+     * Sets the {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.OnItemMovedListener} that is notified when user has dropped a dragging item.
+     */
+    public void setOnItemMovedListener(@Nullable final OnItemMovedListener onItemMovedListener) {
+        mOnItemMovedListener = onItemMovedListener;
+    }
+
+    /**
+     * Starts dragging the item at given position. User must be touching the grid.
+     *
+     * @param position the position of the item in the adapter to start dragging.
+     *
+     * @throws java.lang.IllegalStateException if the user is not touching the grid,
+     *                                         or if there is no adapter set.
+     */
+    public void startDragging(final int position) {
+        if (mMobileItemId != INVALID_ID) {
+            /* We are already dragging */
+            return;
+        }
+
+        if (mLastMotionEventY < 0) {
+            throw new IllegalStateException("User must be touching the DynamicGridView!");
+        }
+
+        if (mAdapter == null) {
+            throw new IllegalStateException("This DynamicGridView has no adapter set!");
+        }
+
+        if (position < 0 || position >= mAdapter.getCount()) {
+            /* Out of bounds */
+            return;
+        }
+
+        mMobileView = getViewForPosition(position);
+        if (mMobileView != null) {
+            mOriginalMobileItemPosition = position;
+            mMobileItemPosition = position;
+            mMobileItemId = mAdapter.getItemId(position);
+            mHoverDrawable = new HoverDrawable(mMobileView, mLastMotionEventX, mLastMotionEventY);
+            mMobileView.setVisibility(View.INVISIBLE);
+        }
+    }
+
+    @Override
+    public boolean isInteracting() {
+        return mMobileItemId != INVALID_ID;
+    }
+
+    /**
+     * Dispatches the {@link android.view.MotionEvent}s to their proper methods if applicable.
+     *
+     * @param event the {@code MotionEvent}.
+     *
+     * @return {@code true} if the event was handled, {@code false} otherwise.
+     */
+    @Override
+    public boolean onTouchEvent(@NonNull final MotionEvent event) {
+        boolean handled = false;
+
+        /* We are in the process of animating the hover drawable back, do not start a new drag yet. */
+        if (!mIsSettlingHoverDrawable) {
+            switch (event.getActionMasked()) {
+                case MotionEvent.ACTION_DOWN:
+                    mLastMotionEventX = event.getX();
+                    mLastMotionEventY = event.getY();
+                    mDownX = event.getRawX();
+                    mDownY = event.getRawY();
+                    handled = true;
+                    break;
+                case MotionEvent.ACTION_MOVE:
+                    mLastMotionEventX = event.getX();
+                    mLastMotionEventY = event.getY();
+                    handled = handleMoveEvent(event);
+                    break;
+                case MotionEvent.ACTION_UP:
+                case MotionEvent.ACTION_CANCEL:
+                    handled = handleUpEvent();
+                    mLastMotionEventX = -1;
+                    mLastMotionEventY = -1;
+                    break;
+                default:
+                    handled = false;
+                    break;
+            }
+        }
+        return handled;
+    }
+
+    /**
+     * Handles the move events.
+     * <p/>
+     * Starts dragging if allowed by the {@link DraggableManager}, or applies the {@link MotionEvent} to the hover drawable and moves the dragged item if necessary.
+     *
+     * @param event the {@code MotionEvent}.
+     *
+     * @return {@code true} if the event was handled, {@code false} otherwise.
+     */
+    private boolean handleMoveEvent(@NonNull final MotionEvent event) {
+        boolean handled = false;
+
+        float deltaX = event.getRawX() - mDownX;
+        float deltaY = event.getRawY() - mDownY;
+
+        if (mHoverDrawable == null && deltaX * deltaX + deltaY * deltaY > mSlop * mSlop) {
+            int position = mWrapper.pointToPosition((int) event.getX(), (int) event.getY());
+            if (position != AdapterView.INVALID_POSITION) {
+                View downView = mWrapper.getChildAt(position - mWrapper.getFirstVisiblePosition());
+                assert downView != null;
+                if (mDraggableManager.isDraggable(downView, position - mWrapper.getHeaderViewsCount(), event.getX() - downView.getX(), event.getY() - downView.getY())) {
+                    startDragging(position - mWrapper.getHeaderViewsCount());
+                    handled = true;
+                }
+            }
+        } else if (mHoverDrawable != null) {
+            mHoverDrawable.handleFreeMoveEvent(event);
+            moveIfNecessary();
+            mScrollHandler.handleMobileCellScroll();
+            mWrapper.getListView().invalidate();
+            handled = true;
+        }
+
+        return handled;
+    }
+
+    /**
+     * Moves the dragged item to the cell under the center of the hover drawable, if that is a different cell.
+     */
+    private void moveIfNecessary() {
+        if (mHoverDrawable == null || mAdapter == null || mIsAwaitingLayout || mIsSettlingHoverDrawable) {
+            return;
+        }
+
+        Rect bounds = mHoverDrawable.getBounds();
+        int position = getPositionAt(bounds.centerX(), bounds.centerY());
+        if (position == AdapterView.INVALID_POSITION) {
+            return;
+        }
+
+        int targetPosition = Math.min(position - mWrapper.getHeaderViewsCount(), mAdapter.getCount() - 1);
+        if (targetPosition < 0 || targetPosition == mMobileItemPosition) {
+            return;
+        }
+
+        int childCount = mWrapper.getChildCount();
+        int[] lefts = new int[childCount];
+        int[] tops = new int[childCount];
+        for (int i = 0; i < childCount; i++) {
+            View child = mWrapper.getChildAt(i);
+            assert child != null;
+            lefts[i] = (int) (child.getLeft() + child.getTranslationX());
+            tops[i] = (int) (child.getTop() + child.getTranslationY());
+        }
+
+        int from = mMobileItemPosition;
+        moveItem(from, targetPosition);
+        ((BaseAdapter) mAdapter).notifyDataSetChanged();
+        mMobileItemPosition = targetPosition;
+
+        mIsAwaitingLayout = true;
+        mWrapper.getListView().getViewTreeObserver().addOnPreDrawListener(
+                new ShiftCellsOnPreDrawListener(from, targetPosition, mWrapper.getFirstVisiblePosition(), lefts, tops)
+        );
+    }
+
+    /**
+     * Returns the position of the cell at given coordinates in constant time, using the size and spacing of the cells in the first visible row.
+     *
+     * @return the position, which may be past the last item if the coordinates are in the empty part of the last row,
+     * or {@link android.widget.AdapterView#INVALID_POSITION} if the coordinates are between cells, or outside of the visible cells.
+     */
+    private int getPositionAt(final int x, final int y) {
+        View firstChild = mWrapper.getChildAt(0);
+        if (firstChild == null || firstChild.getWidth() == 0 || firstChild.getHeight() == 0) {
+            return AdapterView.INVALID_POSITION;
+        }
+
+        int columnCount = AdapterViewUtil.getColumnCount(mWrapper);
+        int childCount = mWrapper.getChildCount();
+
+        View secondChild = columnCount > 1 && childCount > 1 ? mWrapper.getChildAt(1) : null;
+        int columnPitch = secondChild == null ? firstChild.getWidth() : secondChild.getLeft() - firstChild.getLeft();
+        View nextRowChild = childCount > columnCount ? mWrapper.getChildAt(columnCount) : null;
+        int rowPitch = nextRowChild == null ? firstChild.getHeight() : nextRowChild.getTop() - firstChild.getTop();
+        if (columnPitch <= 0 || rowPitch <= 0) {
+            return AdapterView.INVALID_POSITION;
+        }
+
+        int offsetX = x - firstChild.getLeft();
+        int offsetY = y - firstChild.getTop();
+        if (offsetX < 0 || offsetY < 0 || offsetX % columnPitch >= firstChild.getWidth() || offsetY % rowPitch >= firstChild.getHeight()) {
+            return AdapterView.INVALID_POSITION;
+        }
+
+        int column = offsetX / columnPitch;
+        int row = offsetY / rowPitch;
+        if (column >= columnCount) {
+            return AdapterView.INVALID_POSITION;
+        }
+
+        int position = mWrapper.getFirstVisiblePosition() + row * columnCount + column;
+        if (position >= mWrapper.getFirstVisiblePosition() + childCount && position < mWrapper.getCount()) {
+            /* The cell exists, but has not been laid out. */
+            return AdapterView.INVALID_POSITION;
+        }
+        return position;
+    }
+
+    /**
+     * Moves the item at position {@code from} to position {@code to} in the adapter, shifting the items in between.
+     * Uses {@link Movable#moveItem(int, int)} if the adapter supports it, and adjacent swaps otherwise.
+     */
+    private void moveItem(final int from, final int to) {
+        assert mAdapter != null;
+
+        Movable movable = MovableUtils.getMovable(mAdapter);
+        if (movable != null) {
+            movable.moveItem(from, to);
+            return;
+        }
+
+        Swappable swappable = (Swappable) mAdapter;
+        if (from < to) {
+            for (int i = from; i < to; i++) {
+                swappable.swapItems(i, i + 1);
+            }
+        } else {
+            for (int i = from; i > to; i--) {
+                swappable.swapItems(i, i - 1);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the {@code View} for the item at given adapter position.
+     *
+     * @return the {@code View}, or {@code null} if the item is not visible.
+     */
+    @Nullable
+    private View getViewForPosition(final int position) {
+        return mWrapper.getChildAt(position + mWrapper.getHeaderViewsCount() - mWrapper.getFirstVisiblePosition());
+    }
+
+    /**
+     * Makes sure the {@code View} currently representing the dragged item is invisible, and that a recycled {@code View} that no longer represents it is visible.
+     */
+    private void updateMobileView() {
+        View mobileView = getViewForPosition(mMobileItemPosition);
+        if (mobileView != mMobileView) {
+            if (mMobileView != null) {
+                mMobileView.setVisibility(View.VISIBLE);
+            }
+            mMobileView = mobileView;
+            if (mMobileView != null) {
+                mMobileView.setVisibility(View.INVISIBLE);
+            }
+        }
+    }
+
+    /**
+     * Handles the up and cancel events.
+     * <p/>
+     * Animates the hover drawable to the cell of the dragged item once the grid has been laid out, and finalizes our drag properties when the animation has finished.
+     * Will also notify the {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.OnItemMovedListener} set if applicable.
+     *
+     * @return {@code true} if the event was handled, {@code false} otherwise.
+     */
+    private boolean handleUpEvent() {
+        if (mHoverDrawable == null) {
+            return false;
+        }
+
+        mScrollHandler.stopMobileCellScroll();
+        mIsSettlingHoverDrawable = true;
+
+        mWrapper.getListView().getViewTreeObserver().addOnPreDrawListener(new SettleOnPreDrawListener(mHoverDrawable));
+        mWrapper.getListView().invalidate();
+
+        if (mOriginalMobileItemPosition != mMobileItemPosition && mOnItemMovedListener != null) {
+            mOnItemMovedListener.onItemMoved(mOriginalMobileItemPosition, mMobileItemPosition);
+        }
+
+        return true;
+    }
+
+    public void dispatchDraw(@NonNull final Canvas canvas) {
+        if (mHoverDrawable != null) {
+            mHoverDrawable.draw(canvas);
+        }
+    }
+
+    /**
+     * By default, nothing is draggable. User should set a {@link com.nhaarman.listviewanimations.itemmanipulation.dragdrop.DraggableManager} manually,
+     * or use {@link #startDragging(int)} if they want to start a drag (for example using a long click listener).
+     */
+    private static class DefaultDraggableManager implements DraggableManager {
+
+        @Override
+        public boolean isDraggable(@NonNull final View view, final int position, final float x, final float y) {
+            return false;
+        }
+    }
+
+    /**
+     * Slides the cells that were shifted by a move from their old locations to their new ones, all in the same frame.
+     * Old locations are looked up by position: the item now at position {@code p} was at position {@code p + 1} or {@code p - 1} before the move,
+     * depending on the move direction, if {@code p} lies between the original and new position of the dragged item.
+     */
+    private class ShiftCellsOnPreDrawListener implements ViewTreeObserver.OnPreDrawListener {
+
+        private final int mFrom;
+
+        private final int mTo;
+
+        /**
+         * The first visible position at the time the old locations were recorded.
+         */
+        private final int mOldFirstVisiblePosition;
+
+        /**
+         * The visual left coordinates of the children before the move, indexed by child index.
+         */
+        @NonNull
+        private final int[] mOldLefts;
+
+        /**
+         * The visual top coordinates of the children before the move, indexed by child index.
+         */
+        @NonNull
+        private final int[] mOldTops;
+
+        ShiftCellsOnPreDrawListener(final int from, final int to, final int oldFirstVisiblePosition, @NonNull final int[] oldLefts, @NonNull final int[] oldTops) {
+            mFrom = from;
+            mTo = to;
+            mOldFirstVisiblePosition = oldFirstVisiblePosition;
+            mOldLefts = oldLefts;
+            mOldTops = oldTops;
+        }
+
+        @Override
+        public boolean onPreDraw() {
+            mWrapper.getListView().getViewTreeObserver().removeOnPreDrawListener(this);
+            mIsAwaitingLayout = false;
+
+            updateMobileView();
+
+            int headerViewsCount = mWrapper.getHeaderViewsCount();
+            int firstVisiblePosition = mWrapper.getFirstVisiblePosition();
+            int low = Math.min(mFrom, mTo);
+            int high = Math.max(mFrom, mTo);
+            for (int i = 0; i < mWrapper.getChildCount(); i++) {
+                int position = firstVisiblePosition + i - headerViewsCount;
+                if (position == mTo || position < low || position > high) {
+                    continue;
+                }
+
+                int oldPosition = mFrom < mTo ? position + 1 : position - 1;
+                int oldIndex = oldPosition + headerViewsCount - mOldFirstVisiblePosition;
+                View child = mWrapper.getChildAt(i);
+                if (child == null || oldIndex < 0 || oldIndex >= mOldLefts.length) {
+                    continue;
+                }
+
+                child.setTranslationX(mOldLefts[oldIndex] - child.getLeft());
+                child.setTranslationY(mOldTops[oldIndex] - child.getTop());
+                child.animate().translationX(0).translationY(0).start();
+            }
+
+            /* Try again, the hover drawable may already be above another cell. */
+            moveIfNecessary();
+            return true;
+        }
+    }
+
+    /**
+     * A class which handles scrolling for the grid when dragging an item.
+     * <p/>
+     * The {@link #handleMobileCellScroll()} method initiates the scroll and should typically be called on a move {@code MotionEvent}.
+     * The {@link DragAutoScroller} then keeps scrolling every frame for as long as the hover drawable is past an edge.
+     * Since the hover drawable follows the touch point, scrolling brings new cells underneath it, which are handled in {@link #onScroll(AbsListView, int, int, int)}.
+     */
+    private class ScrollHandler implements AbsListView.OnScrollListener, DragAutoScroller.HoverBoundsProvider {
+
+        /**
+         * The {@link DragAutoScroller} that scrolls the grid while the hover drawable is past an edge.
+         */
+        @NonNull
+        private final DragAutoScroller mDragAutoScroller;
+
+        ScrollHandler() {
+            mDragAutoScroller = new DragAutoScroller(mWrapper, this);
+        }
+
+        /**
+         * Sets the scroll speed when dragging an item. Defaults to {@code 1.0f}.
+         *
+         * @param scrollSpeedFactor {@code <1.0f} to slow down scrolling, {@code >1.0f} to speed up scrolling.
+         */
+        void setScrollSpeed(final float scrollSpeedFactor) {
+            mDragAutoScroller.setScrollSpeed(scrollSpeedFactor);
+        }
+
+        /**
+         * Starts scrolling the grid if the hover drawable is above or below its bounds.
+         */
+        void handleMobileCellScroll() {
+            if (mHoverDrawable == null || mIsSettlingHoverDrawable) {
+                return;
+            }
+
+            mDragAutoScroller.update();
+        }
+
+        /**
+         * Stops any scrolling initiated by {@link #handleMobileCellScroll()}.
+         */
+        void stopMobileCellScroll() {
+            mDragAutoScroller.stop();
+        }
+
+        @Nullable
+        @Override
+        public Rect getHoverBounds() {
+            if (mHoverDrawable == null || mIsSettlingHoverDrawable) {
+                return null;
+            }
+            return mHoverDrawable.getBounds();
+        }
+
+        @Override
+        public void onScroll(@NonNull final AbsListView view, final int firstVisibleItem, final int visibleItemCount, final int totalItemCount) {
+            if (mHoverDrawable == null || mIsSettlingHoverDrawable || mIsAwaitingLayout) {
+                return;
+            }
+
+            updateMobileView();
+            moveIfNecessary();
+        }
+
+        @Override
+        public void onScrollStateChanged(@NonNull final AbsListView view, final int scrollState) {
+            if (scrollState == SCROLL_STATE_IDLE && mHoverDrawable != null) {
+                handleMobileCellScroll();
+            }
+        }
+    }
+
+    /**
+     * Animates the hover drawable towards the cell of the dropped item, once any pending layout has been done.
+     * If the item is not visible, the hover drawable slides off the nearest edge of the grid.
+     * When the animation has finished, it will reset all the drag properties.
+     */
+    private class SettleOnPreDrawListener extends AnimatorListenerAdapter implements ViewTreeObserver.OnPreDrawListener, ValueAnimator.AnimatorUpdateListener {
+
+        @NonNull
+        private final HoverDrawable mSettlingHoverDrawable;
+
+        private int mStartLeft;
+
+        private int mStartTop;
+
+        private int mTargetLeft;
+
+        private int mTargetTop;
+
+        SettleOnPreDrawListener(@NonNull final HoverDrawable settlingHoverDrawable) {
+            mSettlingHoverDrawable = settlingHoverDrawable;
+        }
+
+        @Override
+        public boolean onPreDraw() {
+            mWrapper.getListView().getViewTreeObserver().removeOnPreDrawListener(this);
+
+            updateMobileView();
+
+            mStartLeft = mSettlingHoverDrawable.getLeft();
+            mStartTop = mSettlingHoverDrawable.getTop();
+            if (mMobileView != null) {
+                mTargetLeft = mMobileView.getLeft();
+                mTargetTop = mMobileView.getTop();
+            } else if (mSettlingHoverDrawable.getBounds().centerY() < mWrapper.getListView().getHeight() / 2) {
+                mTargetLeft = mStartLeft;
+                mTargetTop = -mSettlingHoverDrawable.getIntrinsicHeight();
+            } else {
+                mTargetLeft = mStartLeft;
+                mTargetTop = mWrapper.getListView().getHeight();
+            }
+
+            ValueAnimator valueAnimator = ValueAnimator.ofFloat(0, 1);
+            valueAnimator.addUpdateListener(this);
+            valueAnimator.addListener(this);
+            valueAnimator.start();
+            return true;
+        }
+
+        @Override
+        public void onAnimationUpdate(final ValueAnimator animation) {
+            float fraction = animation.getAnimatedFraction();
+            int left = (int) (mStartLeft + (mTargetLeft - mStartLeft) * fraction);
+            int top = (int) (mStartTop + (mTargetTop - mStartTop) * fraction);
+            mSettlingHoverDrawable.setLeftTop(left, top);
+            mWrapper.getListView().postInvalidate();
+        }
+
+        @Override
+        public void onAnimationEnd(final Animator animation) {
+            if (mMobileView != null) {
+                mMobileView.setVisibility(View.VISIBLE);
+            }
+
+            mHoverDrawable = null;
+            mMobileView = null;
+            mMobileItemId = INVALID_ID;
+            mOriginalMobileItemPosition = AdapterView.INVALID_POSITION;
+            mMobileItemPosition = AdapterView.INVALID_POSITION;
+
+            mIsSettlingHoverDrawable = false;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Shader;
+import android.support.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of rasterized {@link GripView} dot tiles, shared between all {@code GripView} instances.
+ * A tile contains a single dot, and is repeated by a {@link BitmapShader} to draw the full grid.
+ * Tiles are reference counted: a tile is recycled as soon as the last {@code GripView} using it releases it.
+ * <p/>
+ * This class should only be used from the main thread.
+ */
+final class GripTileCache {
+
+    @NonNull
+    private static final Map<Key, Tile> TILES = new HashMap<>();
+
+    private GripTileCache() {
+    }
+
+    /**
+     * Returns the {@link Tile} for given dot radius and color, rasterizing it if it does not exist yet.
+     * Every call should be balanced with a call to {@link #release(Tile)}.
+     *
+     * @param dotSizeRadiusPx the radius in pixels of the dot.
+     * @param color           the color of the dot.
+     */
+    @NonNull
+    static Tile acquire(final float dotSizeRadiusPx, final int color) {
+        Key key = new Key(dotSizeRadiusPx, color);
+        Tile tile = TILES.get(key);
+        if (tile == null) {
+            tile = new Tile(key);
+            TILES.put(key, tile);
+        }
+        tile.mReferenceCount++;
+        return tile;
+    }
+
+    /**
+     * Releases given {@link Tile}, recycling it if it is no longer used.
+     */
+    static void release(@NonNull final Tile tile) {
+        tile.mReferenceCount--;
+        if (tile.mReferenceCount == 0) {
+            TILES.remove(tile.mKey);
+            tile.mBitmap.recycle();
+        }
+    }
+
+    /**
+     * Returns the number of {@link Tile}s that are currently in use.
+     */
+    static int getTileCount() {
+        return TILES.size();
+    }
+
+    /**
+     * A rasterized dot, and the {@link Paint} to draw the repeated dot pattern with.
+     */
+    static final class Tile {
+
+        @NonNull
+        private final Key mKey;
+
+        @NonNull
+        private final Bitmap mBitmap;
+
+        /**
+         * The {@code Paint} with a {@link BitmapShader} that repeats the dot every {@code 4 * radius} pixels in both directions.
+         */
+        @NonNull
+        private final Paint mPaint;
+
+        private int mReferenceCount;
+
+        private Tile(@NonNull final Key key) {
+            mKey = key;
+
+            float pitch = key.mDotSizeRadiusPx * 4;
+            int size = Math.max(1, (int) Math.ceil(pitch));
+            mBitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+
+            Paint dotPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            dotPaint.setColor(key.mColor);
+            new Canvas(mBitmap).drawCircle(key.mDotSizeRadiusPx, key.mDotSizeRadiusPx, key.mDotSizeRadiusPx, dotPaint);
+
+            BitmapShader shader = new BitmapShader(mBitmap, Shader.TileMode.REPEAT, Shader.TileMode.REPEAT);
+            if (size != pitch) {
+                /* The bitmap can only have a whole number of pixels; scale it down so the dots keep their exact spacing. */
+                Matrix matrix = new Matrix();
+                matrix.setScale(pitch / size, pitch / size);
+                shader.setLocalMatrix(matrix);
+            }
+
+            mPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+            mPaint.setShader(shader);
+        }
+
+        @NonNull
+        Paint getPaint() {
+            return mPaint;
+        }
+
+        /**
+         * Returns the number of unreleased {@link #acquire(float, int)} calls that returned this {@code Tile}.
+         */
+        int getReferenceCount() {
+            return mReferenceCount;
+        }
+
+        /**
+         * Returns whether the bitmap of this {@code Tile} has been recycled, after which it can no longer be drawn.
+         */
+        boolean isRecycled() {
+            return mBitmap.isRecycled();
+        }
+    }
+
+    private static final class Key {
+
+        private final float mDotSizeRadiusPx;
+
+        private final int mColor;
+
+        private Key(final float dotSizeRadiusPx, final int color) {
+            mDotSizeRadiusPx = dotSizeRadiusPx;
+            mColor = color;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) o;
+            return Float.compare(other.mDotSizeRadiusPx, mDotSizeRadiusPx) == 0 && other.mColor == mColor;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Float.floatToIntBits(mDotSizeRadiusPx) + mColor;
+        }
+    }
+}
@@ -65,6 +65,17 @@ public class GripView extends View {
      */
     private int mRowCount;
 
+    /**
+     * Whether the dots are drawn using a shared, rasterized tile instead of individual circles.
+     */
+    private boolean mTileRenderingEnabled;
+
+    /**
+     * The shared tile that is used to draw the dots, if acquired.
+     */
+    @Nullable
+    private GripTileCache.Tile mTile;
+
     public GripView(@NonNull final Context context) {
         this(context, null);
     }
@@ -94,6 +105,8 @@ public class GripView extends View {
      */
     public void setColor(@ColorRes final int colorResId) {
         mDotPaint.setColor(getResources().getColor(colorResId));
+        releaseTile();
+        invalidate();
     }
 
     /**
@@ -101,6 +114,7 @@ public class GripView extends View {
      */
     public void setDotSizeRadiusPx(final float dotSizeRadiusPx) {
         mDotSizeRadiusPx = dotSizeRadiusPx;
+        releaseTile();
     }
 
     /**
@@ -111,6 +125,40 @@ public class GripView extends View {
         requestLayout();
     }
 
+    /**
+     * Sets whether the dots should be drawn using a rasterized tile which is shared between all {@code GripView}s with the same dot size and color.
+     * This reduces drawing to a single {@code drawRect} call per {@code GripView}, instead of one {@code drawCircle} call per dot.
+     * Disabled by default.
+     */
+    public void setTileRenderingEnabled(final boolean tileRenderingEnabled) {
+        mTileRenderingEnabled = tileRenderingEnabled;
+        if (!tileRenderingEnabled) {
+            releaseTile();
+        }
+        invalidate();
+    }
+
+    /**
+     * Returns the shared tile that is currently used to draw the dots, or {@code null} if no tile is acquired.
+     */
+    @Nullable
+    GripTileCache.Tile getTile() {
+        return mTile;
+    }
+
+    private void releaseTile() {
+        if (mTile != null) {
+            GripTileCache.release(mTile);
+            mTile = null;
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        releaseTile();
+    }
+
     @SuppressWarnings("ParameterNameDiffersFromOverriddenParameter")
     @Override
     protected void onSizeChanged(final int width, final int height, final int oldWidth, final int oldHeight) {
@@ -129,6 +177,30 @@ public class GripView extends View {
     @Override
     protected void onDraw(final Canvas canvas) {
         super.onDraw(canvas);
+        if (mTileRenderingEnabled) {
+            drawTiled(canvas);
+        } else {
+            drawCircles(canvas);
+        }
+    }
+
+    private void drawTiled(@NonNull final Canvas canvas) {
+        if (mColumnCount <= 0 || mRowCount <= 0 || mDotSizeRadiusPx <= 0) {
+            return;
+        }
+
+        if (mTile == null) {
+            mTile = GripTileCache.acquire(mDotSizeRadiusPx, mDotPaint.getColor());
+        }
+
+        float pitch = mDotSizeRadiusPx * 4;
+        int saveCount = canvas.save();
+        canvas.translate(getPaddingLeft(), mPaddingTop);
+        canvas.drawRect(0, 0, (mColumnCount - 1) * pitch + mDotSizeRadiusPx * 2, (mRowCount - 1) * pitch + mDotSizeRadiusPx * 2, mTile.getPaint());
+        canvas.restoreToCount(saveCount);
+    }
+
+    private void drawCircles(@NonNull final Canvas canvas) {
         for (int i = 0; i < mColumnCount; i++) {
             float x = getPaddingLeft() + i * 2 * mDotSizeRadiusPx * 2;
             for (int j = 0; j < mRowCount; j++) {
@@ -21,6 +21,8 @@ import android.support.annotation.NonNull;
 import android.view.MotionEvent;
 import android.view.View;
 
+import java.util.List;
+
 /**
  * A Drawable which represents a dragging {@link View}.
  */
@@ -41,6 +43,16 @@ class HoverDrawable extends BitmapDrawable {
      */
     private float mScrollDistance;
 
+    /**
+     * The original x coordinate of the left of given {@code View}.
+     */
+    private float mOriginalX;
+
+    /**
+     * The original x coordinate of the position that was touched.
+     */
+    private float mDownX;
+
     /**
      * Creates a new {@code HoverDrawable} for given {@link View}, using given {@link MotionEvent}.
      *
@@ -65,6 +77,35 @@ class HoverDrawable extends BitmapDrawable {
         setBounds(view.getLeft(), view.getTop(), view.getRight(), view.getBottom());
     }
 
+    /**
+     * Creates a new {@code HoverDrawable} which represents given {@link View}s as a single block.
+     *
+     * @param views the {@code View}s to represent, ordered from top to bottom.
+     * @param downY the y coordinate of the down event.
+     */
+    HoverDrawable(@NonNull final List<View> views, final float downY) {
+        super(views.get(0).getResources(), BitmapUtils.getBitmapFromViews(views));
+        View first = views.get(0);
+        View last = views.get(views.size() - 1);
+        mOriginalY = first.getTop();
+        mDownY = downY;
+
+        setBounds(first.getLeft(), first.getTop(), first.getRight(), last.getBottom());
+    }
+
+    /**
+     * Creates a new {@code HoverDrawable} for given {@link View}, which can be moved in both directions using {@link #handleFreeMoveEvent(MotionEvent)}.
+     *
+     * @param view  the {@code View} to represent.
+     * @param downX the x coordinate of the down event.
+     * @param downY the y coordinate of the down event.
+     */
+    HoverDrawable(@NonNull final View view, final float downX, final float downY) {
+        this(view, downY);
+        mOriginalX = view.getLeft();
+        mDownX = downX;
+    }
+
     /**
      * Calculates the new position for this {@code HoverDrawable} using given {@link MotionEvent}.
      *
@@ -76,6 +117,18 @@ class HoverDrawable extends BitmapDrawable {
         setTop(top);
     }
 
+    /**
+     * Calculates the new position for this {@code HoverDrawable} using given {@link MotionEvent}, following the touch point in both directions.
+     *
+     * @param ev the {@code MotionEvent}.
+     *           {@code ev.getActionMasked()} should typically equal {@link MotionEvent#ACTION_MOVE}.
+     */
+    void handleFreeMoveEvent(@NonNull final MotionEvent ev) {
+        int left = (int) (mOriginalX - mDownX + ev.getX());
+        int top = (int) (mOriginalY - mDownY + ev.getY());
+        setLeftTop(left, top);
+    }
+
     /**
      * Updates the original y position of the view, and calculates the scroll distance.
      *
@@ -86,6 +139,17 @@ class HoverDrawable extends BitmapDrawable {
         mOriginalY = mobileViewTopY;
     }
 
+    /**
+     * Continues dragging this {@code HoverDrawable} from its current position, using a new down event.
+     * Subsequent calls to {@link #handleMoveEvent(MotionEvent)} move it relative to given y coordinate.
+     *
+     * @param downY the y coordinate of the new down event.
+     */
+    void reanchor(final float downY) {
+        mScrollDistance = getBounds().top - mOriginalY;
+        mDownY = downY;
+    }
+
     /**
      * Returns whether the user is currently dragging this {@code HoverDrawable} upwards.
      *
@@ -119,6 +183,20 @@ class HoverDrawable extends BitmapDrawable {
         setBounds(getBounds().left, top, getBounds().left + getIntrinsicWidth(), top + getIntrinsicHeight());
     }
 
+    /**
+     * Returns the left coordinate of this {@code HoverDrawable}.
+     */
+    int getLeft() {
+        return getBounds().left;
+    }
+
+    /**
+     * Sets the left and top coordinates of this {@code HoverDrawable}.
+     */
+    void setLeftTop(final int left, final int top) {
+        setBounds(left, top, left + getIntrinsicWidth(), top + getIntrinsicHeight());
+    }
+
     /**
      * Shifts the original y coordinates of this {@code HoverDrawable} {code height} pixels upwards or downwards,
      * depending on the move direction.
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+import android.support.annotation.Nullable;
+import android.widget.ListAdapter;
+
+import com.nhaarman.listviewanimations.BaseAdapterDecorator;
+import com.nhaarman.listviewanimations.util.Movable;
+
+class MovableUtils {
+
+    private MovableUtils() {
+    }
+
+    /**
+     * Returns the first adapter in the chain starting at given adapter that implements {@link Movable}, following
+     * {@link BaseAdapterDecorator#getDecoratedBaseAdapter()}, or {@code null} if there is none.
+     */
+    @Nullable
+    static Movable getMovable(@Nullable final ListAdapter adapter) {
+        ListAdapter result = adapter;
+        while (!(result instanceof Movable) && result instanceof BaseAdapterDecorator) {
+            result = ((BaseAdapterDecorator) result).getDecoratedBaseAdapter();
+        }
+        return result instanceof Movable ? (Movable) result : null;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.dragdrop;
+
+/**
+ * An {@link OnItemMovedListener} which is also notified when a block of selected items has been moved at once.
+ * When a block is dropped, only {@link #onItemsMoved(int, int, int)} is called. Plain {@code OnItemMovedListener}s receive
+ * {@link #onItemMoved(int, int)} with the positions of the first item of the block instead.
+ */
+public interface OnItemsMovedListener extends OnItemMovedListener {
+
+    /**
+     * Called when a block of items that was dragged has been dropped.
+     *
+     * @param originalPosition the original position of the first item that was dragged.
+     * @param count            the number of items that were dragged.
+     * @param newPosition      the new position of the first item that was dragged.
+     */
+    void onItemsMoved(int originalPosition, int count, int newPosition);
+}
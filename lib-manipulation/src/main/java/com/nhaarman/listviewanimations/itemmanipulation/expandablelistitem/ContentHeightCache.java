@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.itemmanipulation.expandablelistitem;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Caches the measured height of content views by item id and available width, so expanding an item does not have to measure its content again.
+ * Entries are kept sorted by id, so lookups are a binary search without boxing.
+ */
+class ContentHeightCache {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Returned by {@link #get(long, int)} if no height is cached.
+     */
+    static final int NO_HEIGHT = -1;
+
+    /**
+     * The item ids, in ascending order.
+     */
+    private long[] mIds = new long[DEFAULT_CAPACITY];
+
+    /**
+     * The width the height of the item with the id at the same index in {@link #mIds} was measured for.
+     */
+    private int[] mWidths = new int[DEFAULT_CAPACITY];
+
+    /**
+     * The measured height of the item with the id at the same index in {@link #mIds}.
+     */
+    private int[] mHeights = new int[DEFAULT_CAPACITY];
+
+    private int mSize;
+
+    /**
+     * Returns the cached height for given id and width, or {@link #NO_HEIGHT} if there is none.
+     */
+    int get(final long id, final int width) {
+        int index = indexOf(id);
+        if (index >= 0 && mWidths[index] == width) {
+            return mHeights[index];
+        }
+        return NO_HEIGHT;
+    }
+
+    /**
+     * Caches the measured height for given id and width, replacing any previously cached height for the id.
+     */
+    void put(final long id, final int width, final int height) {
+        int index = indexOf(id);
+        if (index < 0) {
+            index = ~index;
+            if (mSize == mIds.length) {
+                grow();
+            }
+            System.arraycopy(mIds, index, mIds, index + 1, mSize - index);
+            System.arraycopy(mWidths, index, mWidths, index + 1, mSize - index);
+            System.arraycopy(mHeights, index, mHeights, index + 1, mSize - index);
+            mIds[index] = id;
+            mSize++;
+        }
+        mWidths[index] = width;
+        mHeights[index] = height;
+    }
+
+    void clear() {
+        mSize = 0;
+    }
+
+    /**
+     * Returns the ids which have a measured height, in ascending order.
+     */
+    @NonNull
+    long[] getIds() {
+        long[] result = new long[mSize];
+        System.arraycopy(mIds, 0, result, 0, mSize);
+        return result;
+    }
+
+    /**
+     * Returns the widths the heights were measured for, in the order of {@link #getIds()}.
+     */
+    @NonNull
+    int[] getWidths() {
+        int[] result = new int[mSize];
+        System.arraycopy(mWidths, 0, result, 0, mSize);
+        return result;
+    }
+
+    /**
+     * Returns the measured heights, in the order of {@link #getIds()}.
+     */
+    @NonNull
+    int[] getHeights() {
+        int[] result = new int[mSize];
+        System.arraycopy(mHeights, 0, result, 0, mSize);
+        return result;
+    }
+
+    /**
+     * Returns the index of given id, or the bitwise complement of the index it should be inserted at.
+     */
+    private int indexOf(final long id) {
+        int low = 0;
+        int high = mSize - 1;
+        while (low <= high) {
+            int mid = low + high >>> 1;
+            long midId = mIds[mid];
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return ~low;
+    }
+
+    private void grow() {
+        long[] ids = new long[mSize * 2];
+        int[] widths = new int[mSize * 2];
+        int[] heights = new int[mSize * 2];
+        System.arraycopy(mIds, 0, ids, 0, mSize);
+        System.arraycopy(mWidths, 0, widths, 0, mSize);
+        System.arraycopy(mHeights, 0, heights, 0, mSize);
+        mIds = ids;
+        mWidths = widths;
+        mHeights = heights;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nhaarman.listviewanimations.itemmanipulation.expandablelistitem;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.SparseArray;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps detached content views per content view type, so they can be handed back as convertView instead of creating new ones.
+ * At most {@link #MAX_POOLED_VIEWS} views are kept per type; further views are dropped.
+ */
+class ContentViewPool {
+
+    /**
+     * The maximum number of detached content views kept per content view type.
+     */
+    static final int MAX_POOLED_VIEWS = 4;
+
+    @NonNull
+    private final SparseArray<List<View>> mPooledViews = new SparseArray<>();
+
+    /**
+     * Removes and returns a pooled view of given type, or {@code null} if there is none.
+     */
+    @Nullable
+    View acquire(final int type) {
+        List<View> pooledViews = mPooledViews.get(type);
+        if (pooledViews == null || pooledViews.isEmpty()) {
+            return null;
+        }
+        return pooledViews.remove(pooledViews.size() - 1);
+    }
+
+    /**
+     * Keeps given view for reuse as given type, unless the pool for that type is full.
+     *
+     * @return whether the view was kept.
+     */
+    boolean release(final int type, @NonNull final View view) {
+        List<View> pooledViews = mPooledViews.get(type);
+        if (pooledViews == null) {
+            pooledViews = new ArrayList<>(MAX_POOLED_VIEWS);
+            mPooledViews.put(type, pooledViews);
+        }
+        if (pooledViews.size() >= MAX_POOLED_VIEWS) {
+            return false;
+        }
+        pooledViews.add(view);
+        return true;
+    }
+
+    /**
+     * Returns the number of pooled views of given type.
+     */
+    int size(final int type) {
+        List<View> pooledViews = mPooledViews.get(type);
+        return pooledViews == null ? 0 : pooledViews.size();
+    }
+
+    void clear() {
+        mPooledViews.clear();
+    }
+}
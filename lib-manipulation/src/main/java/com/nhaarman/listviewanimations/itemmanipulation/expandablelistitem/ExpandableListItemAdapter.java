@@ -26,34 +26,54 @@ import android.widget.FrameLayout;
 import android.widget.LinearLayout;
 
 import com.nhaarman.listviewanimations.ArrayAdapter;
+import com.nhaarman.listviewanimations.StateSnapshot;
+import com.nhaarman.listviewanimations.StateSnapshotParticipant;
 import com.nhaarman.listviewanimations.util.AdapterViewUtil;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
 import com.nhaarman.listviewanimations.util.ListViewWrapperSetter;
+import com.nhaarman.listviewanimations.util.LongHashSet;
 import com.nineoldandroids.animation.Animator;
 import com.nineoldandroids.animation.AnimatorListenerAdapter;
 import com.nineoldandroids.animation.ValueAnimator;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
  * An {@link ArrayAdapter} which allows items to be expanded using an animation.
+ * <p/>
+ * Expanded items are tracked by their item id. When the adapter returns {@code true} for {@link #hasStableIds()},
+ * {@link #add(Object)}, {@link #add(int, Object)}, {@link #addAll(Collection)}, {@link #remove(Object)} and {@link #remove(int)} update the expanded ids
+ * for the changed item only. Otherwise, for example with the default position based ids of {@link ArrayAdapter}, the ids of unchanged items may change
+ * as well, and every data set change rescans all items to drop the expanded ids that are no longer present.
+ * Override {@link #getItemId(int)} and {@link #hasStableIds()} to avoid this rescan for large data sets.
  */
 @SuppressWarnings("UnusedDeclaration")
-public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> implements ListViewWrapperSetter {
+public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> implements ListViewWrapperSetter, StateSnapshotParticipant {
 
     private static final int DEFAULTTITLEPARENTRESID = 10000;
     private static final int DEFAULTCONTENTPARENTRESID = 10001;
 
+    /**
+     * Indicates a {@link ViewHolder} has no content view bound.
+     */
+    private static final int NO_CONTENT_VIEW_TYPE = -1;
+
+    /**
+     * State snapshot keys for the expanded ids and the measured content heights.
+     */
+    private static final int SNAPSHOT_KEY_EXPANDED_IDS = 0;
+    private static final int SNAPSHOT_KEY_CONTENT_HEIGHT_IDS = 1;
+    private static final int SNAPSHOT_KEY_CONTENT_WIDTHS = 2;
+    private static final int SNAPSHOT_KEY_CONTENT_HEIGHTS = 3;
+
     @NonNull
     private final Context mContext;
     private final int mTitleParentResId;
     private final int mContentParentResId;
 
     @NonNull
-    private final List<Long> mExpandedIds;
+    private final ExpandedIdStore mExpandedIds;
     private int mViewLayoutResId;
     private int mActionViewResId;
     private int mLimit;
@@ -64,6 +84,28 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
     @Nullable
     private ExpandCollapseListener mExpandCollapseListener;
 
+    /**
+     * Whether the expanded ids have already been updated for the current data set change, so {@link #notifyDataSetChanged()} can skip the full rescan.
+     */
+    private boolean mIsReconciled;
+
+    /**
+     * The measured heights of expanded content views. Cleared when the data set changes.
+     */
+    @NonNull
+    private final ContentHeightCache mContentHeightCache = new ContentHeightCache();
+
+    /**
+     * Whether content views are only created for expanded items.
+     */
+    private boolean mLazyContentInflation;
+
+    /**
+     * Detached content views per content view type, to be reused when lazy content inflation is enabled.
+     */
+    @NonNull
+    private final ContentViewPool mContentViewPool = new ContentViewPool();
+
     /**
      * Creates a new ExpandableListItemAdapter with an empty list.
      */
@@ -81,7 +123,7 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         mTitleParentResId = DEFAULTTITLEPARENTRESID;
         mContentParentResId = DEFAULTCONTENTPARENTRESID;
 
-        mExpandedIds = new ArrayList<>();
+        mExpandedIds = new ExpandedIdStore();
     }
 
     /**
@@ -107,7 +149,7 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         mTitleParentResId = titleParentResId;
         mContentParentResId = contentParentResId;
 
-        mExpandedIds = new ArrayList<>();
+        mExpandedIds = new ExpandedIdStore();
     }
 
     @SuppressWarnings("NullableProblems")
@@ -143,6 +185,42 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         notifyDataSetChanged();
     }
 
+    /**
+     * Sets whether content views should only be created for expanded items. When enabled, {@link #getContentView(int, android.view.View, android.view.ViewGroup)}
+     * is only called for items that are expanded or about to expand, and content views of collapsed items are detached and kept for reuse.
+     * Override {@link #getContentViewType(int)} and {@link #getContentViewTypeCount()} if content views differ per item.
+     *
+     * @param lazyContentInflation defaults to {@code false}.
+     */
+    public void setLazyContentInflation(final boolean lazyContentInflation) {
+        mLazyContentInflation = lazyContentInflation;
+        if (!lazyContentInflation) {
+            mContentViewPool.clear();
+        }
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the type of the content view that will be created by {@link #getContentView(int, android.view.View, android.view.ViewGroup)} for the item at
+     * given position. Only used when lazy content inflation is enabled, to decide which detached content views can be reused.
+     *
+     * @param position the position of the item.
+     *
+     * @return an integer between 0 and {@link #getContentViewTypeCount()} - 1.
+     */
+    public int getContentViewType(final int position) {
+        return 0;
+    }
+
+    /**
+     * Returns the number of types of content views that will be created by {@link #getContentView(int, android.view.View, android.view.ViewGroup)}.
+     *
+     * @see #getContentViewType(int)
+     */
+    public int getContentViewTypeCount() {
+        return 1;
+    }
+
     /**
      * Set the {@link ExpandCollapseListener} that should be notified of expand / collapse events.
      */
@@ -174,22 +252,32 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
             viewHolder.titleParent.addView(titleView);
 
             if (mActionViewResId == 0) {
-                view.setOnClickListener(new TitleViewOnClickListener(viewHolder.contentParent));
+                view.setOnClickListener(new TitleViewOnClickListener(viewHolder));
             } else {
-                view.findViewById(mActionViewResId).setOnClickListener(new TitleViewOnClickListener(viewHolder.contentParent));
+                view.findViewById(mActionViewResId).setOnClickListener(new TitleViewOnClickListener(viewHolder));
             }
         }
         viewHolder.titleView = titleView;
 
-        View contentView = getContentView(position, viewHolder.contentView, viewHolder.contentParent);
-        if (!contentView.equals(viewHolder.contentView)) {
-            viewHolder.contentParent.removeAllViews();
-            viewHolder.contentParent.addView(contentView);
+        long itemId = getItemId(position);
+        boolean isExpanded = mExpandedIds.contains(itemId);
+
+        if (!mLazyContentInflation) {
+            View contentView = getContentView(position, viewHolder.contentView, viewHolder.contentParent);
+            if (!contentView.equals(viewHolder.contentView)) {
+                viewHolder.contentParent.removeAllViews();
+                viewHolder.contentParent.addView(contentView);
+            }
+            viewHolder.contentView = contentView;
+            viewHolder.contentViewType = NO_CONTENT_VIEW_TYPE;
+        } else if (isExpanded) {
+            bindContentView(position, viewHolder);
+        } else {
+            recycleContentView(viewHolder);
         }
-        viewHolder.contentView = contentView;
 
-        viewHolder.contentParent.setVisibility(mExpandedIds.contains(getItemId(position)) ? View.VISIBLE : View.GONE);
-        viewHolder.contentParent.setTag(getItemId(position));
+        viewHolder.contentParent.setVisibility(isExpanded ? View.VISIBLE : View.GONE);
+        viewHolder.contentParent.setTag(itemId);
 
         LayoutParams layoutParams = viewHolder.contentParent.getLayoutParams();
         layoutParams.height = LayoutParams.WRAP_CONTENT;
@@ -198,6 +286,44 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         return view;
     }
 
+    /**
+     * Binds the content view for the item at given position to given {@link ViewHolder}, reusing its current content view or a pooled one of the same type.
+     */
+    private void bindContentView(final int position, @NonNull final ViewHolder viewHolder) {
+        int contentViewType = getContentViewType(position);
+        if (viewHolder.contentViewType != contentViewType) {
+            recycleContentView(viewHolder);
+
+            viewHolder.contentView = mContentViewPool.acquire(contentViewType);
+        }
+
+        View convertView = viewHolder.contentView;
+        View contentView = getContentView(position, convertView, viewHolder.contentParent);
+        if (!contentView.equals(convertView) || contentView.getParent() == null) {
+            viewHolder.contentParent.removeAllViews();
+            viewHolder.contentParent.addView(contentView);
+        }
+        viewHolder.contentView = contentView;
+        viewHolder.contentViewType = contentViewType;
+    }
+
+    /**
+     * Detaches the content view of given {@link ViewHolder}, if any, and keeps it in the pool for its type.
+     */
+    private void recycleContentView(@NonNull final ViewHolder viewHolder) {
+        if (viewHolder.contentView == null) {
+            return;
+        }
+
+        viewHolder.contentParent.removeAllViews();
+        if (viewHolder.contentViewType != NO_CONTENT_VIEW_TYPE) {
+            mContentViewPool.release(viewHolder.contentViewType, viewHolder.contentView);
+        }
+
+        viewHolder.contentView = null;
+        viewHolder.contentViewType = NO_CONTENT_VIEW_TYPE;
+    }
+
     /**
      * Get a View that displays the <b>title of the data</b> at the specified
      * position in the data set. You can either create a View manually or
@@ -304,14 +430,108 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
     public void notifyDataSetChanged() {
         super.notifyDataSetChanged();
 
-        Collection<Long> removedIds = new HashSet<>(mExpandedIds);
+        mContentHeightCache.clear();
+
+        if (!mIsReconciled) {
+            reconcileExpandedIds();
+        }
+    }
+
+    /**
+     * Removes the expanded ids that are no longer present in the data set, by scanning all items.
+     * Stops early once all expanded ids have been found.
+     */
+    private void reconcileExpandedIds() {
+        if (mExpandedIds.isEmpty()) {
+            return;
+        }
 
-        for (int i = 0; i < getCount(); ++i) {
+        LongHashSet presentIds = new LongHashSet(mExpandedIds.size());
+        int count = getCount();
+        for (int i = 0; i < count && presentIds.size() < mExpandedIds.size(); i++) {
             long id = getItemId(i);
-            removedIds.remove(id);
+            if (mExpandedIds.contains(id)) {
+                presentIds.add(id);
+            }
+        }
+
+        if (presentIds.size() < mExpandedIds.size()) {
+            mExpandedIds.retainAll(presentIds);
+        }
+    }
+
+    /*
+     * The following methods update the expanded ids for the changed range directly, instead of rescanning all items in notifyDataSetChanged().
+     * This requires stable ids: otherwise ids of unchanged items may change as well.
+     */
+
+    @Override
+    public boolean add(@NonNull final T object) {
+        mIsReconciled = hasStableIds();
+        try {
+            return super.add(object);
+        } finally {
+            mIsReconciled = false;
         }
+    }
+
+    @Override
+    public void add(final int index, @NonNull final T item) {
+        mIsReconciled = hasStableIds();
+        try {
+            super.add(index, item);
+        } finally {
+            mIsReconciled = false;
+        }
+    }
 
-        mExpandedIds.removeAll(removedIds);
+    @Override
+    public boolean addAll(@NonNull final Collection<? extends T> collection) {
+        mIsReconciled = hasStableIds();
+        try {
+            return super.addAll(collection);
+        } finally {
+            mIsReconciled = false;
+        }
+    }
+
+    @Override
+    public void clear() {
+        mExpandedIds.clear();
+        mIsReconciled = true;
+        try {
+            super.clear();
+        } finally {
+            mIsReconciled = false;
+        }
+    }
+
+    @Override
+    public boolean remove(@NonNull final Object object) {
+        int index = getItems().indexOf(object);
+        if (index != -1 && hasStableIds()) {
+            mExpandedIds.remove(getItemId(index));
+            mIsReconciled = true;
+        }
+        try {
+            return super.remove(object);
+        } finally {
+            mIsReconciled = false;
+        }
+    }
+
+    @Override
+    @NonNull
+    public T remove(final int location) {
+        if (hasStableIds()) {
+            mExpandedIds.remove(getItemId(location));
+            mIsReconciled = true;
+        }
+        try {
+            return super.remove(location);
+        } finally {
+            mIsReconciled = false;
+        }
     }
 
     /**
@@ -351,14 +571,14 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         long itemId = getItemId(position);
         boolean isExpanded = mExpandedIds.contains(itemId);
 
-        View contentParent = getContentParent(position);
-        if (contentParent != null) {
-            toggle(contentParent);
+        ViewHolder viewHolder = getViewHolder(position);
+        if (viewHolder != null) {
+            toggle(viewHolder);
         }
 
-        if (contentParent == null && isExpanded) {
+        if (viewHolder == null && isExpanded) {
             mExpandedIds.remove(itemId);
-        } else if (contentParent == null) {
+        } else if (viewHolder == null) {
             mExpandedIds.add(itemId);
         }
     }
@@ -385,17 +605,30 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
      */
     @Nullable
     private View getContentParent(final int position) {
-        View contentParent = null;
+        ViewHolder viewHolder = getViewHolder(position);
+        return viewHolder == null ? null : viewHolder.contentParent;
+    }
+
+    /**
+     * Return the {@link ViewHolder} of the view at the specified position.
+     *
+     * @param position Index of the view we want.
+     *
+     * @return the ViewHolder if the view exists, null otherwise.
+     */
+    @Nullable
+    private ViewHolder getViewHolder(final int position) {
+        ViewHolder viewHolder = null;
 
         View parentView = findViewForPosition(position);
         if (parentView != null) {
             Object tag = parentView.getTag();
             if (tag instanceof ViewHolder) {
-                contentParent = ((ViewHolder) tag).contentParent;
+                viewHolder = (ViewHolder) tag;
             }
         }
 
-        return contentParent;
+        return viewHolder;
     }
 
     @Nullable
@@ -415,7 +648,20 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
     }
 
     private int findPositionForId(final long id) {
-        for (int i = 0; i < getCount(); i++) {
+        /* The item is most likely visible, so try those positions first. */
+        if (mListViewWrapper != null) {
+            int headerViewsCount = mListViewWrapper.getHeaderViewsCount();
+            int first = Math.max(0, mListViewWrapper.getFirstVisiblePosition() - headerViewsCount);
+            int last = Math.min(getCount() - 1, mListViewWrapper.getLastVisiblePosition() - headerViewsCount);
+            for (int i = first; i <= last; i++) {
+                if (getItemId(i) == id) {
+                    return i;
+                }
+            }
+        }
+
+        int count = getCount();
+        for (int i = 0; i < count; i++) {
             if (getItemId(i) == id) {
                 return i;
             }
@@ -423,16 +669,17 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         return -1;
     }
 
-    private void toggle(@NonNull final View contentParent) {
+    private void toggle(@NonNull final ViewHolder viewHolder) {
         if (mListViewWrapper == null) {
             throw new IllegalStateException("No ListView set!");
         }
 
+        View contentParent = viewHolder.contentParent;
 
         boolean isVisible = contentParent.getVisibility() == View.VISIBLE;
         boolean shouldCollapseOther = !isVisible && mLimit > 0 && mExpandedIds.size() >= mLimit;
         if (shouldCollapseOther) {
-            Long firstId = mExpandedIds.get(0);
+            long firstId = mExpandedIds.getOldest();
 
             int firstPosition = findPositionForId(firstId);
             View firstEV = getContentParent(firstPosition);
@@ -446,7 +693,7 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
             }
         }
 
-        Long id = (Long) contentParent.getTag();
+        long id = (Long) contentParent.getTag();
         int position = findPositionForId(id);
         if (isVisible) {
             ExpandCollapseHelper.animateCollapsing(contentParent);
@@ -457,7 +704,10 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
             }
 
         } else {
-            ExpandCollapseHelper.animateExpanding(contentParent, mListViewWrapper);
+            if (mLazyContentInflation && position != -1) {
+                bindContentView(position, viewHolder);
+            }
+            ExpandCollapseHelper.animateExpanding(contentParent, mListViewWrapper, mContentHeightCache, id);
             mExpandedIds.add(id);
 
             if (mExpandCollapseListener != null) {
@@ -473,6 +723,39 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         void onItemCollapsed(int position);
     }
 
+    @Override
+    public void onSaveStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        section.putLongs(SNAPSHOT_KEY_EXPANDED_IDS, mExpandedIds.toArray());
+        section.putLongs(SNAPSHOT_KEY_CONTENT_HEIGHT_IDS, mContentHeightCache.getIds());
+        section.putInts(SNAPSHOT_KEY_CONTENT_WIDTHS, mContentHeightCache.getWidths());
+        section.putInts(SNAPSHOT_KEY_CONTENT_HEIGHTS, mContentHeightCache.getHeights());
+    }
+
+    /**
+     * Restores the expanded ids, in the order they were expanded, and the measured content heights.
+     * Restored items are shown expanded right away, and a measured height is reused when the available width is the same.
+     */
+    @Override
+    public void onRestoreStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        long[] expandedIds = section.getLongs(SNAPSHOT_KEY_EXPANDED_IDS);
+        if (expandedIds != null) {
+            mExpandedIds.clear();
+            for (long id : expandedIds) {
+                mExpandedIds.add(id);
+            }
+        }
+
+        long[] ids = section.getLongs(SNAPSHOT_KEY_CONTENT_HEIGHT_IDS);
+        int[] widths = section.getInts(SNAPSHOT_KEY_CONTENT_WIDTHS);
+        int[] heights = section.getInts(SNAPSHOT_KEY_CONTENT_HEIGHTS);
+        if (ids != null && widths != null && heights != null && ids.length == widths.length && ids.length == heights.length) {
+            mContentHeightCache.clear();
+            for (int i = 0; i < ids.length; i++) {
+                mContentHeightCache.put(ids[i], widths[i], heights[i]);
+            }
+        }
+    }
+
     private static class RootView extends LinearLayout {
 
         private ViewGroup mTitleViewGroup;
@@ -501,6 +784,7 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
         ViewGroup contentParent;
         View titleView;
         View contentView;
+        int contentViewType = NO_CONTENT_VIEW_TYPE;
     }
 
     private static class ExpandCollapseHelper {
@@ -521,33 +805,34 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
             animator.start();
         }
 
-        public static void animateExpanding(@NonNull final View view, @NonNull final ListViewWrapper listViewWrapper) {
+        public static void animateExpanding(@NonNull final View view, @NonNull final ListViewWrapper listViewWrapper, @NonNull final ContentHeightCache contentHeightCache,
+                                            final long id) {
             view.setVisibility(View.VISIBLE);
 
             View parent = (View) view.getParent();
-            final int widthSpec = View.MeasureSpec.makeMeasureSpec(parent.getMeasuredWidth() - parent.getPaddingLeft() - parent.getPaddingRight(), View.MeasureSpec.AT_MOST);
-            final int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-            view.measure(widthSpec, heightSpec);
+            int availableWidth = parent.getMeasuredWidth() - parent.getPaddingLeft() - parent.getPaddingRight();
+            int height = contentHeightCache.get(id, availableWidth);
+            if (height == ContentHeightCache.NO_HEIGHT) {
+                final int widthSpec = View.MeasureSpec.makeMeasureSpec(availableWidth, View.MeasureSpec.AT_MOST);
+                final int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+                view.measure(widthSpec, heightSpec);
+                height = view.getMeasuredHeight();
+                contentHeightCache.put(id, availableWidth, height);
+            }
 
-            ValueAnimator animator = createHeightAnimator(view, 0, view.getMeasuredHeight());
-            animator.addUpdateListener(
-                    new ValueAnimator.AnimatorUpdateListener() {
-                        final int listViewHeight = listViewWrapper.getListView().getHeight();
-                        final int listViewBottomPadding = listViewWrapper.getListView().getPaddingBottom();
-                        final View v = findDirectChild(view, listViewWrapper.getListView());
+            ValueAnimator animator = createHeightAnimator(view, 0, height);
+
+            /* Compute where the expanded row will end up once, and scroll there alongside the height animation. */
+            ViewGroup listView = listViewWrapper.getListView();
+            View directChild = findDirectChild(view, listView);
+            int expandedBottom = directChild.getBottom() + height;
+            int listViewHeight = listView.getHeight();
+            int top = directChild.getTop();
+            if (expandedBottom > listViewHeight && top > 0) {
+                int scrollDistance = Math.min(expandedBottom - listViewHeight + listView.getPaddingBottom(), top);
+                listViewWrapper.smoothScrollBy(scrollDistance, (int) animator.getDuration());
+            }
 
-                        @Override
-                        public void onAnimationUpdate(final ValueAnimator animation) {
-                            final int bottom = v.getBottom();
-                            if (bottom > listViewHeight) {
-                                final int top = v.getTop();
-                                if (top > 0) {
-                                    listViewWrapper.smoothScrollBy(Math.min(bottom - listViewHeight + listViewBottomPadding, top), 0);
-                                }
-                            }
-                        }
-                    }
-            );
             animator.start();
         }
 
@@ -583,15 +868,15 @@ public abstract class ExpandableListItemAdapter<T> extends ArrayAdapter<T> imple
 
     private class TitleViewOnClickListener implements View.OnClickListener {
 
-        private final View mContentParent;
+        private final ViewHolder mViewHolder;
 
-        private TitleViewOnClickListener(final View contentParent) {
-            mContentParent = contentParent;
+        private TitleViewOnClickListener(final ViewHolder viewHolder) {
+            mViewHolder = viewHolder;
         }
 
         @Override
         public void onClick(final View view) {
-            toggle(mContentParent);
+            toggle(mViewHolder);
         }
     }
 }
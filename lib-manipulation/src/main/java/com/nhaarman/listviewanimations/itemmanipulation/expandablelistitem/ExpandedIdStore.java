@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014 Niek Haarman
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.nhaarman.listviewanimations.itemmanipulation.expandablelistitem;
+
+import android.support.annotation.NonNull;
+
+import com.nhaarman.listviewanimations.util.LongHashSet;
+
+/**
+ * Keeps track of the ids of the expanded items in an {@link ExpandableListItemAdapter}.
+ * Lookups go through a {@link LongHashSet}; the order in which ids were expanded is kept in a ring buffer, which is used to find the id to collapse
+ * when the expand limit is reached.
+ */
+class ExpandedIdStore {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The expanded ids, for constant time lookups.
+     */
+    @NonNull
+    private final LongHashSet mIdSet = new LongHashSet();
+
+    /**
+     * The expanded ids in the order they were expanded, starting at {@link #mHead}.
+     */
+    @NonNull
+    private long[] mRing = new long[DEFAULT_CAPACITY];
+
+    /**
+     * The index in {@link #mRing} of the id that was expanded first.
+     */
+    private int mHead;
+
+    boolean contains(final long id) {
+        return mIdSet.contains(id);
+    }
+
+    int size() {
+        return mIdSet.size();
+    }
+
+    boolean isEmpty() {
+        return mIdSet.isEmpty();
+    }
+
+    /**
+     * Adds given id as the most recently expanded id.
+     */
+    void add(final long id) {
+        if (!mIdSet.add(id)) {
+            return;
+        }
+
+        int size = mIdSet.size();
+        if (size > mRing.length) {
+            long[] ring = new long[mRing.length * 2];
+            for (int i = 0; i < size - 1; i++) {
+                ring[i] = mRing[(mHead + i) % mRing.length];
+            }
+            mRing = ring;
+            mHead = 0;
+        }
+        mRing[(mHead + size - 1) % mRing.length] = id;
+    }
+
+    /**
+     * Removes given id.
+     *
+     * @return {@code true} if the id was present.
+     */
+    boolean remove(final long id) {
+        int oldSize = mIdSet.size();
+        if (!mIdSet.remove(id)) {
+            return false;
+        }
+
+        /* Evicting the oldest id only advances the head. Otherwise, close the gap by shifting the younger ids towards the head. */
+        if (mRing[mHead] == id) {
+            mHead = (mHead + 1) % mRing.length;
+            return true;
+        }
+
+        int offset = 1;
+        while (mRing[(mHead + offset) % mRing.length] != id) {
+            offset++;
+        }
+        for (int i = offset; i < oldSize - 1; i++) {
+            mRing[(mHead + i) % mRing.length] = mRing[(mHead + i + 1) % mRing.length];
+        }
+        return true;
+    }
+
+    /**
+     * Returns the id that was expanded the longest ago. Should only be called when this store is not empty.
+     */
+    long getOldest() {
+        if (mIdSet.isEmpty()) {
+            throw new IllegalStateException("No expanded ids!");
+        }
+        return mRing[mHead];
+    }
+
+    /**
+     * Returns the expanded ids, in the order they were expanded.
+     */
+    @NonNull
+    long[] toArray() {
+        int size = mIdSet.size();
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = mRing[(mHead + i) % mRing.length];
+        }
+        return result;
+    }
+
+    void clear() {
+        mIdSet.clear();
+        mHead = 0;
+    }
+
+    /**
+     * Removes all ids that are not present in given set.
+     */
+    void retainAll(@NonNull final LongHashSet ids) {
+        int size = mIdSet.size();
+        int retained = 0;
+        for (int i = 0; i < size; i++) {
+            long id = mRing[(mHead + i) % mRing.length];
+            if (ids.contains(id)) {
+                mRing[(mHead + retained) % mRing.length] = id;
+                retained++;
+            } else {
+                mIdSet.remove(id);
+            }
+        }
+    }
+}
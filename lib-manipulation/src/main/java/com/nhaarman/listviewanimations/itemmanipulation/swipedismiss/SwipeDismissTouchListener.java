@@ -22,9 +22,7 @@ import android.view.ViewGroup;
 
 import com.nhaarman.listviewanimations.util.AdapterViewUtil;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
-import com.nineoldandroids.animation.Animator;
-import com.nineoldandroids.animation.AnimatorListenerAdapter;
-import com.nineoldandroids.animation.ValueAnimator;
+import com.nhaarman.listviewanimations.util.PropertyAnimation;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -148,10 +146,11 @@ public class SwipeDismissTouchListener extends SwipeTouchListener {
         mDismissedViews.add(view);
         mDismissedPositions.add(position);
 
-        ValueAnimator animator = ValueAnimator.ofInt(view.getHeight(), 1).setDuration(mDismissAnimationTime);
-        animator.addUpdateListener(new DismissAnimatorUpdateListener(view));
-        animator.addListener(new DismissAnimatorListener());
-        animator.start();
+        new PropertyAnimation()
+                .animate(view, PropertyAnimation.HEIGHT, view.getHeight(), 1)
+                .setDuration(mDismissAnimationTime)
+                .setEndAction(new DismissEndAction())
+                .start();
 
         mActiveDismissCount++;
     }
@@ -215,29 +214,12 @@ public class SwipeDismissTouchListener extends SwipeTouchListener {
     }
 
     /**
-     * An {@link com.nineoldandroids.animation.ValueAnimator.AnimatorUpdateListener} which applies height animation to given {@link android.view.View}.
+     * A {@link Runnable} which finalizes the dismiss when the height animation has ended.
      */
-    private static class DismissAnimatorUpdateListener implements ValueAnimator.AnimatorUpdateListener {
-
-        @NonNull
-        private final View mView;
-
-        DismissAnimatorUpdateListener(@NonNull final View view) {
-            mView = view;
-        }
+    private class DismissEndAction implements Runnable {
 
         @Override
-        public void onAnimationUpdate(@NonNull final ValueAnimator animation) {
-            ViewGroup.LayoutParams layoutParams = mView.getLayoutParams();
-            layoutParams.height = (Integer) animation.getAnimatedValue();
-            mView.setLayoutParams(layoutParams);
-        }
-    }
-
-    private class DismissAnimatorListener extends AnimatorListenerAdapter {
-
-        @Override
-        public void onAnimationEnd(@NonNull final Animator animation) {
+        public void run() {
             mActiveDismissCount--;
             finalizeDismiss();
         }
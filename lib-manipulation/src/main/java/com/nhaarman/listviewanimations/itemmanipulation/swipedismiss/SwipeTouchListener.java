@@ -28,12 +28,9 @@ import android.widget.AdapterView;
 
 import com.nhaarman.listviewanimations.itemmanipulation.TouchEventHandler;
 import com.nhaarman.listviewanimations.util.AdapterViewUtil;
+import com.nhaarman.listviewanimations.util.AnimationBackend;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
-import com.nineoldandroids.animation.Animator;
-import com.nineoldandroids.animation.AnimatorListenerAdapter;
-import com.nineoldandroids.animation.AnimatorSet;
-import com.nineoldandroids.animation.ObjectAnimator;
-import com.nineoldandroids.view.ViewHelper;
+import com.nhaarman.listviewanimations.util.PropertyAnimation;
 
 /**
  * An {@link android.view.View.OnTouchListener} that makes the list items in a {@link android.widget.AbsListView} swipeable.
@@ -41,16 +38,6 @@ import com.nineoldandroids.view.ViewHelper;
  */
 public abstract class SwipeTouchListener implements View.OnTouchListener, TouchEventHandler {
 
-    /**
-     * TranslationX View property.
-     */
-    private static final String TRANSLATION_X = "translationX";
-
-    /**
-     * Alpha View property.
-     */
-    private static final String ALPHA = "alpha";
-
     private static final int MIN_FLING_VELOCITY_FACTOR = 16;
 
     /**
@@ -449,10 +436,10 @@ public abstract class SwipeTouchListener implements View.OnTouchListener, TouchE
 
         if (mSwiping) {
             if (mCanDismissCurrent) {
-                ViewHelper.setTranslationX(mSwipingView, deltaX);
-                ViewHelper.setAlpha(mSwipingView, Math.max(mMinimumAlpha, Math.min(1, 1 - 2 * Math.abs(deltaX) / mViewWidth)));
+                AnimationBackend.getInstance().setTranslationX(mSwipingView, deltaX);
+                AnimationBackend.getInstance().setAlpha(mSwipingView, Math.max(mMinimumAlpha, Math.min(1, 1 - 2 * Math.abs(deltaX) / mViewWidth)));
             } else {
-                ViewHelper.setTranslationX(mSwipingView, deltaX * 0.1f);
+                AnimationBackend.getInstance().setTranslationX(mSwipingView, deltaX * 0.1f);
             }
             return true;
         }
@@ -541,14 +528,12 @@ public abstract class SwipeTouchListener implements View.OnTouchListener, TouchE
         }
 
         View swipeView = getSwipeView(view);
-        ObjectAnimator xAnimator = ObjectAnimator.ofFloat(swipeView, TRANSLATION_X, flingToRight ? mViewWidth : -mViewWidth);
-        ObjectAnimator alphaAnimator = ObjectAnimator.ofFloat(swipeView, ALPHA, 0);
-
-        AnimatorSet animatorSet = new AnimatorSet();
-        animatorSet.playTogether(xAnimator, alphaAnimator);
-        animatorSet.setDuration(mAnimationTime);
-        animatorSet.addListener(new FlingAnimatorListener(view, position));
-        animatorSet.start();
+        new PropertyAnimation()
+                .animate(swipeView, PropertyAnimation.TRANSLATION_X, flingToRight ? mViewWidth : -mViewWidth)
+                .animate(swipeView, PropertyAnimation.ALPHA, 0)
+                .setDuration(mAnimationTime)
+                .setEndAction(new FlingEndAction(view, position))
+                .start();
     }
 
     /**
@@ -559,14 +544,12 @@ public abstract class SwipeTouchListener implements View.OnTouchListener, TouchE
             return;
         }
 
-        ObjectAnimator xAnimator = ObjectAnimator.ofFloat(mSwipingView, TRANSLATION_X, 0);
-        ObjectAnimator alphaAnimator = ObjectAnimator.ofFloat(mSwipingView, ALPHA, 1);
-
-        AnimatorSet animatorSet = new AnimatorSet();
-        animatorSet.playTogether(xAnimator, alphaAnimator);
-        animatorSet.setDuration(mAnimationTime);
-        animatorSet.addListener(new RestoreAnimatorListener(mCurrentView, mCurrentPosition));
-        animatorSet.start();
+        new PropertyAnimation()
+                .animate(mSwipingView, PropertyAnimation.TRANSLATION_X, 0)
+                .animate(mSwipingView, PropertyAnimation.ALPHA, 1)
+                .setDuration(mAnimationTime)
+                .setEndAction(new RestoreEndAction(mCurrentView, mCurrentPosition))
+                .start();
     }
 
     /**
@@ -651,8 +634,8 @@ public abstract class SwipeTouchListener implements View.OnTouchListener, TouchE
      */
     protected void restoreViewPresentation(@NonNull final View view) {
         View swipedView = getSwipeView(view);
-        ViewHelper.setAlpha(swipedView, 1);
-        ViewHelper.setTranslationX(swipedView, 0);
+        AnimationBackend.getInstance().setAlpha(swipedView, 1);
+        AnimationBackend.getInstance().setTranslationX(swipedView, 0);
     }
 
     /**
@@ -686,44 +669,44 @@ public abstract class SwipeTouchListener implements View.OnTouchListener, TouchE
     }
 
     /**
-     * An {@link com.nineoldandroids.animation.Animator.AnimatorListener} that notifies when the fling animation has ended.
+     * A {@link Runnable} that notifies when the fling animation has ended.
      */
-    private class FlingAnimatorListener extends AnimatorListenerAdapter {
+    private class FlingEndAction implements Runnable {
 
         @NonNull
         private final View mView;
 
         private final int mPosition;
 
-        private FlingAnimatorListener(@NonNull final View view, final int position) {
+        private FlingEndAction(@NonNull final View view, final int position) {
             mView = view;
             mPosition = position;
         }
 
         @Override
-        public void onAnimationEnd(@NonNull final Animator animation) {
+        public void run() {
             mActiveSwipeCount--;
             afterViewFling(mView, mPosition);
         }
     }
 
     /**
-     * An {@link com.nineoldandroids.animation.Animator.AnimatorListener} that performs the dismissal animation when the current animation has ended.
+     * A {@link Runnable} that notifies when the restore animation has ended.
      */
-    private class RestoreAnimatorListener extends AnimatorListenerAdapter {
+    private class RestoreEndAction implements Runnable {
 
         @NonNull
         private final View mView;
 
         private final int mPosition;
 
-        private RestoreAnimatorListener(@NonNull final View view, final int position) {
+        private RestoreEndAction(@NonNull final View view, final int position) {
             mView = view;
             mPosition = position;
         }
 
         @Override
-        public void onAnimationEnd(@NonNull final Animator animation) {
+        public void run() {
             mActiveSwipeCount--;
             afterCancelSwipe(mView, mPosition);
         }
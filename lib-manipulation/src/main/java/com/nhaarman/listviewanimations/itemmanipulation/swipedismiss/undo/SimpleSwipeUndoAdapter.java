@@ -102,6 +102,10 @@ public class SimpleSwipeUndoAdapter extends SwipeUndoAdapter implements UndoCall
         primaryView.setVisibility(isInUndoState ? View.GONE : View.VISIBLE);
         undoView.setVisibility(isInUndoState ? View.VISIBLE : View.GONE);
 
+        if (isInUndoState) {
+            onUndoViewBound(position, view);
+        }
+
         return view;
     }
 
@@ -125,6 +129,14 @@ public class SimpleSwipeUndoAdapter extends SwipeUndoAdapter implements UndoCall
         return undoView;
     }
 
+    @Override
+    protected void onUndoPositionsRestored(@NonNull final int[] undoPositions) {
+        mUndoPositions.clear();
+        for (int position : undoPositions) {
+            mUndoPositions.add(position);
+        }
+    }
+
     @Override
     public void onUndoShown(@NonNull final View view, final int position) {
         mUndoPositions.add(position);
@@ -22,6 +22,8 @@ import android.view.ViewGroup;
 import android.widget.BaseAdapter;
 
 import com.nhaarman.listviewanimations.BaseAdapterDecorator;
+import com.nhaarman.listviewanimations.StateSnapshot;
+import com.nhaarman.listviewanimations.StateSnapshotParticipant;
 import com.nhaarman.listviewanimations.itemmanipulation.DynamicListView;
 import com.nhaarman.listviewanimations.itemmanipulation.swipedismiss.DismissableManager;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
@@ -29,7 +31,12 @@ import com.nhaarman.listviewanimations.util.ListViewWrapper;
 /**
  * Adds swipe-undo behaviour to the {@link android.widget.AbsListView}, using a {@link SwipeUndoTouchListener}.
  */
-public abstract class SwipeUndoAdapter extends BaseAdapterDecorator {
+public abstract class SwipeUndoAdapter extends BaseAdapterDecorator implements StateSnapshotParticipant {
+
+    /**
+     * State snapshot key for the positions in the undo state.
+     */
+    private static final int SNAPSHOT_KEY_UNDO_POSITIONS = 0;
 
     /**
      * The {@link SwipeUndoTouchListener} that is set to the {@link android.widget.AbsListView}.
@@ -118,4 +125,47 @@ public abstract class SwipeUndoAdapter extends BaseAdapterDecorator {
     public void dismiss(final int position) {
         mSwipeUndoTouchListener.dismiss(position);
     }
+
+    @Override
+    public void onSaveStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        if (mSwipeUndoTouchListener != null) {
+            section.putInts(SNAPSHOT_KEY_UNDO_POSITIONS, mSwipeUndoTouchListener.getUndoPositions());
+        }
+    }
+
+    /**
+     * Restores the positions in the undo state, without notifying the {@link UndoCallback}.
+     * Subclasses should call {@link #onUndoViewBound(int, android.view.View)} when they bind a {@code View} in the undo state.
+     */
+    @Override
+    public void onRestoreStateSnapshot(@NonNull final StateSnapshot.Section section) {
+        if (mSwipeUndoTouchListener == null) {
+            throw new IllegalStateException("You must call setAbsListView() first.");
+        }
+
+        int[] undoPositions = section.getInts(SNAPSHOT_KEY_UNDO_POSITIONS);
+        if (undoPositions != null) {
+            mSwipeUndoTouchListener.restoreUndoPositions(undoPositions);
+            onUndoPositionsRestored(undoPositions);
+        }
+    }
+
+    /**
+     * Called when the positions in the undo state are restored from a {@link com.nhaarman.listviewanimations.StateSnapshot}.
+     * Subclasses which keep track of the undo state themselves should override this method.
+     *
+     * @param undoPositions the positions in the undo state.
+     */
+    protected void onUndoPositionsRestored(@NonNull final int[] undoPositions) {
+    }
+
+    /**
+     * Notifies the {@link SwipeUndoTouchListener} that given {@link android.view.View} is bound to given position.
+     * Needed for positions restored from a {@link com.nhaarman.listviewanimations.StateSnapshot}, which have no {@code View} until they are laid out.
+     */
+    protected void onUndoViewBound(final int position, @NonNull final View view) {
+        if (mSwipeUndoTouchListener != null) {
+            mSwipeUndoTouchListener.onUndoViewBound(position, view);
+        }
+    }
 }
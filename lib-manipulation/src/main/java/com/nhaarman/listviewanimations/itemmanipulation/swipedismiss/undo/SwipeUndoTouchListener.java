@@ -22,10 +22,7 @@ import android.view.ViewGroup;
 import com.nhaarman.listviewanimations.itemmanipulation.swipedismiss.SwipeDismissTouchListener;
 import com.nhaarman.listviewanimations.util.AdapterViewUtil;
 import com.nhaarman.listviewanimations.util.ListViewWrapper;
-import com.nineoldandroids.animation.Animator;
-import com.nineoldandroids.animation.AnimatorListenerAdapter;
-import com.nineoldandroids.animation.AnimatorSet;
-import com.nineoldandroids.animation.ObjectAnimator;
+import com.nhaarman.listviewanimations.util.PropertyAnimation;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -38,10 +35,6 @@ import java.util.Map;
  */
 public class SwipeUndoTouchListener extends SwipeDismissTouchListener {
 
-    private static final String ALPHA = "alpha";
-
-    private static final String TRANSLATION_X = "translationX";
-
     /**
      * The callback which gets notified of events.
      */
@@ -124,10 +117,58 @@ public class SwipeUndoTouchListener extends SwipeDismissTouchListener {
 
     /**
      * Dismisses all items that are in the undo state.
+     * Items of which the {@link android.view.View} is laid out are animated out. Restored items that have not been laid out since are dismissed directly.
      */
     public void dimissPending() {
+        boolean hasDirectDismisses = false;
         for (int position : mUndoPositions) {
-            performDismiss(mUndoViews.get(position), position);
+            View view = mUndoViews.get(position);
+            if (view != null) {
+                performDismiss(view, position);
+            } else {
+                mDismissedPositions.add(position);
+                hasDirectDismisses = true;
+            }
+        }
+
+        /* Finalized once after the loop, since finalizing removes positions from mUndoPositions and shifts the remaining ones. */
+        if (hasDirectDismisses) {
+            finalizeDismiss();
+        }
+    }
+
+    /**
+     * Returns the positions that are in the undo state.
+     */
+    @NonNull
+    int[] getUndoPositions() {
+        int[] result = new int[mUndoPositions.size()];
+        int i = 0;
+        for (int position : mUndoPositions) {
+            result[i] = position;
+            i++;
+        }
+        return result;
+    }
+
+    /**
+     * Puts given positions in the undo state, without notifying the {@link UndoCallback}.
+     * The corresponding {@link android.view.View}s are registered through {@link #onUndoViewBound(int, android.view.View)} once they are laid out.
+     */
+    void restoreUndoPositions(@NonNull final int[] positions) {
+        mUndoPositions.clear();
+        mUndoViews.clear();
+        for (int position : positions) {
+            mUndoPositions.add(position);
+        }
+    }
+
+    /**
+     * Registers given {@link android.view.View} as the undo state {@code View} for given position, if that position is in the undo state.
+     */
+    void onUndoViewBound(final int position, @NonNull final View view) {
+        if (mUndoPositions.contains(position)) {
+            mUndoViews.put(position, view);
         }
     }
 
@@ -141,7 +182,7 @@ public class SwipeUndoTouchListener extends SwipeDismissTouchListener {
 
         View undoView = mCallback.getUndoView(view);
         undoView.setVisibility(View.VISIBLE);
-        ObjectAnimator.ofFloat(undoView, ALPHA, 0f, 1f).start();
+        new PropertyAnimation().animate(undoView, PropertyAnimation.ALPHA, 0f, 1f).start();
     }
 
     /**
@@ -200,14 +241,12 @@ public class SwipeUndoTouchListener extends SwipeDismissTouchListener {
 
         primaryView.setVisibility(View.VISIBLE);
 
-        ObjectAnimator undoAlphaAnimator = ObjectAnimator.ofFloat(undoView, ALPHA, 1f, 0f);
-        ObjectAnimator primaryAlphaAnimator = ObjectAnimator.ofFloat(primaryView, ALPHA, 0f, 1f);
-        ObjectAnimator primaryXAnimator = ObjectAnimator.ofFloat(primaryView, TRANSLATION_X, primaryView.getWidth(), 0f);
-
-        AnimatorSet animatorSet = new AnimatorSet();
-        animatorSet.playTogether(undoAlphaAnimator, primaryAlphaAnimator, primaryXAnimator);
-        animatorSet.addListener(new UndoAnimatorListener(undoView));
-        animatorSet.start();
+        new PropertyAnimation()
+                .animate(undoView, PropertyAnimation.ALPHA, 1f, 0f)
+                .animate(primaryView, PropertyAnimation.ALPHA, 0f, 1f)
+                .animate(primaryView, PropertyAnimation.TRANSLATION_X, primaryView.getWidth(), 0f)
+                .setEndAction(new UndoEndAction(undoView))
+                .start();
 
         mCallback.onUndo(view, position);
     }
@@ -219,19 +258,19 @@ public class SwipeUndoTouchListener extends SwipeDismissTouchListener {
     }
 
     /**
-     * An {@link com.nineoldandroids.animation.Animator.AnimatorListener} which finalizes the undo when the animation is finished.
+     * A {@link Runnable} which finalizes the undo when the animation is finished.
      */
-    private class UndoAnimatorListener extends AnimatorListenerAdapter {
+    private class UndoEndAction implements Runnable {
 
         @NonNull
         private final View mUndoView;
 
-        UndoAnimatorListener(@NonNull final View undoView) {
+        UndoEndAction(@NonNull final View undoView) {
             mUndoView = undoView;
         }
 
         @Override
-        public void onAnimationEnd(@NonNull final Animator animation) {
+        public void run() {
             mUndoView.setVisibility(View.GONE);
             finalizeDismiss();
         }
@@ -84,6 +84,25 @@ public class TimedUndoAdapter extends SimpleSwipeUndoAdapter {
         mHandler.postDelayed(timeoutRunnable, mTimeoutMs);
     }
 
+    /**
+     * Restores the positions in the undo state, and starts a new timeout for each of them.
+     */
+    @Override
+    protected void onUndoPositionsRestored(@NonNull final int[] undoPositions) {
+        super.onUndoPositionsRestored(undoPositions);
+
+        for (Runnable timeoutRunnable : mRunnables.values()) {
+            mHandler.removeCallbacks(timeoutRunnable);
+        }
+        mRunnables.clear();
+
+        for (int position : undoPositions) {
+            TimeoutRunnable timeoutRunnable = new TimeoutRunnable(position);
+            mRunnables.put(position, timeoutRunnable);
+            mHandler.postDelayed(timeoutRunnable, mTimeoutMs);
+        }
+    }
+
     @Override
     public void onUndo(@NonNull final View view, final int position) {
         super.onUndo(view, position);